@@ -0,0 +1,147 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph;
+
+import java.util.Arrays;
+
+/**
+ * A <code>LeapfrogIntersectionIterator</code> lazily returns, in order, the ordinals which are contained in every one of a number of
+ * {@link SeekableOrdinalIterator}s.<p>
+ * 
+ * The iterators take turns advancing to the largest ordinal any of them currently holds.  An iterator over a small set therefore
+ * moves the others in large jumps, and the cost of the intersection is driven by the smallest input rather than the largest.<p>
+ * 
+ * The supplied iterators are consumed by this iterator, and should not be used elsewhere.
+ * 
+ * @see OrdinalSets#intersectAll(OrdinalSet...)
+ */
+public class LeapfrogIntersectionIterator implements SeekableOrdinalIterator {
+
+    private final SeekableOrdinalIterator iterators[];
+    private final int currentOrdinals[];
+    private int position;
+    private int currentOrdinal;
+    private boolean initialized;
+
+    public LeapfrogIntersectionIterator(SeekableOrdinalIterator... iterators) {
+        this.iterators = iterators.clone();
+        this.currentOrdinals = new int[iterators.length];
+    }
+
+    @Override
+    public int nextOrdinal() {
+        if(!initialized)
+            return initialize(Integer.MIN_VALUE);
+        if(currentOrdinal == NO_MORE_ORDINALS)
+            return NO_MORE_ORDINALS;
+
+        currentOrdinals[position] = iterators[position].nextOrdinal();
+        return search();
+    }
+
+    @Override
+    public int advance(int target) {
+        if(!initialized)
+            return initialize(target);
+        if(currentOrdinal == NO_MORE_ORDINALS)
+            return NO_MORE_ORDINALS;
+        if(target <= currentOrdinal)
+            return nextOrdinal();
+
+        currentOrdinals[position] = iterators[position].advance(target);
+        return search();
+    }
+
+    @Override
+    public void reset() {
+        for(SeekableOrdinalIterator iter : iterators)
+            iter.reset();
+        initialized = false;
+    }
+
+    @Override
+    public SeekableOrdinalIterator copy() {
+        SeekableOrdinalIterator copies[] = new SeekableOrdinalIterator[iterators.length];
+        for(int i=0;i<iterators.length;i++)
+            copies[i] = iterators[i].copy();
+        return new LeapfrogIntersectionIterator(copies);
+    }
+
+    private int initialize(int target) {
+        initialized = true;
+
+        if(iterators.length == 0)
+            return currentOrdinal = NO_MORE_ORDINALS;
+
+        for(int i=0;i<iterators.length;i++) {
+            currentOrdinals[i] = iterators[i].advance(target);
+            if(currentOrdinals[i] == NO_MORE_ORDINALS)
+                return currentOrdinal = NO_MORE_ORDINALS;
+        }
+
+        sortByCurrentOrdinal();
+        position = 0;
+        return search();
+    }
+
+    /// Each iterator in turn is advanced to the largest current ordinal, which is always held by the
+    /// iterator immediately preceding it.  Once the iterator being advanced lands on that ordinal,
+    /// every iterator agrees and the ordinal is in the intersection.
+    private int search() {
+        int k = iterators.length;
+        int maxOrdinal = currentOrdinals[position == 0 ? k - 1 : position - 1];
+
+        while(true) {
+            int ordinal = currentOrdinals[position];
+
+            if(ordinal == NO_MORE_ORDINALS)
+                return currentOrdinal = NO_MORE_ORDINALS;
+
+            if(ordinal == maxOrdinal)
+                return currentOrdinal = ordinal;
+
+            if(ordinal < maxOrdinal) {
+                ordinal = iterators[position].advance(maxOrdinal);
+                currentOrdinals[position] = ordinal;
+                if(ordinal == NO_MORE_ORDINALS)
+                    return currentOrdinal = NO_MORE_ORDINALS;
+            }
+
+            maxOrdinal = ordinal;
+            position = position + 1 == k ? 0 : position + 1;
+        }
+    }
+
+    private void sortByCurrentOrdinal() {
+        long keys[] = new long[iterators.length];
+        for(int i=0;i<keys.length;i++)
+            keys[i] = ((long)currentOrdinals[i] << 32) | i;
+
+        Arrays.sort(keys);
+
+        SeekableOrdinalIterator sorted[] = new SeekableOrdinalIterator[iterators.length];
+        for(int i=0;i<keys.length;i++) {
+            int idx = (int)keys[i];
+            sorted[i] = iterators[idx];
+            currentOrdinals[i] = (int)(keys[i] >> 32);
+        }
+
+        System.arraycopy(sorted, 0, iterators, 0, sorted.length);
+    }
+
+}
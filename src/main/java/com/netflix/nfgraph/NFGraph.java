@@ -19,8 +19,12 @@ package com.netflix.nfgraph;
 
 import com.netflix.nfgraph.build.NFBuildGraph;
 import com.netflix.nfgraph.compressed.NFCompressedGraph;
+import com.netflix.nfgraph.exception.NFGraphException;
 import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
 import com.netflix.nfgraph.util.OrdinalMap;
+import com.netflix.nfgraph.util.SortedArrayOrdinalSet;
 
 /**
  * <code>NFGraph</code> represents a directed graph and is the base class for the two flavors of NetflixGraph 
@@ -155,10 +159,242 @@ public abstract class NFGraph {
         return getConnectionSet(connectionModelIndex, nodeType, ordinal, propertyName);
     }
     
+    /**
+     * Retrieve the number of connected ordinals, given the type and ordinal of the originating node, and the property by which this node is connected.<p>
+     * 
+     * For a property specified with {@link NFPropertySpec#COUNTED}, an {@link NFCompressedGraph} answers this without decoding the connections.
+     * 
+     * @return the number of connected ordinals
+     */
+    public int getConnectionCount(String nodeType, int ordinal, String propertyName) {
+        return getConnectionCount(0, nodeType, ordinal, propertyName);
+    }
+
+    /**
+     * Retrieve the number of connected ordinals in a given connection model, given the type and ordinal of the originating node, and the property by which this node is connected.
+     * 
+     * @return the number of connected ordinals
+     */
+    public int getConnectionCount(String connectionModel, String nodeType, int ordinal, String propertyName) {
+        int connectionModelIndex = modelHolder.getModelIndex(connectionModel);
+        return getConnectionCount(connectionModelIndex, nodeType, ordinal, propertyName);
+    }
+
+    /**
+     * Retrieve an {@link OrdinalSet} over the ordinals of all nodes of the given type which are connected to the given node by the given property.
+     * The given ordinal identifies a node of the type to which the property connects.<p>
+     * 
+     * The property must be specified with {@link NFPropertySpec#INDEXED_INVERSE}.
+     * 
+     * @return an {@link OrdinalSet} over the ordinals of all nodes of type <code>nodeType</code> which connect to the given ordinal via <code>propertyName</code>
+     */
+    public OrdinalSet getIncomingConnectionSet(String nodeType, int ordinal, String propertyName) {
+        return getIncomingConnectionSet(0, nodeType, ordinal, propertyName);
+    }
+
+    /**
+     * Retrieve an {@link OrdinalSet} over the ordinals of all nodes of the given type which are connected to the given node by the given property,
+     * in a given connection model.  The given ordinal identifies a node of the type to which the property connects.<p>
+     * 
+     * The property must be specified with {@link NFPropertySpec#INDEXED_INVERSE}.
+     * 
+     * @return an {@link OrdinalSet} over the ordinals of all nodes of type <code>nodeType</code> which connect to the given ordinal via <code>propertyName</code>
+     */
+    public OrdinalSet getIncomingConnectionSet(String connectionModel, String nodeType, int ordinal, String propertyName) {
+        int connectionModelIndex = modelHolder.getModelIndex(connectionModel);
+        return getIncomingConnectionSet(connectionModelIndex, nodeType, ordinal, propertyName);
+    }
+
+    /**
+     * @return the number of ordinals for the given node type.  Every node of this type has an ordinal less than this number.
+     */
+    public int getNumNodes(String nodeType) {
+        throw new NFGraphException("The number of nodes is not available from " + getClass().getName());
+    }
+
+    /**
+     * Resolve the given node type and property into an {@link NFPropertyHandle}, which may be used to retrieve connections
+     * without looking up the node type and property on each call.
+     * 
+     * @return an {@link NFPropertyHandle} for the given node type and property
+     */
+    public NFPropertyHandle getPropertyHandle(String nodeType, String propertyName) {
+        return getPropertyHandle(0, nodeType, propertyName);
+    }
+
+    /**
+     * Resolve the given connection model, node type and property into an {@link NFPropertyHandle}, which may be used to retrieve 
+     * connections without looking up the connection model, node type and property on each call.
+     * 
+     * @return an {@link NFPropertyHandle} for the given connection model, node type and property
+     */
+    public NFPropertyHandle getPropertyHandle(String connectionModel, String nodeType, String propertyName) {
+        int connectionModelIndex = modelHolder.getModelIndex(connectionModel);
+        return getPropertyHandle(connectionModelIndex, nodeType, propertyName);
+    }
+
+    /**
+     * Retrieve a single connected ordinal, given a resolved property and the ordinal of the originating node.
+     * 
+     * @return the connected ordinal, or -1 if there is no such ordinal
+     */
+    public int getConnection(NFPropertyHandle property, int ordinal) {
+        return getConnection(property.getConnectionModelIndex(), property.getNodeType(), ordinal, property.getPropertySpec().getName());
+    }
+
+    /**
+     * Retrieve an {@link OrdinalIterator} over all connected ordinals, given a resolved property and the ordinal of the originating node.
+     * 
+     * @return an {@link OrdinalIterator} over all connected ordinals
+     */
+    public OrdinalIterator getConnectionIterator(NFPropertyHandle property, int ordinal) {
+        return getConnectionIterator(property.getConnectionModelIndex(), property.getNodeType(), ordinal, property.getPropertySpec().getName());
+    }
+
+    /**
+     * Retrieve an {@link OrdinalSet} over all connected ordinals, given a resolved property and the ordinal of the originating node.
+     * 
+     * @return an {@link OrdinalSet} over all connected ordinals
+     */
+    public OrdinalSet getConnectionSet(NFPropertyHandle property, int ordinal) {
+        return getConnectionSet(property.getConnectionModelIndex(), property.getNodeType(), ordinal, property.getPropertySpec().getName());
+    }
+
+    /**
+     * Retrieve the number of connected ordinals, given a resolved property and the ordinal of the originating node.
+     * 
+     * @return the number of connected ordinals
+     */
+    public int getConnectionCount(NFPropertyHandle property, int ordinal) {
+        return getConnectionSet(property, ordinal).size();
+    }
+
+    /**
+     * Retrieve the connections for many nodes of the same type at once, in the compressed sparse row format.<p>
+     * 
+     * After this call, the connections for <code>ordinals[i]</code> are held in <code>outOrdinals</code> from index <code>outOffsets[i]</code>
+     * (inclusive) to index <code>outOffsets[i+1]</code> (exclusive).  <code>outOffsets</code> must therefore have a length of at least 
+     * <code>ordinals.length + 1</code>.<p>
+     * 
+     * If <code>outOrdinals</code> is too small to hold all of the connections, it is filled as far as possible and the returned count 
+     * will exceed its length.  The offsets are always populated, so the caller may grow <code>outOrdinals</code> to the returned size and retry.
+     * 
+     * @return the total number of connections for all of the specified nodes.
+     */
+    public int getConnections(String nodeType, int ordinals[], String propertyName, int outOffsets[], int outOrdinals[]) {
+        return getConnections(getPropertyHandle(0, nodeType, propertyName), ordinals, outOffsets, outOrdinals);
+    }
+
+    /**
+     * Retrieve the connections for many nodes of the same type at once, in the compressed sparse row format, for the given connection model.
+     * 
+     * @see #getConnections(String, int[], String, int[], int[])
+     * 
+     * @return the total number of connections for all of the specified nodes.
+     */
+    public int getConnections(String connectionModel, String nodeType, int ordinals[], String propertyName, int outOffsets[], int outOrdinals[]) {
+        int connectionModelIndex = modelHolder.getModelIndex(connectionModel);
+        return getConnections(getPropertyHandle(connectionModelIndex, nodeType, propertyName), ordinals, outOffsets, outOrdinals);
+    }
+
+    /**
+     * Retrieve the connections for many nodes of the same type at once, in the compressed sparse row format, given a resolved property.
+     * 
+     * @see #getConnections(String, int[], String, int[], int[])
+     * 
+     * @return the total number of connections for all of the specified nodes.
+     */
+    public int getConnections(NFPropertyHandle property, int ordinals[], int outOffsets[], int outOrdinals[]) {
+        checkOffsetsLength(ordinals, outOffsets);
+
+        int numConnections = 0;
+
+        for(int i=0;i<ordinals.length;i++) {
+            outOffsets[i] = numConnections;
+
+            OrdinalIterator iter = getConnectionIterator(property, ordinals[i]);
+            int connection = iter.nextOrdinal();
+
+            while(connection != OrdinalIterator.NO_MORE_ORDINALS) {
+                if(numConnections < outOrdinals.length)
+                    outOrdinals[numConnections] = connection;
+                numConnections++;
+                connection = iter.nextOrdinal();
+            }
+        }
+
+        outOffsets[ordinals.length] = numConnections;
+        return numConnections;
+    }
+
+    protected void checkOffsetsLength(int ordinals[], int outOffsets[]) {
+        if(outOffsets.length <= ordinals.length)
+            throw new NFGraphException("The offsets array must have a length of at least " + (ordinals.length + 1));
+    }
+
+    protected NFPropertyHandle getPropertyHandle(int connectionModelIndex, String nodeType, String propertyName) {
+        NFNodeSpec nodeSpec = graphSpec.getNodeSpec(nodeType);
+        NFPropertySpec propertySpecs[] = nodeSpec.getPropertySpecs();
+
+        for(int i=0;i<propertySpecs.length;i++) {
+            if(propertySpecs[i].getName().equals(propertyName))
+                return createPropertyHandle(nodeSpec, i, connectionModelIndex);
+        }
+
+        throw new NFGraphException("Property " + propertyName + " is undefined for node type " + nodeType);
+    }
+
+    /**
+     * @return the {@link NFPropertySpec} for the given node type and property, which must be specified with {@link NFPropertySpec#INDEXED_INVERSE}.
+     */
+    protected NFPropertySpec getIndexedInversePropertySpec(String nodeType, String propertyName) {
+        for(NFPropertySpec propertySpec : graphSpec.getNodeSpec(nodeType).getPropertySpecs()) {
+            if(propertySpec.getName().equals(propertyName)) {
+                if(!propertySpec.isIndexedInverse())
+                    throw new NFGraphException("Property " + propertyName + " for node type " + nodeType + " is not indexed inverse");
+                return propertySpec;
+            }
+        }
+
+        throw new NFGraphException("Property " + propertyName + " is undefined for node type " + nodeType);
+    }
+
+    /**
+     * Subclasses may override this method to resolve additional implementation-specific state into each {@link NFPropertyHandle}.
+     */
+    protected NFPropertyHandle createPropertyHandle(NFNodeSpec nodeSpec, int propertyPosition, int connectionModelIndex) {
+        return new NFPropertyHandle(nodeSpec, propertyPosition, connectionModelIndex);
+    }
+
     protected abstract int getConnection(int connectionModelIndex, String nodeType, int ordinal, String propertyName);
 
     protected abstract OrdinalSet getConnectionSet(int connectionModelIndex, String nodeType, int ordinal, String propertyName);
 
     protected abstract OrdinalIterator getConnectionIterator(int connectionModelIndex, String nodeType, int ordinal, String propertyName);
 
+    protected int getConnectionCount(int connectionModelIndex, String nodeType, int ordinal, String propertyName) {
+        return getConnectionSet(connectionModelIndex, nodeType, ordinal, propertyName).size();
+    }
+
+    /**
+     * Subclasses which hold a reverse index should override this method.  By default, every node of the given type is examined.
+     */
+    protected OrdinalSet getIncomingConnectionSet(int connectionModelIndex, String nodeType, int ordinal, String propertyName) {
+        getIndexedInversePropertySpec(nodeType, propertyName);
+
+        int numNodes = getNumNodes(nodeType);
+        int incomingOrdinals[] = new int[numNodes];
+        int numIncomingOrdinals = 0;
+
+        for(int i=0;i<numNodes;i++) {
+            if(getConnectionSet(connectionModelIndex, nodeType, i, propertyName).contains(ordinal))
+                incomingOrdinals[numIncomingOrdinals++] = i;
+        }
+
+        if(numIncomingOrdinals == 0)
+            return OrdinalSet.EMPTY_SET;
+
+        return new SortedArrayOrdinalSet(incomingOrdinals, numIncomingOrdinals);
+    }
+
 }
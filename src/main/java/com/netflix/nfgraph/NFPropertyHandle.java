@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph;
+
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+
+/**
+ * A <code>NFPropertyHandle</code> identifies a node type, property, and connection model which have been resolved
+ * against an {@link NFGraph} ahead of time.<p>
+ *
+ * Each of the <code>String</code> based retrieval methods in {@link NFGraph} must look up the node type, property, and connection
+ * model on every call.  When the same property is queried many times, it is more efficient to obtain a handle once:<p>
+ *
+ * <pre>
+ * {@code
+ * NFPropertyHandle actors = graph.getPropertyHandle("US", "Movie", "actors");
+ *
+ * for( ... each movie ordinal ... ) {
+ *     OrdinalIterator iter = graph.getConnectionIterator(actors, movieOrdinal);
+ *     ...
+ * }
+ * }
+ * </pre>
+ *
+ * A handle may only be used with the {@link NFGraph} from which it was obtained.
+ *
+ * @see NFGraph#getPropertyHandle(String, String)
+ * @see NFGraph#getPropertyHandle(String, String, String)
+ */
+public class NFPropertyHandle {
+
+    private final NFNodeSpec nodeSpec;
+    private final NFPropertySpec propertySpec;
+    private final int propertyPosition;
+    private final int connectionModelIndex;
+
+    protected NFPropertyHandle(NFNodeSpec nodeSpec, int propertyPosition, int connectionModelIndex) {
+        this.nodeSpec = nodeSpec;
+        this.propertySpec = nodeSpec.getPropertySpecs()[propertyPosition];
+        this.propertyPosition = propertyPosition;
+        this.connectionModelIndex = connectionModelIndex;
+    }
+
+    public String getNodeType() {
+        return nodeSpec.getNodeTypeName();
+    }
+
+    public NFNodeSpec getNodeSpec() {
+        return nodeSpec;
+    }
+
+    public NFPropertySpec getPropertySpec() {
+        return propertySpec;
+    }
+
+    /**
+     * @return the position of this handle's property in the {@link NFNodeSpec}'s property specs.
+     */
+    public int getPropertyPosition() {
+        return propertyPosition;
+    }
+
+    public int getConnectionModelIndex() {
+        return connectionModelIndex;
+    }
+
+}
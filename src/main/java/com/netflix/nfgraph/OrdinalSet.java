@@ -20,6 +20,8 @@ package com.netflix.nfgraph;
 import static com.netflix.nfgraph.OrdinalIterator.EMPTY_ITERATOR;
 import static com.netflix.nfgraph.OrdinalIterator.NO_MORE_ORDINALS;
 
+import java.util.function.IntConsumer;
+
 import com.netflix.nfgraph.build.NFBuildGraphOrdinalSet;
 import com.netflix.nfgraph.compressed.BitSetOrdinalSet;
 import com.netflix.nfgraph.compressed.CompactOrdinalSet;
@@ -78,6 +80,19 @@ public abstract class OrdinalSet {
 	    return arr;
 	}
 	
+	/**
+	 * Performs the given action for each element in the set.
+	 */
+	public void forEach(IntConsumer action) {
+	    OrdinalIterator iter = iterator();
+
+	    int ordinal = iter.nextOrdinal();
+	    while(ordinal != NO_MORE_ORDINALS) {
+	        action.accept(ordinal);
+	        ordinal = iter.nextOrdinal();
+	    }
+	}
+	
 	/**
 	 * @return an {@link OrdinalIterator} over this set.
 	 */
@@ -88,6 +103,14 @@ public abstract class OrdinalSet {
 	 */
 	public abstract int size();
 
+	/**
+	 * @return an estimate of the number of ordinals in this set, for use when planning operations over sets.  For some encodings, this is 
+	 * much cheaper to obtain than {@link #size()}.  By default, this is the exact size.
+	 */
+	public int estimatedSize() {
+	    return size();
+	}
+
 	private static final int EMPTY_ORDINAL_ARRAY[] = new int[0];
 
 	/**
@@ -0,0 +1,344 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph;
+
+import static com.netflix.nfgraph.OrdinalIterator.NO_MORE_ORDINALS;
+import static com.netflix.nfgraph.OrdinalSet.EMPTY_SET;
+
+import java.util.Arrays;
+
+import com.netflix.nfgraph.compressed.BitSetOrdinalSet;
+import com.netflix.nfgraph.compressed.CompactOrdinalSet;
+import com.netflix.nfgraph.compressed.EliasFanoOrdinalSet;
+import com.netflix.nfgraph.compressed.FixedWidthHashSetOrdinalSet;
+import com.netflix.nfgraph.compressed.HashSetOrdinalSet;
+import com.netflix.nfgraph.compressed.PartitionedOrdinalSet;
+import com.netflix.nfgraph.compressed.RangeBitSetOrdinalSet;
+import com.netflix.nfgraph.compressed.SingleOrdinalSet;
+import com.netflix.nfgraph.compressed.SkipCompactOrdinalSet;
+import com.netflix.nfgraph.util.ByteArrayReader;
+import com.netflix.nfgraph.util.SimpleByteArray;
+import com.netflix.nfgraph.util.SortedArrayOrdinalSet;
+
+/**
+ * Set algebra over {@link OrdinalSet}s.<p>
+ *
+ * Each operation chooses a strategy based on the representations of its operands:<p>
+ *
+ * <ul>
+ * <li>Two {@link BitSetOrdinalSet}s are combined a 64-bit word at a time, and produce a {@link BitSetOrdinalSet}.</li>
+ * <li>When one operand supports fast membership tests (a {@link HashSetOrdinalSet}, {@link FixedWidthHashSetOrdinalSet}, {@link BitSetOrdinalSet}, {@link SingleOrdinalSet},
+ *     {@link SortedArrayOrdinalSet}, {@link SkipCompactOrdinalSet}, {@link PartitionedOrdinalSet}, 
+ *     {@link EliasFanoOrdinalSet}, or {@link RangeBitSetOrdinalSet}), the other operand is iterated and each of its ordinals is probed.</li>
+ * <li>Otherwise, for example for two {@link CompactOrdinalSet}s, the ordered iterators of both operands are merged.</li>
+ * </ul>
+ *
+ * Results which are not bit sets are materialized as a {@link SortedArrayOrdinalSet}.  The operands are never modified.
+ */
+public class OrdinalSets {
+
+    private OrdinalSets() { }
+
+    /**
+     * @return an {@link OrdinalSet} containing the ordinals which are contained in both <code>a</code> and <code>b</code>.
+     */
+    public static OrdinalSet intersect(OrdinalSet a, OrdinalSet b) {
+        if(a instanceof BitSetOrdinalSet && b instanceof BitSetOrdinalSet)
+            return combineBitSets((BitSetOrdinalSet)a, (BitSetOrdinalSet)b, AND);
+
+        if(hasFastContains(b) && (!hasFastContains(a) || a.size() <= b.size()))
+            return probe(a, b, true);
+        if(hasFastContains(a))
+            return probe(b, a, true);
+
+        return merge(a, b, false, true, false);
+    }
+
+    /**
+     * @return the number of ordinals which are contained in both <code>a</code> and <code>b</code>.  No result set is materialized.
+     */
+    public static int intersectionSize(OrdinalSet a, OrdinalSet b) {
+        if(a instanceof BitSetOrdinalSet && b instanceof BitSetOrdinalSet)
+            return countBitSetIntersection((BitSetOrdinalSet)a, (BitSetOrdinalSet)b);
+
+        if(hasFastContains(b) && (!hasFastContains(a) || a.size() <= b.size()))
+            return countProbe(a, b);
+        if(hasFastContains(a))
+            return countProbe(b, a);
+
+        return countMerge(a, b);
+    }
+
+    /**
+     * @return an {@link OrdinalSet} containing the ordinals which are contained in either <code>a</code> or <code>b</code>.
+     */
+    public static OrdinalSet union(OrdinalSet a, OrdinalSet b) {
+        if(a instanceof BitSetOrdinalSet && b instanceof BitSetOrdinalSet)
+            return combineBitSets((BitSetOrdinalSet)a, (BitSetOrdinalSet)b, OR);
+
+        return merge(a, b, true, true, true);
+    }
+
+    /**
+     * @return an {@link OrdinalSet} containing the ordinals which are contained in <code>a</code> but not in <code>b</code>.
+     */
+    public static OrdinalSet difference(OrdinalSet a, OrdinalSet b) {
+        if(a instanceof BitSetOrdinalSet && b instanceof BitSetOrdinalSet)
+            return combineBitSets((BitSetOrdinalSet)a, (BitSetOrdinalSet)b, AND_NOT);
+
+        if(hasFastContains(b))
+            return probe(a, b, false);
+
+        return merge(a, b, true, false, false);
+    }
+
+    /**
+     * Intersects any number of sets with a {@link LeapfrogIntersectionIterator}.  The cost is driven by the smallest set, so this
+     * is appropriate when a small set is intersected with one or more very large sets.
+     *
+     * @return an {@link OrdinalSet} containing the ordinals which are contained in every one of the <code>sets</code>.
+     */
+    public static OrdinalSet intersectAll(OrdinalSet... sets) {
+        if(sets.length == 0)
+            return EMPTY_SET;
+
+        SeekableOrdinalIterator iterators[] = new SeekableOrdinalIterator[sets.length];
+        for(int i=0;i<sets.length;i++)
+            iterators[i] = seekableIterator(sets[i]);
+
+        OrdinalIterator iter = new LeapfrogIntersectionIterator(iterators);
+
+        int result[] = new int[16];
+        int size = 0;
+
+        int ordinal = iter.nextOrdinal();
+        while(ordinal != NO_MORE_ORDINALS) {
+            if(size == result.length)
+                result = Arrays.copyOf(result, size * 3 / 2);
+            result[size++] = ordinal;
+            ordinal = iter.nextOrdinal();
+        }
+
+        return arraySet(result, size);
+    }
+
+    /**
+     * @return a {@link SeekableOrdinalIterator} over the ordinals in the given set.  If the set's own iterator is not ordered, the
+     * set is first materialized into a sorted array.
+     */
+    public static SeekableOrdinalIterator seekableIterator(OrdinalSet set) {
+        OrdinalIterator iter = set.iterator();
+        if(iter instanceof SeekableOrdinalIterator)
+            return (SeekableOrdinalIterator)iter;
+        if(iter.isOrdered())
+            return new OrderedIteratorAdapter(iter);
+
+        int ordinals[] = set.asArray();
+        Arrays.sort(ordinals);
+        return (SeekableOrdinalIterator)new SortedArrayOrdinalSet(ordinals, ordinals.length).iterator();
+    }
+
+    private static boolean hasFastContains(OrdinalSet set) {
+        return set instanceof HashSetOrdinalSet
+            || set instanceof FixedWidthHashSetOrdinalSet
+            || set instanceof BitSetOrdinalSet
+            || set instanceof SingleOrdinalSet
+            || set instanceof SortedArrayOrdinalSet
+            || set instanceof SkipCompactOrdinalSet
+            || set instanceof PartitionedOrdinalSet
+            || set instanceof EliasFanoOrdinalSet
+            || set instanceof RangeBitSetOrdinalSet;
+    }
+
+    private static OrdinalSet probe(OrdinalSet iterated, OrdinalSet probed, boolean keepContained) {
+        int result[] = new int[iterated.size()];
+        int size = 0;
+
+        OrdinalIterator iter = iterated.iterator();
+        int ordinal = iter.nextOrdinal();
+
+        while(ordinal != NO_MORE_ORDINALS) {
+            if(probed.contains(ordinal) == keepContained)
+                result[size++] = ordinal;
+            ordinal = iter.nextOrdinal();
+        }
+
+        if(!iter.isOrdered())
+            Arrays.sort(result, 0, size);
+
+        return arraySet(result, size);
+    }
+
+    private static int countProbe(OrdinalSet iterated, OrdinalSet probed) {
+        int count = 0;
+
+        OrdinalIterator iter = iterated.iterator();
+        int ordinal = iter.nextOrdinal();
+
+        while(ordinal != NO_MORE_ORDINALS) {
+            if(probed.contains(ordinal))
+                count++;
+            ordinal = iter.nextOrdinal();
+        }
+
+        return count;
+    }
+
+    private static OrdinalSet merge(OrdinalSet a, OrdinalSet b, boolean keepOnlyInA, boolean keepInBoth, boolean keepOnlyInB) {
+        int result[] = new int[a.size() + (keepOnlyInB ? b.size() : 0)];
+        int size = 0;
+
+        OrdinalIterator iterA = orderedIterator(a);
+        OrdinalIterator iterB = orderedIterator(b);
+
+        int ordinalA = iterA.nextOrdinal();
+        int ordinalB = iterB.nextOrdinal();
+
+        /// NO_MORE_ORDINALS is Integer.MAX_VALUE, so an exhausted iterator always compares greater
+        while(ordinalA != NO_MORE_ORDINALS || ordinalB != NO_MORE_ORDINALS) {
+            if(ordinalA < ordinalB) {
+                if(keepOnlyInA)
+                    result[size++] = ordinalA;
+                else if(ordinalB == NO_MORE_ORDINALS)
+                    break;
+                ordinalA = iterA.nextOrdinal();
+            } else if(ordinalB < ordinalA) {
+                if(keepOnlyInB)
+                    result[size++] = ordinalB;
+                else if(ordinalA == NO_MORE_ORDINALS)
+                    break;
+                ordinalB = iterB.nextOrdinal();
+            } else {
+                if(keepInBoth)
+                    result[size++] = ordinalA;
+                ordinalA = iterA.nextOrdinal();
+                ordinalB = iterB.nextOrdinal();
+            }
+        }
+
+        return arraySet(result, size);
+    }
+
+    private static int countMerge(OrdinalSet a, OrdinalSet b) {
+        int count = 0;
+
+        OrdinalIterator iterA = orderedIterator(a);
+        OrdinalIterator iterB = orderedIterator(b);
+
+        int ordinalA = iterA.nextOrdinal();
+        int ordinalB = iterB.nextOrdinal();
+
+        while(ordinalA != NO_MORE_ORDINALS && ordinalB != NO_MORE_ORDINALS) {
+            if(ordinalA < ordinalB) {
+                ordinalA = iterA.nextOrdinal();
+            } else if(ordinalB < ordinalA) {
+                ordinalB = iterB.nextOrdinal();
+            } else {
+                count++;
+                ordinalA = iterA.nextOrdinal();
+                ordinalB = iterB.nextOrdinal();
+            }
+        }
+
+        return count;
+    }
+
+    private static OrdinalIterator orderedIterator(OrdinalSet set) {
+        OrdinalIterator iter = set.iterator();
+        if(iter.isOrdered())
+            return iter;
+
+        int ordinals[] = set.asArray();
+        Arrays.sort(ordinals);
+        return new SortedArrayOrdinalSet(ordinals, ordinals.length).iterator();
+    }
+
+    private static final int AND = 0;
+    private static final int OR = 1;
+    private static final int AND_NOT = 2;
+
+    private static OrdinalSet combineBitSets(BitSetOrdinalSet a, BitSetOrdinalSet b, int operation) {
+        int numWords;
+        switch(operation) {
+        case AND: numWords = Math.min(a.numWords(), b.numWords()); break;
+        case OR:  numWords = Math.max(a.numWords(), b.numWords()); break;
+        default:  numWords = a.numWords(); break;
+        }
+
+        byte data[] = new byte[numWords << 3];
+
+        for(int i=0;i<numWords;i++) {
+            long word;
+            switch(operation) {
+            case AND: word = a.getWord(i) & b.getWord(i); break;
+            case OR:  word = a.getWord(i) | b.getWord(i); break;
+            default:  word = a.getWord(i) & ~b.getWord(i); break;
+            }
+
+            for(int j=0;j<8;j++)
+                data[(i << 3) + j] = (byte)(word >>> (j << 3));
+        }
+
+        return new BitSetOrdinalSet(new ByteArrayReader(new SimpleByteArray(data), 0, data.length));
+    }
+
+    private static int countBitSetIntersection(BitSetOrdinalSet a, BitSetOrdinalSet b) {
+        int numWords = Math.min(a.numWords(), b.numWords());
+        int count = 0;
+
+        for(int i=0;i<numWords;i++)
+            count += Long.bitCount(a.getWord(i) & b.getWord(i));
+
+        return count;
+    }
+
+    /**
+     * Allows an ordered iterator which cannot skip to be used where a {@link SeekableOrdinalIterator} is required.
+     */
+    private static class OrderedIteratorAdapter implements SeekableOrdinalIterator {
+
+        private final OrdinalIterator iter;
+
+        OrderedIteratorAdapter(OrdinalIterator iter) {
+            this.iter = iter;
+        }
+
+        @Override
+        public int nextOrdinal() {
+            return iter.nextOrdinal();
+        }
+
+        @Override
+        public void reset() {
+            iter.reset();
+        }
+
+        @Override
+        public SeekableOrdinalIterator copy() {
+            return new OrderedIteratorAdapter(iter.copy());
+        }
+
+    }
+
+    private static OrdinalSet arraySet(int ordinals[], int size) {
+        if(size == 0)
+            return EMPTY_SET;
+        return new SortedArrayOrdinalSet(ordinals, size);
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph;
+
+import com.netflix.nfgraph.build.NFBuildGraphOrdinalIterator;
+import com.netflix.nfgraph.compressed.BitSetOrdinalIterator;
+import com.netflix.nfgraph.compressed.CompactOrdinalIterator;
+
+/**
+ * A <code>SeekableOrdinalIterator</code> is an ordered {@link OrdinalIterator} which can skip ahead to a target ordinal.<p>
+ * 
+ * Implementations skip as efficiently as their representation allows.  For example, a {@link BitSetOrdinalIterator} moves directly to the 
+ * word containing the target, and a {@link NFBuildGraphOrdinalIterator} searches its sorted array.  A {@link CompactOrdinalIterator} 
+ * must decode each delta, but does so without returning each ordinal to the caller.
+ * 
+ * @see LeapfrogIntersectionIterator
+ */
+public interface SeekableOrdinalIterator extends OrdinalIterator {
+
+    /**
+     * Moves this iterator to the first ordinal which is greater than or equal to <code>target</code> and has not yet been returned.<p>
+     * 
+     * If <code>target</code> is less than or equal to the last returned ordinal, this is equivalent to <code>nextOrdinal()</code>.
+     * 
+     * @return the first remaining ordinal greater than or equal to <code>target</code>, or <code>NO_MORE_ORDINALS</code> if there is none.
+     */
+    public default int advance(int target) {
+        int ordinal = nextOrdinal();
+        while(ordinal < target)
+            ordinal = nextOrdinal();
+        return ordinal;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SeekableOrdinalIterator copy();
+
+    /**
+     * @return <code>true</code>
+     */
+    @Override
+    public default boolean isOrdered() {
+        return true;
+    }
+
+}
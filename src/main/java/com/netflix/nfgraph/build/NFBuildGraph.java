@@ -20,6 +20,7 @@ package com.netflix.nfgraph.build;
 import static com.netflix.nfgraph.NFGraphModelHolder.CONNECTION_MODEL_GLOBAL;
 
 import com.netflix.nfgraph.NFGraph;
+import com.netflix.nfgraph.NFPropertyHandle;
 import com.netflix.nfgraph.OrdinalIterator;
 import com.netflix.nfgraph.OrdinalSet;
 import com.netflix.nfgraph.compressed.NFCompressedGraph;
@@ -27,6 +28,7 @@ import com.netflix.nfgraph.compressor.NFCompressedGraphBuilder;
 import com.netflix.nfgraph.spec.NFGraphSpec;
 import com.netflix.nfgraph.spec.NFNodeSpec;
 import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.SortedArrayOrdinalSet;
 
 
 /**
@@ -70,6 +72,81 @@ public class NFBuildGraph extends NFGraph {
         return node.getConnectionSet(connectionModelIndex, propertySpec);
     }
 
+    @Override
+    protected int getConnectionCount(int connectionModelIndex, String nodeType, int ordinal, String propertyName) {
+        NFBuildGraphNode node = nodeCache.getNode(nodeType, ordinal);
+        NFPropertySpec propertySpec = getPropertySpec(nodeType, propertyName);
+        return countConnections(node, connectionModelIndex, propertySpec);
+    }
+
+    @Override
+    public int getNumNodes(String nodeType) {
+        return nodeCache.numNodes(nodeType);
+    }
+
+    /**
+     * {@inheritDoc}<p>
+     * 
+     * An <code>NFBuildGraph</code> holds no reverse index, so every node of the given type is examined.
+     */
+    @Override
+    protected OrdinalSet getIncomingConnectionSet(int connectionModelIndex, String nodeType, int ordinal, String propertyName) {
+        NFPropertySpec propertySpec = getIndexedInversePropertySpec(nodeType, propertyName);
+        NFBuildGraphNodeList nodes = nodeCache.getNodes(nodeType);
+
+        int incomingOrdinals[] = new int[nodes.size()];
+        int numIncomingOrdinals = 0;
+
+        for(int i=0;i<nodes.size();i++) {
+            NFBuildGraphNode node = nodes.get(i);
+            if(node != null && node.getConnectionSet(connectionModelIndex, propertySpec).contains(ordinal))
+                incomingOrdinals[numIncomingOrdinals++] = i;
+        }
+
+        if(numIncomingOrdinals == 0)
+            return OrdinalSet.EMPTY_SET;
+
+        return new SortedArrayOrdinalSet(incomingOrdinals, numIncomingOrdinals);
+    }
+
+    @Override
+    public int getConnection(NFPropertyHandle property, int ordinal) {
+        NFBuildGraphNode node = nodeCache.getNode(property.getNodeType(), ordinal);
+        return node.getConnection(property.getConnectionModelIndex(), property.getPropertySpec());
+    }
+
+    @Override
+    public OrdinalIterator getConnectionIterator(NFPropertyHandle property, int ordinal) {
+        NFBuildGraphNode node = nodeCache.getNode(property.getNodeType(), ordinal);
+        return node.getConnectionIterator(property.getConnectionModelIndex(), property.getPropertySpec());
+    }
+
+    @Override
+    public OrdinalSet getConnectionSet(NFPropertyHandle property, int ordinal) {
+        NFBuildGraphNode node = nodeCache.getNode(property.getNodeType(), ordinal);
+        return node.getConnectionSet(property.getConnectionModelIndex(), property.getPropertySpec());
+    }
+
+    @Override
+    public int getConnectionCount(NFPropertyHandle property, int ordinal) {
+        NFBuildGraphNode node = nodeCache.getNode(property.getNodeType(), ordinal);
+        return countConnections(node, property.getConnectionModelIndex(), property.getPropertySpec());
+    }
+
+    /**
+     * A connection which was added more than once is counted once, as it will be in an {@link NFCompressedGraph}.
+     */
+    private int countConnections(NFBuildGraphNode node, int connectionModelIndex, NFPropertySpec propertySpec) {
+        if(propertySpec.isSingle())
+            return node.getConnection(connectionModelIndex, propertySpec) == -1 ? 0 : 1;
+
+        OrdinalIterator iter = node.getConnectionIterator(connectionModelIndex, propertySpec);
+        int count = 0;
+        while(iter.nextOrdinal() != OrdinalIterator.NO_MORE_ORDINALS)
+            count++;
+        return count;
+    }
+
     /**
      * Add a connection to this graph.  The connection will be from the node identified by the given <code>nodeType</code> and <code>fromOrdinal</code>.
      * The connection will be via the specified <code>viaProperty</code> in the {@link NFNodeSpec} for the given <code>nodeType</code>.
@@ -152,4 +229,13 @@ public class NFBuildGraph extends NFGraph {
         NFCompressedGraphBuilder builder = new NFCompressedGraphBuilder(graphSpec, nodeCache, modelHolder);
         return builder.buildGraph();
     }
+
+    /**
+     * Return a {@link NFCompressedGraph} containing all connections which have been added to this <code>NFBuildGraph</code>, with its
+     * connection data held outside of the Java heap.  The off-heap memory is released by {@link NFCompressedGraph#destroy()}.
+     */
+    public NFCompressedGraph compressOffHeap() {
+        NFCompressedGraphBuilder builder = new NFCompressedGraphBuilder(graphSpec, nodeCache, modelHolder, true);
+        return builder.buildGraph();
+    }
 }
\ No newline at end of file
@@ -63,6 +63,17 @@ public class NFBuildGraphNode {
         return connections.getConnectionIterator(spec);
     }
     
+    /**
+     * @return true if any connection has been added from this node, via any property, in any connection model.
+     */
+    public boolean hasConnections() {
+    	for(NFBuildGraphNodeConnections connections : connectionModelSpecificConnections) {
+    		if(connections != null)
+    			return true;
+    	}
+    	return false;
+    }
+    
     void addConnection(int connectionModelIndex, NFPropertySpec spec, int ordinal) {
     	NFBuildGraphNodeConnections connections = getOrCreateConnections(connectionModelIndex);
     	connections.addConnection(spec, ordinal);
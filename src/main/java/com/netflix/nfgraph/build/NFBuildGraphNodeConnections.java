@@ -62,6 +62,8 @@ class NFBuildGraphNodeConnections {
     	if(spec.isMultiple()) {
     		return new NFBuildGraphOrdinalSet(multipleValues[spec.getPropertyIndex()], multipleValueSizes[spec.getPropertyIndex()]);
     	}
+    	if(singleValues[spec.getPropertyIndex()] == -1)
+    		return OrdinalSet.EMPTY_SET;
     	return new SingleOrdinalSet(singleValues[spec.getPropertyIndex()]);
     }
     
@@ -70,6 +72,8 @@ class NFBuildGraphNodeConnections {
     		return new NFBuildGraphOrdinalIterator(multipleValues[spec.getPropertyIndex()], multipleValueSizes[spec.getPropertyIndex()]);
     	}
 
+    	if(singleValues[spec.getPropertyIndex()] == -1)
+    		return OrdinalIterator.EMPTY_ITERATOR;
     	return new SingleOrdinalIterator(singleValues[spec.getPropertyIndex()]);
     }
 
@@ -20,11 +20,12 @@ package com.netflix.nfgraph.build;
 import java.util.Arrays;
 
 import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.SeekableOrdinalIterator;
 
 /**
  * An implementation of {@link OrdinalIterator} returned for connections in an {@link NFBuildGraph}.
  */
-public class NFBuildGraphOrdinalIterator implements OrdinalIterator {
+public class NFBuildGraphOrdinalIterator implements SeekableOrdinalIterator {
     
     private final int ordinals[];
     
@@ -54,14 +55,43 @@ public class NFBuildGraphOrdinalIterator implements OrdinalIterator {
         return nextOrdinal;
     }
 
+    /**
+     * {@inheritDoc}<p>
+     * 
+     * The sorted ordinals are searched for the target, first exponentially and then by bisection.
+     */
+    @Override
+    public int advance(int target) {
+        if(previousOrdinal == NO_MORE_ORDINALS)
+            return NO_MORE_ORDINALS;
+
+        int bound = 1;
+        while(currentPositionInList + bound < ordinals.length && ordinals[currentPositionInList + bound] < target)
+            bound <<= 1;
+
+        int low = currentPositionInList;
+        int high = Math.min(currentPositionInList + bound, ordinals.length);
+
+        while(low < high) {
+            int mid = (low + high) >>> 1;
+            if(ordinals[mid] < target)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+
+        currentPositionInList = low;
+        return nextOrdinal();
+    }
+
     @Override
     public void reset() {
-        this.previousOrdinal = 0;
+        this.previousOrdinal = Integer.MIN_VALUE;
         this.currentPositionInList = 0;
     }
     
     @Override
-    public OrdinalIterator copy() {
+    public NFBuildGraphOrdinalIterator copy() {
         return new NFBuildGraphOrdinalIterator(ordinals); 
     }
 
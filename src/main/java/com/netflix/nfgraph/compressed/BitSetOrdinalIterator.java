@@ -18,6 +18,7 @@
 package com.netflix.nfgraph.compressed;
 
 import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.SeekableOrdinalIterator;
 import com.netflix.nfgraph.util.ByteArrayReader;
 
 /**
@@ -25,33 +26,77 @@ import com.netflix.nfgraph.util.ByteArrayReader;
  * 
  * @see BitSetOrdinalSet
  */
-public class BitSetOrdinalIterator implements OrdinalIterator {
+public class BitSetOrdinalIterator implements SeekableOrdinalIterator {
 
     private final ByteArrayReader reader;
+    private long wordOffset;
+    private long word;
+
+    /**
+     * The bit position at which the next call to {@link #nextOrdinal()} begins looking for a populated bit.
+     * 
+     * @deprecated use {@link #advance(int)} to move this iterator forward.  An assignment to this field is still honored by the next 
+     * call to {@link #nextOrdinal()} or {@link #advance(int)}.
+     */
+    @Deprecated
     public int offset;
+    private int positionedOffset;
     
     public BitSetOrdinalIterator(ByteArrayReader reader) {
         this.reader = reader;
+        reset();
     }
 
     /**
-     * {@inheritDoc}
+     * {@inheritDoc}<p>
+     * 
+     * The bit set is read one 64-bit word at a time.  Each populated bit is located with <code>Long.numberOfTrailingZeros()</code>,
+     * and unpopulated words are skipped entirely.
      */
     @Override
     public int nextOrdinal() {
-        if(offset >>> 3 == reader.length())
-            return NO_MORE_ORDINALS;
-        
-        skipToNextPopulatedByte();
-        
-        while(moreBytesToRead()) {
-            if(testCurrentBit()) {
-                return offset++;
+        if(offset != positionedOffset)
+            seek(offset);
+
+        while(word == 0) {
+            wordOffset += 8;
+            if(wordOffset >= reader.length()) {
+                offset = positionedOffset = (int)(reader.length() << 3);
+                return NO_MORE_ORDINALS;
             }
-            offset++;
+            word = reader.getLong(wordOffset);
         }
 
-        return NO_MORE_ORDINALS;
+        int ordinal = (int)(wordOffset << 3) + Long.numberOfTrailingZeros(word);
+        word &= word - 1;
+        offset = positionedOffset = ordinal + 1;
+        return ordinal;
+    }
+
+    /**
+     * {@inheritDoc}<p>
+     * 
+     * The iterator moves directly to the word containing <code>target</code>.
+     */
+    @Override
+    public int advance(int target) {
+        if(offset != positionedOffset)
+            seek(offset);
+
+        if(target < 0)
+            return nextOrdinal();
+
+        long targetWordOffset = ((long)target >>> 6) << 3;
+
+        if(targetWordOffset > wordOffset) {
+            wordOffset = targetWordOffset;
+            word = wordOffset < reader.length() ? reader.getLong(wordOffset) : 0;
+        }
+
+        if(targetWordOffset == wordOffset)
+            word &= -1L << (target & 0x3F);
+
+        return nextOrdinal();
     }
 
     /**
@@ -59,14 +104,16 @@ public class BitSetOrdinalIterator implements OrdinalIterator {
      */
     @Override
     public void reset() {
-        offset = 0;
+        wordOffset = -8;
+        word = 0;
+        offset = positionedOffset = 0;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public OrdinalIterator copy() {
+    public BitSetOrdinalIterator copy() {
         return new BitSetOrdinalIterator(reader);
     }
     
@@ -77,29 +124,14 @@ public class BitSetOrdinalIterator implements OrdinalIterator {
     public boolean isOrdered() {
         return true;
     }
-    
-    private void skipToNextPopulatedByte() {
-        if(moreBytesToRead() 
-                && (currentByte() >>> (offset & 0x07)) == 0) {
-            offset += 0x08;
-            offset &= ~0x07;
-            
-            while(moreBytesToRead() && currentByte() == 0)
-                offset += 0x08;
-        }
-    }
 
-    private boolean moreBytesToRead() {
-        return (offset >>> 3) < reader.length();
-    }
-
-    private boolean testCurrentBit() {
-        int b = currentByte();
-        return (b & (1 << (offset & 0x07))) != 0;
-    }
-    
-    private byte currentByte() {
-        return reader.getByte(offset >>> 3);
+    /**
+     * Position this iterator so that the next ordinal returned is the first populated bit at or after <code>position</code>.
+     */
+    private void seek(int position) {
+        wordOffset = ((long)position >>> 6) << 3;
+        word = wordOffset < reader.length() ? reader.getLong(wordOffset) & (-1L << (position & 0x3F)) : 0;
+        positionedOffset = position;
     }
     
 }
@@ -17,6 +17,8 @@
 
 package com.netflix.nfgraph.compressed;
 
+import java.util.function.IntConsumer;
+
 import com.netflix.nfgraph.OrdinalIterator;
 import com.netflix.nfgraph.OrdinalSet;
 import com.netflix.nfgraph.compressor.NFCompressedGraphBuilder;
@@ -40,9 +42,18 @@ import com.netflix.nfgraph.util.ByteArrayReader;
 public class BitSetOrdinalSet extends OrdinalSet {
 
     private final ByteArrayReader reader;
+    private final int size;
 
     public BitSetOrdinalSet(ByteArrayReader reader) {
+        this(reader, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Create a set whose size is already known, for example from the header of a {@link NFPropertySpec#COUNTED} property.
+     */
+    public BitSetOrdinalSet(ByteArrayReader reader, int size) {
         this.reader = reader;
+        this.size = size;
     }
 
     @Override
@@ -56,6 +67,20 @@ public class BitSetOrdinalSet extends OrdinalSet {
         return (reader.getByte(offset) & mask) != 0;
     }
 
+    /**
+     * @return the number of 64-bit words required to hold this bit set.
+     */
+    public int numWords() {
+        return (int)((reader.length() + 7) >>> 3);
+    }
+
+    /**
+     * @return the 64-bit word at the given index.  Bit <code>i</code> of word <code>w</code> is set if ordinal <code>(w * 64) + i</code> is in this set.
+     */
+    public long getWord(int wordIndex) {
+        return reader.getLong((long)wordIndex << 3);
+    }
+
     @Override
     public OrdinalIterator iterator() {
         return new BitSetOrdinalIterator(reader);
@@ -63,17 +88,44 @@ public class BitSetOrdinalSet extends OrdinalSet {
 
     @Override
     public int size() {
+        if(size != Integer.MIN_VALUE)
+            return size;
+
         int cardinalitySum = 0;
-        for(int i=0;i<(reader.length());i++) {
-            cardinalitySum += BITS_SET_TABLE[reader.getByte(i) & 0xFF];
+        for(long i=0;i<reader.length();i+=8) {
+            cardinalitySum += Long.bitCount(reader.getLong(i));
         }
         return cardinalitySum;
     }
 
-    private static final int BITS_SET_TABLE[] = new int[256];
-    static {
-        for(int i=0;i<256;i++) {
-            BITS_SET_TABLE[i] = (i & 1) + BITS_SET_TABLE[i / 2];
+    @Override
+    public int[] asArray() {
+        int arr[] = new int[size()];
+        int arrIdx = 0;
+
+        for(long i=0;i<reader.length();i+=8) {
+            long word = reader.getLong(i);
+            int wordOrdinal = (int)(i << 3);
+
+            while(word != 0) {
+                arr[arrIdx++] = wordOrdinal + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+
+        return arr;
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        for(long i=0;i<reader.length();i+=8) {
+            long word = reader.getLong(i);
+            int wordOrdinal = (int)(i << 3);
+
+            while(word != 0) {
+                action.accept(wordOrdinal + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
         }
     }
 
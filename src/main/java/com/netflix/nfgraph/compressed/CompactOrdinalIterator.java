@@ -18,6 +18,7 @@
 package com.netflix.nfgraph.compressed;
 
 import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.SeekableOrdinalIterator;
 import com.netflix.nfgraph.util.ByteArrayReader;
 
 /**
@@ -25,7 +26,7 @@ import com.netflix.nfgraph.util.ByteArrayReader;
  * 
  * @see CompactOrdinalSet
  */
-public class CompactOrdinalIterator implements OrdinalIterator {
+public class CompactOrdinalIterator implements SeekableOrdinalIterator {
 
     private final ByteArrayReader arrayReader;
     private int currentOrdinal = 0;
@@ -50,7 +51,7 @@ public class CompactOrdinalIterator implements OrdinalIterator {
     }
 
     @Override
-    public OrdinalIterator copy() {
+    public CompactOrdinalIterator copy() {
         return new CompactOrdinalIterator(arrayReader.copy());
     }
     
@@ -51,6 +51,14 @@ public class CompactOrdinalSet extends OrdinalSet {
         this.reader = reader;
     }
 
+    /**
+     * Create a set whose size is already known, for example from the header of a {@link NFPropertySpec#COUNTED} property.
+     */
+    public CompactOrdinalSet(ByteArrayReader reader, int size) {
+        this.reader = reader;
+        this.size = size;
+    }
+
     @Override
     public boolean contains(int value) {
         OrdinalIterator iter = iterator();
@@ -98,6 +106,18 @@ public class CompactOrdinalSet extends OrdinalSet {
         return size;
     }
 
+    /**
+     * {@inheritDoc}<p>
+     * 
+     * Unless the size is already known, this is the number of encoded bytes, which is an upper bound because each ordinal occupies at least one byte.
+     */
+    @Override
+    public int estimatedSize() {
+        if(sizeIsUnknown())
+            return (int)reader.length();
+        return size;
+    }
+
     private boolean sizeIsUnknown() {
         return size == Integer.MIN_VALUE;
     }
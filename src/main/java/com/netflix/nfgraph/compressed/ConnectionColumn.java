@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.BitPackedArray;
+
+/**
+ * The connection from each node of a type via a property specified with {@link NFPropertySpec#COLUMNAR}.<p>
+ *
+ * Each connected ordinal is held plus one, bit-packed at the width of the largest, so that zero indicates that a node has no connection.  
+ * The connection of any node is retrieved with a single read from the column, without resolving the node's pointer or skipping its 
+ * other properties.
+ *
+ * @see NFCompressedGraph#getConnection(String, int, String)
+ */
+public class ConnectionColumn {
+
+    private final BitPackedArray connections;
+    private final int numNodes;
+
+    public ConnectionColumn(BitPackedArray connections, int numNodes) {
+        this.connections = connections;
+        this.numNodes = numNodes;
+    }
+
+    /**
+     * Create a <code>ConnectionColumn</code> holding the given connections, indexed by ordinal.  A node without a connection is given as -1.
+     */
+    public static ConnectionColumn of(int connections[]) {
+        int maxConnection = -1;
+        for(int connection : connections)
+            maxConnection = Math.max(maxConnection, connection);
+
+        BitPackedArray packed = new BitPackedArray(BitPackedArray.bitsRequired(maxConnection + 1), connections.length);
+        for(int i=0;i<connections.length;i++)
+            packed.set(i, connections[i] + 1);
+
+        return new ConnectionColumn(packed, connections.length);
+    }
+
+    /**
+     * @return the ordinal connected to the node with the given ordinal, or -1 if there is no connection or no such node.
+     */
+    public int get(int ordinal) {
+        if(ordinal < 0 || ordinal >= numNodes)
+            return -1;
+        return (int)connections.get(ordinal) - 1;
+    }
+
+    /**
+     * @return the number of ordinals in this column.
+     */
+    public int size() {
+        return numNodes;
+    }
+
+    /**
+     * Used by the serializer.
+     *
+     * It is unlikely that this method will be required externally.
+     */
+    public BitPackedArray getPackedConnections() {
+        return connections;
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.BitPackedArray;
+
+/**
+ * The number of connections from each node of a type via a property specified with {@link NFPropertySpec#DEGREES}.<p>
+ *
+ * The degrees are precomputed when an {@link NFCompressedGraph} is built, and held bit-packed at the width of the largest degree,
+ * so that the degree of any node is retrieved in constant time without reading its connections.
+ *
+ * @see NFCompressedGraph#degrees(String, String)
+ */
+public class DegreeColumn {
+
+    private final BitPackedArray degrees;
+    private final int numNodes;
+
+    public DegreeColumn(BitPackedArray degrees, int numNodes) {
+        this.degrees = degrees;
+        this.numNodes = numNodes;
+    }
+
+    /**
+     * Create a <code>DegreeColumn</code> holding the given degrees, indexed by ordinal.
+     */
+    public static DegreeColumn of(int degrees[]) {
+        int maxDegree = 0;
+        for(int degree : degrees)
+            maxDegree = Math.max(maxDegree, degree);
+
+        BitPackedArray packed = new BitPackedArray(BitPackedArray.bitsRequired(maxDegree), degrees.length);
+        for(int i=0;i<degrees.length;i++)
+            packed.set(i, degrees[i]);
+
+        return new DegreeColumn(packed, degrees.length);
+    }
+
+    /**
+     * @return the number of distinct connections from the node with the given ordinal, or 0 if there is no such node.
+     */
+    public int get(int ordinal) {
+        if(ordinal < 0 || ordinal >= numNodes)
+            return 0;
+        return (int)degrees.get(ordinal);
+    }
+
+    /**
+     * @return the number of ordinals in this column.
+     */
+    public int size() {
+        return numNodes;
+    }
+
+    /**
+     * @return the degrees of all nodes, indexed by ordinal.
+     */
+    public int[] asArray() {
+        int arr[] = new int[numNodes];
+        for(int i=0;i<numNodes;i++)
+            arr[i] = (int)degrees.get(i);
+        return arr;
+    }
+
+    /**
+     * Used by the serializer.
+     *
+     * It is unlikely that this method will be required externally.
+     */
+    public BitPackedArray getPackedDegrees() {
+        return degrees;
+    }
+
+}
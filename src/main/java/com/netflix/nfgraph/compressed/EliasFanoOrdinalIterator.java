@@ -0,0 +1,224 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.SeekableOrdinalIterator;
+import com.netflix.nfgraph.compressor.EliasFanoPropertyBuilder;
+import com.netflix.nfgraph.util.ByteArrayReader;
+
+/**
+ * An implementation of {@link OrdinalIterator} returned for ordinals represented with the Elias-Fano encoding in an {@link NFCompressedGraph}.<p>
+ *
+ * The high bits are scanned a word at a time.  {@link #advance(int)} uses the sampled index to find the first ordinal whose high bits are 
+ * at least those of the target, then decodes forward within that high value.
+ *
+ * @see EliasFanoOrdinalSet
+ */
+public class EliasFanoOrdinalIterator implements SeekableOrdinalIterator {
+
+    private final ByteArrayReader reader;
+
+    private int numValues;
+    private int maxOrdinal;
+    private int lowBits;
+    private int numSkips;
+    private int skipsStart;
+    private int lowStart;
+    private int highStart;
+
+    /// the index of the next ordinal to be returned
+    private int index;
+    /// the position in the high bits from which the next one bit is searched
+    private long highPosition;
+
+    /**
+     * @param numValues the number of ordinals in the set, which is recorded in the set's header rather than in the encoded ordinals.
+     */
+    public EliasFanoOrdinalIterator(ByteArrayReader reader, int numValues) {
+        this.reader = reader;
+        reinitialize(numValues);
+    }
+
+    /**
+     * Reads the header again, with the given number of values, after the underlying reader has been repositioned.
+     */
+    void reinitialize(int numValues) {
+        int offset = 0;
+        byte b;
+
+        this.numValues = numValues;
+
+        maxOrdinal = 0;
+        do {
+            b = reader.getByte(offset++);
+            maxOrdinal = (maxOrdinal << 7) | (b & 0x7F);
+        } while((b & 0x80) != 0);
+
+        lowBits = reader.getByte(offset++);
+
+        numSkips = 0;
+        do {
+            b = reader.getByte(offset++);
+            numSkips = (numSkips << 7) | (b & 0x7F);
+        } while((b & 0x80) != 0);
+
+        skipsStart = offset;
+        lowStart = skipsStart + numSkips * 4;
+        highStart = lowStart + (int)(((long)numValues * lowBits + 7) >>> 3);
+
+        reset();
+    }
+
+    @Override
+    public int nextOrdinal() {
+        if(index >= numValues)
+            return NO_MORE_ORDINALS;
+
+        long position = nextOneBit(highPosition);
+        int ordinal = ordinalAt(index, position);
+
+        index++;
+        highPosition = position + 1;
+        return ordinal;
+    }
+
+    @Override
+    public int advance(int target) {
+        if(index >= numValues)
+            return NO_MORE_ORDINALS;
+
+        if(target > maxOrdinal) {
+            index = numValues;
+            return NO_MORE_ORDINALS;
+        }
+
+        int high = target >>> lowBits;
+        long bucketStart = bucketStart(high);
+
+        if(bucketStart > highPosition) {
+            highPosition = bucketStart;
+            index = (int)(bucketStart - high);
+        }
+
+        int ordinal = nextOrdinal();
+        while(ordinal < target)
+            ordinal = nextOrdinal();
+        return ordinal;
+    }
+
+    @Override
+    public void reset() {
+        index = 0;
+        highPosition = 0;
+    }
+
+    @Override
+    public EliasFanoOrdinalIterator copy() {
+        return new EliasFanoOrdinalIterator(reader.copy(), numValues);
+    }
+
+    /**
+     * @return true if the given ordinal is in this set.  This does not affect iteration.
+     */
+    boolean contains(int value) {
+        if(value < 0 || value > maxOrdinal || numValues == 0)
+            return false;
+
+        int high = value >>> lowBits;
+        long position = bucketStart(high);
+        int i = (int)(position - high);
+
+        while(i < numValues && highBit(position)) {
+            int ordinal = ordinalAt(i, position);
+            if(ordinal >= value)
+                return ordinal == value;
+            i++;
+            position++;
+        }
+
+        return false;
+    }
+
+    private int ordinalAt(int index, long highPosition) {
+        long high = highPosition - index;
+        return (int)((high << lowBits) | lowValue(index));
+    }
+
+    private int lowValue(int index) {
+        if(lowBits == 0)
+            return 0;
+
+        long bitPosition = (long)index * lowBits;
+        long word = reader.getLong(lowStart + (bitPosition >>> 3)) >>> (bitPosition & 0x07);
+        return (int)(word & ((1L << lowBits) - 1));
+    }
+
+    /**
+     * @return the position in the high bits of the first ordinal whose high value is at least <code>high</code>.  This is the 
+     * position immediately following the <code>high</code>th zero bit.
+     */
+    private long bucketStart(int high) {
+        if(high == 0)
+            return 0;
+
+        int skip = Math.min(high / EliasFanoPropertyBuilder.SELECT_QUANTUM, numSkips);
+        long position = skip == 0 ? 0 : readSkip(skip - 1);
+        int remainingZeros = high - skip * EliasFanoPropertyBuilder.SELECT_QUANTUM;
+
+        while(remainingZeros > 0) {
+            int bitOffset = (int)(position & 0x07);
+            long zeros = ~reader.getLong(highStart + (position >>> 3)) >>> bitOffset;
+            int numBits = 64 - bitOffset;
+
+            int count = Long.bitCount(zeros);
+            if(count >= remainingZeros) {
+                for(int i=1;i<remainingZeros;i++)
+                    zeros &= zeros - 1;
+                return position + Long.numberOfTrailingZeros(zeros) + 1;
+            }
+
+            remainingZeros -= count;
+            position += numBits;
+        }
+
+        return position;
+    }
+
+    private long nextOneBit(long position) {
+        while(true) {
+            int bitOffset = (int)(position & 0x07);
+            long word = reader.getLong(highStart + (position >>> 3)) >>> bitOffset;
+            if(word != 0)
+                return position + Long.numberOfTrailingZeros(word);
+            position += 64 - bitOffset;
+        }
+    }
+
+    private boolean highBit(long position) {
+        return (reader.getByte(highStart + (position >>> 3)) & (1 << (position & 0x07))) != 0;
+    }
+
+    private long readSkip(int skip) {
+        long value = 0;
+        for(int i=0;i<4;i++)
+            value = (value << 8) | (reader.getByte(skipsStart + skip * 4 + i) & 0xFF);
+        return value;
+    }
+
+}
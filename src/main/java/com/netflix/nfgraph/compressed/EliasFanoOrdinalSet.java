@@ -0,0 +1,65 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.compressor.EliasFanoPropertyBuilder;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.ByteArrayReader;
+
+/**
+ * An implementation of {@link OrdinalSet}, returned for connections of a {@link NFPropertySpec#ELIAS_FANO} property in an {@link NFCompressedGraph}.<p>
+ *
+ * Each sorted ordinal is split into low bits and high bits.  The number of low bits, <code>l</code>, is chosen from the number of ordinals and the 
+ * largest ordinal, so that on average about one ordinal shares each value of the high bits.  The low bits of every ordinal are packed into a 
+ * bit array of fixed-width values.  The high bits are written in unary:  the <code>i</code>th ordinal sets the bit at position 
+ * <code>high + i</code>, so the ordinals with a given high value form a run of one bits, and each zero bit separates consecutive high values.<p>
+ *
+ * This takes fewer than <code>2 + l</code> bits per ordinal.  A sampled index holds the position of every {@link EliasFanoPropertyBuilder#SELECT_QUANTUM}th 
+ * zero bit, so <code>contains()</code> and <code>advance()</code> locate the target's high value without decoding the preceding ordinals.
+ *
+ * @see EliasFanoPropertyBuilder
+ */
+public class EliasFanoOrdinalSet extends OrdinalSet {
+
+    private final ByteArrayReader reader;
+    private final int size;
+    private final EliasFanoOrdinalIterator index;
+
+    public EliasFanoOrdinalSet(ByteArrayReader reader, int size) {
+        this.reader = reader;
+        this.size = size;
+        this.index = new EliasFanoOrdinalIterator(reader.copy(), size);
+    }
+
+    @Override
+    public boolean contains(int value) {
+        return index.contains(value);
+    }
+
+    @Override
+    public EliasFanoOrdinalIterator iterator() {
+        return new EliasFanoOrdinalIterator(reader.copy(), size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.util.ByteArrayReader;
+import com.netflix.nfgraph.util.Mixer;
+
+/**
+ * An implementation of {@link OrdinalIterator} returned for ordinals represented as fixed-width hashed integer arrays in an {@link NFCompressedGraph}.
+ *
+ * @see FixedWidthHashSetOrdinalSet
+ */
+public class FixedWidthHashSetOrdinalIterator implements OrdinalIterator {
+
+    private final ByteArrayReader reader;
+
+    private int slotWidth;
+    private int numSlots;
+    private int slot;
+
+    public FixedWidthHashSetOrdinalIterator(ByteArrayReader reader) {
+        this.reader = reader;
+        reinitialize();
+    }
+
+    /**
+     * Reads the slot width again, after the underlying reader has been repositioned.
+     */
+    void reinitialize() {
+        slotWidth = reader.getByte(0);
+        numSlots = (int)((reader.length() - 1) / slotWidth);
+        slot = 0;
+    }
+
+    @Override
+    public int nextOrdinal() {
+        while(slot < numSlots) {
+            int value = readSlot(slot++);
+            if(value != 0)
+                return value - 1;
+        }
+        return NO_MORE_ORDINALS;
+    }
+
+    @Override
+    public void reset() {
+        slot = 0;
+    }
+
+    @Override
+    public OrdinalIterator copy() {
+        return new FixedWidthHashSetOrdinalIterator(reader.copy());
+    }
+
+    @Override
+    public boolean isOrdered() {
+        return false;
+    }
+
+    /**
+     * @return true if the given ordinal is in this set.  This does not affect iteration.
+     */
+    boolean contains(int ordinal) {
+        int value = ordinal + 1;
+        int mask = numSlots - 1;
+        int bucket = Mixer.hashInt(ordinal) & mask;
+
+        int slotValue = readSlot(bucket);
+        while(slotValue != 0) {
+            if(slotValue == value)
+                return true;
+            bucket = (bucket + 1) & mask;
+            slotValue = readSlot(bucket);
+        }
+
+        return false;
+    }
+
+    private int readSlot(int slot) {
+        long offset = 1 + (long)slot * slotWidth;
+        int value = 0;
+        for(int i=0;i<slotWidth;i++)
+            value = (value << 8) | (reader.getByte(offset + i) & 0xFF);
+        return value;
+    }
+
+}
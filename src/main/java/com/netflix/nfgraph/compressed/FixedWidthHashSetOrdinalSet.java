@@ -0,0 +1,66 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.compressor.HashedPropertyBuilder;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.ByteArrayReader;
+
+/**
+ * An implementation of {@link OrdinalSet}, returned for connections of a {@link NFPropertySpec#HASH} property which is also specified 
+ * with {@link NFPropertySpec#FIXED_WIDTH} in an {@link NFCompressedGraph}.<p>
+ *
+ * The ordinals are held in an open-addressed hash table with a power of two number of slots.  Each slot holds the ordinal plus one, 
+ * big-endian, in the fewest whole bytes which can hold the largest ordinal in the set.  An empty slot is zero.  The slot width is 
+ * recorded in the first byte.<p>
+ *
+ * Unlike a {@link HashSetOrdinalSet}, a slot never straddles its neighbors, so a membership test reads the slot at the hashed position 
+ * and probes forward one slot at a time until the ordinal or an empty slot is found.
+ *
+ * @see HashedPropertyBuilder#buildFixedWidthProperty(OrdinalSet)
+ */
+public class FixedWidthHashSetOrdinalSet extends OrdinalSet {
+
+    private final ByteArrayReader reader;
+    private final int size;
+    private final FixedWidthHashSetOrdinalIterator table;
+
+    public FixedWidthHashSetOrdinalSet(ByteArrayReader reader, int size) {
+        this.reader = reader;
+        this.size = size;
+        this.table = new FixedWidthHashSetOrdinalIterator(reader.copy());
+    }
+
+    @Override
+    public boolean contains(int value) {
+        return table.contains(value);
+    }
+
+    @Override
+    public OrdinalIterator iterator() {
+        return new FixedWidthHashSetOrdinalIterator(reader.copy());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.SeekableOrdinalIterator;
+import com.netflix.nfgraph.util.ByteArrayReader;
+
+/**
+ * An implementation of {@link OrdinalIterator} returned for ordinals represented as group varint deltas in an {@link NFCompressedGraph}.<p>
+ *
+ * Each group of four deltas is decoded at once into a small buffer.  Each delta is read with a single eight-byte load, then masked to its width.
+ *
+ * @see GroupVarIntOrdinalSet
+ */
+public class GroupVarIntOrdinalIterator implements SeekableOrdinalIterator {
+
+    private static final long MASKS[] = { 0, 0xFFL, 0xFFFFL, 0xFFFFFFL, 0xFFFFFFFFL };
+
+    private final ByteArrayReader reader;
+    private final int group[] = new int[4];
+
+    private int numValues;
+
+    private int offset;
+    private int index;
+    private int groupPosition;
+    private int currentOrdinal;
+
+    /**
+     * @param numValues the number of ordinals in the set, which is recorded in the set's header rather than in the groups.
+     */
+    public GroupVarIntOrdinalIterator(ByteArrayReader reader, int numValues) {
+        this.reader = reader;
+        reinitialize(numValues);
+    }
+
+    /**
+     * Begins iteration again with the given number of values, after the underlying reader has been repositioned.
+     */
+    void reinitialize(int numValues) {
+        this.numValues = numValues;
+        reset();
+    }
+
+    @Override
+    public int nextOrdinal() {
+        if(index >= numValues)
+            return NO_MORE_ORDINALS;
+
+        if(groupPosition == 4)
+            decodeGroup();
+
+        index++;
+        currentOrdinal += group[groupPosition++];
+        return currentOrdinal;
+    }
+
+    @Override
+    public void reset() {
+        offset = 0;
+        index = 0;
+        groupPosition = 4;
+        currentOrdinal = 0;
+    }
+
+    @Override
+    public GroupVarIntOrdinalIterator copy() {
+        return new GroupVarIntOrdinalIterator(reader.copy(), numValues);
+    }
+
+    /**
+     * @return true if the given ordinal is in this set.  This does not affect iteration.
+     */
+    boolean contains(int value) {
+        int pos = 0;
+        int ordinal = 0;
+
+        for(int groupStart=0;groupStart<numValues;groupStart+=4) {
+            int tag = reader.getByte(pos++) & 0xFF;
+            int groupSize = Math.min(4, numValues - groupStart);
+
+            for(int i=0;i<groupSize;i++) {
+                int width = ((tag >>> (i << 1)) & 0x03) + 1;
+                ordinal += (int)(reader.getLong(pos) & MASKS[width]);
+                if(ordinal >= value)
+                    return ordinal == value;
+                pos += width;
+            }
+        }
+
+        return false;
+    }
+
+    private void decodeGroup() {
+        int tag = reader.getByte(offset++) & 0xFF;
+        int groupSize = Math.min(4, numValues - index);
+
+        for(int i=0;i<groupSize;i++) {
+            int width = ((tag >>> (i << 1)) & 0x03) + 1;
+            group[i] = (int)(reader.getLong(offset) & MASKS[width]);
+            offset += width;
+        }
+
+        groupPosition = 0;
+    }
+
+}
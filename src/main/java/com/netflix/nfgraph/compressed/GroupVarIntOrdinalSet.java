@@ -0,0 +1,63 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.compressor.GroupVarIntPropertyBuilder;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.ByteArrayReader;
+
+/**
+ * An implementation of {@link OrdinalSet}, returned for connections of a {@link NFPropertySpec#GROUP_VARINT} property in an {@link NFCompressedGraph}.<p>
+ *
+ * As in a {@link CompactOrdinalSet}, the ordinals are sorted ascending and encoded as the difference between each ordinal and the last.  The deltas 
+ * are written in groups of four, each preceded by a tag byte which holds the number of bytes (one to four) used by each delta in the group.  A 
+ * group is decoded without testing a continuation bit in every byte, so iteration is considerably faster than for a {@link CompactOrdinalSet}.<p>
+ *
+ * Because each value can only be derived using the previous value, <code>contains()</code> is an <code>O(n)</code> operation.
+ *
+ * @see GroupVarIntPropertyBuilder
+ */
+public class GroupVarIntOrdinalSet extends OrdinalSet {
+
+    private final ByteArrayReader reader;
+    private final int size;
+    private final GroupVarIntOrdinalIterator groups;
+
+    public GroupVarIntOrdinalSet(ByteArrayReader reader, int size) {
+        this.reader = reader;
+        this.size = size;
+        this.groups = new GroupVarIntOrdinalIterator(reader.copy(), size);
+    }
+
+    @Override
+    public boolean contains(int value) {
+        return groups.contains(value);
+    }
+
+    @Override
+    public GroupVarIntOrdinalIterator iterator() {
+        return new GroupVarIntOrdinalIterator(reader.copy(), size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+}
@@ -28,14 +28,22 @@ import com.netflix.nfgraph.util.ByteArrayReader;
 public class HashSetOrdinalIterator implements OrdinalIterator {
 
     private final ByteArrayReader reader;
-    private final int beginOffset;
+    private int beginOffset;
     private int offset = 0;
     private boolean firstValue;
     
     public HashSetOrdinalIterator(ByteArrayReader reader) {
         this.reader = reader;
+        reinitialize();
+    }
+
+    /**
+     * Locates the first value in the hash table again, after the underlying reader has been repositioned.
+     */
+    void reinitialize() {
+        offset = 0;
         seekBeginByte();
-        this.beginOffset = offset;
+        beginOffset = offset;
         firstValue = true;
     }
 
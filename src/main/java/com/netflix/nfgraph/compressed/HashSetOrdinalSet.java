@@ -50,6 +50,14 @@ public class HashSetOrdinalSet extends OrdinalSet {
         this.reader = reader;
     }
 
+    /**
+     * Create a set whose size is already known, for example from the header of a {@link NFPropertySpec#COUNTED} property.
+     */
+    public HashSetOrdinalSet(ByteArrayReader reader, int size) {
+        this.reader = reader;
+        this.size = size;
+    }
+
     @Override
     public OrdinalIterator iterator() {
         return new HashSetOrdinalIterator(reader.copy());
@@ -87,6 +95,19 @@ public class HashSetOrdinalSet extends OrdinalSet {
         return size;
     }
 
+    /**
+     * {@inheritDoc}<p>
+     * 
+     * Unless the size is already known, this is derived from the length of the hash table, which holds between 4/3 and 8/3 bytes for each 
+     * populated byte.
+     */
+    @Override
+    public int estimatedSize() {
+        if(size == Integer.MIN_VALUE)
+            return (int)Math.max(1, reader.length() / 2);
+        return size;
+    }
+
     private int seekBeginByte(int offset) {
         while((reader.getByte(offset) & 0x80) != 0)
             offset = nextOffset(offset);
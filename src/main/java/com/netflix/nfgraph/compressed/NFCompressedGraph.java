@@ -23,9 +23,13 @@ import static com.netflix.nfgraph.OrdinalSet.EMPTY_SET;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 
 import com.netflix.nfgraph.NFGraph;
 import com.netflix.nfgraph.NFGraphModelHolder;
+import com.netflix.nfgraph.NFPropertyHandle;
 import com.netflix.nfgraph.OrdinalIterator;
 import com.netflix.nfgraph.OrdinalSet;
 import com.netflix.nfgraph.exception.NFGraphException;
@@ -38,6 +42,7 @@ import com.netflix.nfgraph.util.ByteArrayReader;
 import com.netflix.nfgraph.util.ByteData;
 import com.netflix.nfgraph.util.ByteSegmentPool;
 import com.netflix.nfgraph.util.SegmentedByteArray;
+import com.netflix.nfgraph.util.SegmentedDirectByteArray;
 
 /**
  * A read-only, memory-efficient implementation of an {@link NFGraph}.  The connections for all nodes in the graph
@@ -45,22 +50,63 @@ import com.netflix.nfgraph.util.SegmentedByteArray;
  * {@link HashSetOrdinalSet}.  If it is more efficient, the actual encoding will be a {@link BitSetOrdinalSet}.<p>
  *
  * The offsets into the byte array where connections for each node are encoded are held in the {@link NFCompressedGraphPointers}.
+ * The connections of properties specified with {@link NFPropertySpec#COLUMNAR} are instead held in a {@link ConnectionColumn} for each property.
  */
 public class NFCompressedGraph extends NFGraph {
 
+    private static final int UNRESOLVED_BIT_SET_SIZE = -1;
+    private static final int NO_REVERSE_INDEX = -1;
+
     private final NFCompressedGraphPointers pointers;
+    private final NFCompressedGraphPointers inversePointers;
+    private final NFCompressedGraphDegrees degrees;
+    private final NFCompressedGraphColumns columns;
+    private final Map<String, Map<String, ConnectionColumn>> columnsByNodeType;
+    private final Map<String, Map<String, InverseIndex>> inverseIndexes;
     private final ByteData data;
     private final long dataLength;
 
     public NFCompressedGraph(NFGraphSpec spec, NFGraphModelHolder modelHolder, ByteData data, long dataLength, NFCompressedGraphPointers pointers) {
+        this(spec, modelHolder, data, dataLength, pointers, new NFCompressedGraphLongPointers());
+    }
+
+    /**
+     * @param inversePointers the offsets of the reverse index for each property specified with {@link NFPropertySpec#INDEXED_INVERSE}.  These are 
+     * keyed by the node type and property name, separated by a period, and indexed by the ordinal of the connected node.
+     */
+    public NFCompressedGraph(NFGraphSpec spec, NFGraphModelHolder modelHolder, ByteData data, long dataLength, NFCompressedGraphPointers pointers, NFCompressedGraphPointers inversePointers) {
+        this(spec, modelHolder, data, dataLength, pointers, inversePointers, new NFCompressedGraphDegrees());
+    }
+
+    /**
+     * @param degrees the {@link DegreeColumn}s for each property specified with {@link NFPropertySpec#DEGREES}.
+     */
+    public NFCompressedGraph(NFGraphSpec spec, NFGraphModelHolder modelHolder, ByteData data, long dataLength, NFCompressedGraphPointers pointers, NFCompressedGraphPointers inversePointers, NFCompressedGraphDegrees degrees) {
+        this(spec, modelHolder, data, dataLength, pointers, inversePointers, degrees, new NFCompressedGraphColumns());
+    }
+
+    /**
+     * @param columns the {@link ConnectionColumn}s for each property specified with {@link NFPropertySpec#COLUMNAR}.
+     */
+    public NFCompressedGraph(NFGraphSpec spec, NFGraphModelHolder modelHolder, ByteData data, long dataLength, NFCompressedGraphPointers pointers, NFCompressedGraphPointers inversePointers, NFCompressedGraphDegrees degrees, NFCompressedGraphColumns columns) {
         super(spec, modelHolder);
         this.data = data;
         this.dataLength = dataLength;
         this.pointers = pointers;
+        this.inversePointers = inversePointers;
+        this.degrees = degrees;
+        this.columns = columns;
+        this.columnsByNodeType = resolveColumns();
+        this.inverseIndexes = resolveInverseIndexes();
     }
 
     @Override
     protected int getConnection(int connectionModelIndex, String nodeType, int ordinal, String propertyName) {
+        ConnectionColumn column = getColumn(nodeType, propertyName);
+
+        if(column != null)
+            return column.get(ordinal);
+
         ByteArrayReader reader = reader(nodeType, ordinal);
 
         if(reader != null) {
@@ -81,6 +127,11 @@ public class NFCompressedGraph extends NFGraph {
 
     @Override
     protected OrdinalSet getConnectionSet(int connectionModelIndex, String nodeType, int ordinal, String propertyName) {
+        ConnectionColumn column = getColumn(nodeType, propertyName);
+
+        if(column != null)
+            return columnSet(column, ordinal);
+
         ByteArrayReader reader = reader(nodeType, ordinal);
 
         if(reader != null) {
@@ -96,6 +147,11 @@ public class NFCompressedGraph extends NFGraph {
 
     @Override
     protected OrdinalIterator getConnectionIterator(int connectionModelIndex, String nodeType, int ordinal, String propertyName) {
+        ConnectionColumn column = getColumn(nodeType, propertyName);
+
+        if(column != null)
+            return columnSet(column, ordinal).iterator();
+
         ByteArrayReader reader = reader(nodeType, ordinal);
 
         if(reader != null) {
@@ -109,23 +165,377 @@ public class NFCompressedGraph extends NFGraph {
         return EMPTY_ITERATOR;
     }
 
+    /**
+     * {@inheritDoc}<p>
+     * 
+     * For a property specified with {@link NFPropertySpec#COUNTED}, the count is read from the header of the connection set, without decoding its ordinals.
+     */
+    @Override
+    protected int getConnectionCount(int connectionModelIndex, String nodeType, int ordinal, String propertyName) {
+        ConnectionColumn column = getColumn(nodeType, propertyName);
+
+        if(column != null)
+            return column.get(ordinal) == -1 ? 0 : 1;
+
+        ByteArrayReader reader = reader(nodeType, ordinal);
+
+        if(reader != null) {
+            NFPropertySpec propertySpec = pointReaderAtProperty(reader, nodeType, propertyName, connectionModelIndex);
+
+            if (propertySpec != null) {
+                return count(reader, propertySpec, UNRESOLVED_BIT_SET_SIZE);
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Retrieve the number of connections from every node of the given type via the given property.<p>
+     * 
+     * The property must be specified with {@link NFPropertySpec#DEGREES}.
+     * 
+     * @return a {@link DegreeColumn}, indexed by ordinal
+     */
+    public DegreeColumn degrees(String nodeType, String propertyName) {
+        return degrees(0, nodeType, propertyName);
+    }
+
+    /**
+     * Retrieve the number of connections from every node of the given type via the given property, in the given connection model.<p>
+     * 
+     * The property must be specified with {@link NFPropertySpec#DEGREES}.
+     * 
+     * @return a {@link DegreeColumn}, indexed by ordinal
+     */
+    public DegreeColumn degrees(String connectionModel, String nodeType, String propertyName) {
+        return degrees(modelHolder.getModelIndex(connectionModel), nodeType, propertyName);
+    }
+
+    private DegreeColumn degrees(int connectionModelIndex, String nodeType, String propertyName) {
+        DegreeColumn column = degrees.getColumn(nodeType, propertyName, connectionModelIndex);
+        if(column == null)
+            throw new NFGraphException("Property " + propertyName + " for node type " + nodeType + " does not have degrees");
+        return column;
+    }
+
+    @Override
+    public int getNumNodes(String nodeType) {
+        return pointers.numPointers(nodeType);
+    }
+
+    /**
+     * {@inheritDoc}<p>
+     * 
+     * The incoming connections are encoded in the same way as a {@link NFPropertySpec#COMPACT} property of the connected node, 
+     * or as a bit set if that is smaller.
+     */
+    @Override
+    protected OrdinalSet getIncomingConnectionSet(int connectionModelIndex, String nodeType, int ordinal, String propertyName) {
+        InverseIndex inverseIndex = inverseIndex(nodeType, propertyName);
+        long pointer = inversePointers.getPointer(inverseIndex.nodeTypeIndex, ordinal);
+
+        if(pointer == -1)
+            return EMPTY_SET;
+
+        ByteArrayReader reader = new ByteArrayReader(data, pointer);
+
+        if(inverseIndex.spec.isConnectionModelSpecific())
+            positionForModel(reader, connectionModelIndex, inverseIndex.spec, UNRESOLVED_BIT_SET_SIZE);
+
+        return set(reader, inverseIndex.spec, UNRESOLVED_BIT_SET_SIZE);
+    }
+
+    private InverseIndex inverseIndex(String nodeType, String propertyName) {
+        Map<String, InverseIndex> nodeTypeIndexes = inverseIndexes.get(nodeType);
+        InverseIndex inverseIndex = nodeTypeIndexes == null ? null : nodeTypeIndexes.get(propertyName);
+
+        if(inverseIndex == null || inverseIndex.nodeTypeIndex == NO_REVERSE_INDEX) {
+            getIndexedInversePropertySpec(nodeType, propertyName);
+            throw new NFGraphException("No reverse index was serialized for " + nodeType + "." + propertyName);
+        }
+
+        return inverseIndex;
+    }
+
+    /**
+     * The spec used to read the reverse index of each {@link NFPropertySpec#INDEXED_INVERSE} property, and the index of its pointers,
+     * are resolved once here, so that no key or spec is created for each lookup.  A property whose reverse index was not supplied to
+     * this graph is recorded with {@link #NO_REVERSE_INDEX}, and fails only when it is queried.
+     */
+    /**
+     * Columns are resolved once, and only for node types which specify a {@link NFPropertySpec#COLUMNAR} property, so that the 
+     * String-based lookups of every other node type need not consult them.
+     */
+    private Map<String, Map<String, ConnectionColumn>> resolveColumns() {
+        Map<String, Map<String, ConnectionColumn>> resolved = new HashMap<String, Map<String, ConnectionColumn>>();
+
+        for(NFNodeSpec nodeSpec : graphSpec) {
+            Map<String, ConnectionColumn> nodeTypeColumns = new HashMap<String, ConnectionColumn>();
+
+            for(NFPropertySpec propertySpec : nodeSpec.getPropertySpecs()) {
+                if(propertySpec.isColumnar()) {
+                    ConnectionColumn column = columns.getColumn(nodeSpec.getNodeTypeName(), propertySpec.getName());
+                    if(column != null)
+                        nodeTypeColumns.put(propertySpec.getName(), column);
+                }
+            }
+
+            if(!nodeTypeColumns.isEmpty())
+                resolved.put(nodeSpec.getNodeTypeName(), nodeTypeColumns);
+        }
+
+        return resolved;
+    }
+
+    private Map<String, Map<String, InverseIndex>> resolveInverseIndexes() {
+        Map<String, Map<String, InverseIndex>> indexes = new HashMap<String, Map<String, InverseIndex>>();
+
+        for(NFNodeSpec nodeSpec : graphSpec) {
+            Map<String, InverseIndex> nodeTypeIndexes = new HashMap<String, InverseIndex>();
+
+            for(NFPropertySpec propertySpec : nodeSpec.getPropertySpecs()) {
+                if(propertySpec.isIndexedInverse()) {
+                    int nodeTypeIndex;
+                    try {
+                        nodeTypeIndex = inversePointers.getNodeTypeIndex(nodeSpec.getNodeTypeName() + "." + propertySpec.getName());
+                    } catch(NFGraphException noReverseIndex) {
+                        nodeTypeIndex = NO_REVERSE_INDEX;
+                    }
+
+                    NFPropertySpec inverseSpec = new NFPropertySpec(propertySpec.getName(), nodeSpec.getNodeTypeName(), propertySpec.isGlobal() ? NFPropertySpec.GLOBAL : NFPropertySpec.MODEL_SPECIFIC);
+                    nodeTypeIndexes.put(propertySpec.getName(), new InverseIndex(inverseSpec, nodeTypeIndex));
+                }
+            }
+
+            if(!nodeTypeIndexes.isEmpty())
+                indexes.put(nodeSpec.getNodeTypeName(), nodeTypeIndexes);
+        }
+
+        return indexes;
+    }
+
+    @Override
+    public int getConnection(NFPropertyHandle property, int ordinal) {
+        NFCompressedGraphPropertyHandle handle = compressedHandle(property);
+
+        if(handle.getColumn() != null)
+            return handle.getColumn().get(ordinal);
+
+        ByteArrayReader reader = reader(handle, ordinal);
+
+        if(reader != null) {
+            pointReaderAtProperty(reader, handle);
+
+            if(handle.getPropertySpec().isSingle())
+                return reader.readVInt();
+
+            int firstOrdinal = iterator(reader, handle.getPropertySpec(), handle.numBitSetBytes(handle.getPropertyPosition())).nextOrdinal();
+            if(firstOrdinal != OrdinalIterator.NO_MORE_ORDINALS)
+                return firstOrdinal;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public OrdinalSet getConnectionSet(NFPropertyHandle property, int ordinal) {
+        NFCompressedGraphPropertyHandle handle = compressedHandle(property);
+
+        if(handle.getColumn() != null)
+            return columnSet(handle.getColumn(), ordinal);
+
+        ByteArrayReader reader = reader(handle, ordinal);
+
+        if(reader != null) {
+            pointReaderAtProperty(reader, handle);
+            return set(reader, handle.getPropertySpec(), handle.numBitSetBytes(handle.getPropertyPosition()));
+        }
+
+        return EMPTY_SET;
+    }
+
+    @Override
+    public OrdinalIterator getConnectionIterator(NFPropertyHandle property, int ordinal) {
+        NFCompressedGraphPropertyHandle handle = compressedHandle(property);
+
+        if(handle.getColumn() != null)
+            return columnSet(handle.getColumn(), ordinal).iterator();
+
+        ByteArrayReader reader = reader(handle, ordinal);
+
+        if(reader != null) {
+            pointReaderAtProperty(reader, handle);
+            return iterator(reader, handle.getPropertySpec(), handle.numBitSetBytes(handle.getPropertyPosition()));
+        }
+
+        return EMPTY_ITERATOR;
+    }
+
+    /**
+     * {@inheritDoc}<p>
+     * 
+     * For a property specified with {@link NFPropertySpec#COUNTED}, the count is read from the header of the connection set, without decoding its ordinals.
+     */
+    @Override
+    public int getConnectionCount(NFPropertyHandle property, int ordinal) {
+        NFCompressedGraphPropertyHandle handle = compressedHandle(property);
+
+        if(handle.getColumn() != null)
+            return handle.getColumn().get(ordinal) == -1 ? 0 : 1;
+
+        ByteArrayReader reader = reader(handle, ordinal);
+
+        if(reader != null) {
+            pointReaderAtProperty(reader, handle);
+            return count(reader, handle.getPropertySpec(), handle.numBitSetBytes(handle.getPropertyPosition()));
+        }
+
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}<p>
+     * 
+     * Each node is read with a single reusable {@link NFCompressedGraphCursor}.
+     */
+    @Override
+    public int getConnections(NFPropertyHandle property, int ordinals[], int outOffsets[], int outOrdinals[]) {
+        checkOffsetsLength(ordinals, outOffsets);
+
+        NFCompressedGraphCursor cursor = newCursor();
+        int numConnections = 0;
+
+        for(int i=0;i<ordinals.length;i++) {
+            outOffsets[i] = numConnections;
+
+            cursor.position(property, ordinals[i]);
+            int connection = cursor.nextOrdinal();
+
+            while(connection != OrdinalIterator.NO_MORE_ORDINALS) {
+                if(numConnections < outOrdinals.length)
+                    outOrdinals[numConnections] = connection;
+                numConnections++;
+                connection = cursor.nextOrdinal();
+            }
+        }
+
+        outOffsets[ordinals.length] = numConnections;
+        return numConnections;
+    }
+
+    @Override
+    protected NFPropertyHandle createPropertyHandle(NFNodeSpec nodeSpec, int propertyPosition, int connectionModelIndex) {
+        return new NFCompressedGraphPropertyHandle(this, nodeSpec, propertyPosition, connectionModelIndex);
+    }
+
+    /**
+     * Create a new {@link NFCompressedGraphCursor}, which can be repeatedly positioned at the connections of any node in this graph
+     * without allocating objects.<p>
+     * 
+     * A cursor is not thread-safe.  Each thread should obtain and reuse its own cursor.
+     */
+    public NFCompressedGraphCursor newCursor() {
+        return new NFCompressedGraphCursor(this);
+    }
+
+    /**
+     * Positions the reader at the encoded connections for the given property of the given node.
+     * 
+     * @return false if the node has no encoded connections.
+     */
+    boolean positionReader(ByteArrayReader reader, NFCompressedGraphPropertyHandle handle, int ordinal) {
+        long pointer = pointers.getPointer(handle.getNodeTypeIndex(), ordinal);
+
+        if(pointer == -1)
+            return false;
+
+        reader.reposition(pointer);
+        pointReaderAtProperty(reader, handle);
+        return true;
+    }
+
+    /**
+     * Positions the reader at the encoded connections for the given property of the given node.
+     * 
+     * @return the property spec, or null if the node has no encoded connections.
+     */
+    NFPropertySpec positionReader(ByteArrayReader reader, String connectionModel, String nodeType, int ordinal, String propertyName) {
+        long pointer = pointers.getPointer(nodeType, ordinal);
+
+        if(pointer == -1)
+            return null;
+
+        reader.reposition(pointer);
+        return pointReaderAtProperty(reader, nodeType, propertyName, modelHolder.getModelIndex(connectionModel));
+    }
+
+    ByteData getData() {
+        return data;
+    }
+
+    /**
+     * @return the column for the given property, or null if the property is not specified with {@link NFPropertySpec#COLUMNAR}.
+     */
+    ConnectionColumn getColumn(String nodeType, String propertyName) {
+        if(columnsByNodeType.isEmpty())
+            return null;
+
+        Map<String, ConnectionColumn> nodeTypeColumns = columnsByNodeType.get(nodeType);
+        return nodeTypeColumns == null ? null : nodeTypeColumns.get(propertyName);
+    }
+
     NFCompressedGraphPointers getPointers() {
         return pointers;
     }
 
+    /**
+     * @return the number of bytes in a bit set representation of a set of connections for the given property.
+     */
+    int numBitSetBytes(NFPropertySpec propertySpec) {
+        int numBits = pointers.numPointers(propertySpec.getToNodeType());
+        return ((numBits - 1) / 8) + 1;
+    }
+
+    private static class InverseIndex {
+        private final NFPropertySpec spec;
+        private final int nodeTypeIndex;
+
+        private InverseIndex(NFPropertySpec spec, int nodeTypeIndex) {
+            this.spec = spec;
+            this.nodeTypeIndex = nodeTypeIndex;
+        }
+    }
+
+    NFCompressedGraphPropertyHandle compressedHandle(NFPropertyHandle property) {
+        if(!(property instanceof NFCompressedGraphPropertyHandle) || ((NFCompressedGraphPropertyHandle)property).getGraph() != this)
+            throw new NFGraphException("Property handle for " + property.getNodeType() + "." + property.getPropertySpec().getName() + " was not created by this graph");
+        return (NFCompressedGraphPropertyHandle)property;
+    }
+
     private OrdinalSet set(String nodeType, ByteArrayReader reader, NFPropertySpec propertySpec) {
-        if(propertySpec.isSingle())
-            return new SingleOrdinalSet(reader.readVInt());
+        return set(reader, propertySpec, UNRESOLVED_BIT_SET_SIZE);
+    }
+
+    private OrdinalSet set(ByteArrayReader reader, NFPropertySpec propertySpec, int numBitSetBytes) {
+        if(propertySpec.isSingle()) {
+            int connection = reader.readVInt();
+            return connection == -1 ? EMPTY_SET : new SingleOrdinalSet(connection);
+        }
+
+        if(propertySpec.isCounted())
+            return countedSet(reader);
 
         int size = reader.readVInt();
 
         if(size == -1) {
-            int numBits = pointers.numPointers(propertySpec.getToNodeType());
-            int numBytes = ((numBits - 1) / 8) + 1;
-            reader.setRemainingBytes(numBytes);
+            reader.setRemainingBytes(resolveBitSetBytes(propertySpec, numBitSetBytes));
             return new BitSetOrdinalSet(reader);
         }
 
+        if(size == NFCompressedSetEncoding.COUNTED_SET_MARKER)
+            return countedSet(reader);
+
         if(size == 0)
             return EMPTY_SET;
 
@@ -138,19 +548,70 @@ public class NFCompressedGraph extends NFGraph {
         return new CompactOrdinalSet(reader);
     }
 
+    private OrdinalSet countedSet(ByteArrayReader reader) {
+        long header = reader.readVLong();
+
+        if(header <= 0)
+            return EMPTY_SET;
+
+        int size = reader.readVInt();
+        reader.setRemainingBytes(NFCompressedSetEncoding.payloadLength(header));
+
+        switch(NFCompressedSetEncoding.encoding(header)) {
+        case NFCompressedSetEncoding.COMPACT:
+            return new CompactOrdinalSet(reader, size);
+        case NFCompressedSetEncoding.HASHED:
+            return new HashSetOrdinalSet(reader, size);
+        case NFCompressedSetEncoding.BIT_SET:
+            return new BitSetOrdinalSet(reader, size);
+        case NFCompressedSetEncoding.SKIP_COMPACT:
+            return new SkipCompactOrdinalSet(reader, size);
+        case NFCompressedSetEncoding.FIXED_HASH:
+            return new FixedWidthHashSetOrdinalSet(reader, size);
+        case NFCompressedSetEncoding.PARTITIONED:
+            return new PartitionedOrdinalSet(reader, size);
+        case NFCompressedSetEncoding.GROUP_VARINT:
+            return new GroupVarIntOrdinalSet(reader, size);
+        case NFCompressedSetEncoding.ELIAS_FANO:
+            return new EliasFanoOrdinalSet(reader, size);
+        case NFCompressedSetEncoding.RANGE_BIT_SET:
+            return new RangeBitSetOrdinalSet(reader, size);
+        case NFCompressedSetEncoding.BACK_REFERENCE:
+            reader.reposition(reader.readVLong());
+            return countedSet(reader);
+        default:
+            throw unknownEncoding(header);
+        }
+    }
+
+    private OrdinalSet columnSet(ConnectionColumn column, int ordinal) {
+        int connection = column.get(ordinal);
+        return connection == -1 ? EMPTY_SET : new SingleOrdinalSet(connection);
+    }
+
     private OrdinalIterator iterator(String nodeType, ByteArrayReader reader, NFPropertySpec propertySpec) {
-        if(propertySpec.isSingle())
-            return new SingleOrdinalIterator(reader.readVInt());
+        return iterator(reader, propertySpec, UNRESOLVED_BIT_SET_SIZE);
+    }
+
+    private OrdinalIterator iterator(ByteArrayReader reader, NFPropertySpec propertySpec, int numBitSetBytes) {
+        if(propertySpec.isSingle()) {
+            int connection = reader.readVInt();
+            return connection == -1 ? EMPTY_ITERATOR : new SingleOrdinalIterator(connection);
+        }
+
+        if(propertySpec.isCounted())
+            return countedSet(reader).iterator();
 
         int size = reader.readVInt();
 
         if(size == -1) {
-            int numBits = pointers.numPointers(propertySpec.getToNodeType());
-            int numBytes = ((numBits - 1) / 8) + 1;
-            reader.setRemainingBytes(numBytes);
+            reader.setRemainingBytes(resolveBitSetBytes(propertySpec, numBitSetBytes));
             return new BitSetOrdinalIterator(reader);
         }
 
+        if(size == NFCompressedSetEncoding.COUNTED_SET_MARKER)
+            return countedSet(reader).iterator();
+
         if(size == 0)
             return EMPTY_ITERATOR;
 
@@ -163,6 +624,25 @@ public class NFCompressedGraph extends NFGraph {
         return new CompactOrdinalIterator(reader);
     }
 
+    private int count(ByteArrayReader reader, NFPropertySpec propertySpec, int numBitSetBytes) {
+        if(propertySpec.isSingle())
+            return reader.readVInt() == -1 ? 0 : 1;
+
+        if(propertySpec.isCounted())
+            return countedSize(reader);
+
+        return set(reader, propertySpec, numBitSetBytes).size();
+    }
+
+    private int countedSize(ByteArrayReader reader) {
+        long header = reader.readVLong();
+        return header <= 0 ? 0 : reader.readVInt();
+    }
+
+    static NFGraphException unknownEncoding(long header) {
+        return new NFGraphException("Unknown connection set encoding " + NFCompressedSetEncoding.encoding(header));
+    }
+
     private ByteArrayReader reader(String nodeType, int ordinal) {
         long pointer = pointers.getPointer(nodeType, ordinal);
 
@@ -172,55 +652,130 @@ public class NFCompressedGraph extends NFGraph {
         return new ByteArrayReader(data, pointer);
     }
 
+    private ByteArrayReader reader(NFCompressedGraphPropertyHandle handle, int ordinal) {
+        long pointer = pointers.getPointer(handle.getNodeTypeIndex(), ordinal);
+
+        if(pointer == -1)
+            return null;
+
+        return new ByteArrayReader(data, pointer);
+    }
+
+    private void pointReaderAtProperty(ByteArrayReader reader, NFCompressedGraphPropertyHandle handle) {
+        NFPropertySpec propertySpecs[] = handle.getNodeSpec().getPropertySpecs();
+        int propertyPosition = handle.getPropertyPosition();
+
+        if(handle.getNodeSpec().hasPropertyOffsets()) {
+            jumpToProperty(reader, propertySpecs.length, propertyPosition);
+        } else {
+            for(int i=0;i<propertyPosition;i++) {
+                skipProperty(reader, propertySpecs[i], handle.numBitSetBytes(i));
+            }
+        }
+
+        if(propertySpecs[propertyPosition].isConnectionModelSpecific())
+            positionForModel(reader, handle.getConnectionModelIndex(), propertySpecs[propertyPosition], handle.numBitSetBytes(propertyPosition));
+    }
 
     private NFPropertySpec pointReaderAtProperty(ByteArrayReader reader, String nodeType, String propertyName, int connectionModelIndex) {
         NFNodeSpec nodeSpec = graphSpec.getNodeSpec(nodeType);
 
+        if(nodeSpec.hasPropertyOffsets())
+            return jumpToProperty(reader, nodeSpec, propertyName, connectionModelIndex);
+
         for (NFPropertySpec propertySpec : nodeSpec.getPropertySpecs()) {
             if (propertySpec.getName().equals(propertyName)) {
                 if(propertySpec.isConnectionModelSpecific())
-                    positionForModel(reader, connectionModelIndex, propertySpec);
+                    positionForModel(reader, connectionModelIndex, propertySpec, UNRESOLVED_BIT_SET_SIZE);
                 return propertySpec;
             } else {
-                skipProperty(reader, propertySpec);
+                skipProperty(reader, propertySpec, UNRESOLVED_BIT_SET_SIZE);
             }
         }
 
         throw new NFGraphException("Property " + propertyName + " is undefined for node type " + nodeType);
     }
 
-    private void positionForModel(ByteArrayReader reader, int connectionModelIndex, NFPropertySpec propertySpec) {
+    private NFPropertySpec jumpToProperty(ByteArrayReader reader, NFNodeSpec nodeSpec, String propertyName, int connectionModelIndex) {
+        NFPropertySpec propertySpecs[] = nodeSpec.getPropertySpecs();
+
+        for(int i=0;i<propertySpecs.length;i++) {
+            if(propertySpecs[i].getName().equals(propertyName)) {
+                jumpToProperty(reader, propertySpecs.length, i);
+                if(propertySpecs[i].isConnectionModelSpecific())
+                    positionForModel(reader, connectionModelIndex, propertySpecs[i], UNRESOLVED_BIT_SET_SIZE);
+                return propertySpecs[i];
+            }
+        }
+
+        throw new NFGraphException("Property " + propertyName + " is undefined for node type " + nodeSpec.getNodeTypeName());
+    }
+
+    /**
+     * Moves the reader from the start of a node written with {@link NFNodeSpec#PROPERTY_OFFSETS} to the property at the given position.
+     */
+    private void jumpToProperty(ByteArrayReader reader, int numProperties, int propertyPosition) {
+        if(numProperties <= 1)
+            return;
+
+        int offsetWidth = reader.readByte();
+
+        if(propertyPosition == 0) {
+            reader.skip((numProperties - 1) * offsetWidth);
+            return;
+        }
+
+        reader.skip((propertyPosition - 1) * offsetWidth);
+        long propertyOffset = reader.readFixedWidth(offsetWidth);
+        reader.skip((numProperties - 1 - propertyPosition) * offsetWidth + propertyOffset);
+    }
+
+    private void positionForModel(ByteArrayReader reader, int connectionModelIndex, NFPropertySpec propertySpec, int numBitSetBytes) {
         reader.setRemainingBytes(reader.readVInt());
 
         for(int i=0;i<connectionModelIndex;i++) {
-            skipSingleProperty(reader, propertySpec);
+            skipSingleProperty(reader, propertySpec, numBitSetBytes);
         }
     }
 
-    private void skipProperty(ByteArrayReader reader, NFPropertySpec propertySpec) {
+    /**
+     * A {@link NFPropertySpec#COLUMNAR} property occupies no bytes in a node's connections.
+     */
+    private void skipProperty(ByteArrayReader reader, NFPropertySpec propertySpec, int numBitSetBytes) {
+        if(propertySpec.isColumnar())
+            return;
+
         if(propertySpec.isConnectionModelSpecific()) {
             int size = reader.readVInt();
             reader.skip(size);
         } else {
-            skipSingleProperty(reader, propertySpec);
+            skipSingleProperty(reader, propertySpec, numBitSetBytes);
         }
     }
 
-    private void skipSingleProperty(ByteArrayReader reader, NFPropertySpec propertySpec) {
+    private void skipSingleProperty(ByteArrayReader reader, NFPropertySpec propertySpec, int numBitSetBytes) {
         if(propertySpec.isSingle()) {
             reader.readVInt();
             return;
         }
 
+        if(propertySpec.isCounted()) {
+            skipCountedSet(reader);
+            return;
+        }
+
         int size = reader.readVInt();
 
         if(size == 0)
             return;
 
+        if(size == NFCompressedSetEncoding.COUNTED_SET_MARKER) {
+            skipCountedSet(reader);
+            return;
+        }
+
         if(size == -1) {
-            int numBits = pointers.numPointers(propertySpec.getToNodeType());
-            int numBytes = ((numBits - 1) / 8) + 1;
-            reader.skip(numBytes);
+            reader.skip(resolveBitSetBytes(propertySpec, numBitSetBytes));
             return;
         }
 
@@ -232,14 +787,65 @@ public class NFCompressedGraph extends NFGraph {
         reader.skip(size);
     }
 
+    private void skipCountedSet(ByteArrayReader reader) {
+        long header = reader.readVLong();
+        if(header > 0) {
+            reader.readVInt();
+            reader.skip(NFCompressedSetEncoding.payloadLength(header));
+        }
+    }
+
+    /**
+     * Bit set sizes are looked up by node type name only when a bit set is encountered, unless already resolved by a property handle.
+     */
+    private int resolveBitSetBytes(NFPropertySpec propertySpec, int numBitSetBytes) {
+        if(numBitSetBytes == UNRESOLVED_BIT_SET_SIZE)
+            return numBitSetBytes(propertySpec);
+        return numBitSetBytes;
+    }
+
     public void writeTo(OutputStream os) throws IOException {
-        NFCompressedGraphSerializer serializer = new NFCompressedGraphSerializer(graphSpec, modelHolder, pointers, data, dataLength);
+        NFCompressedGraphSerializer serializer = new NFCompressedGraphSerializer(graphSpec, modelHolder, pointers, inversePointers, degrees, columns, data, dataLength);
         serializer.serializeTo(os);
     }
 
     public static NFCompressedGraph readFrom(InputStream is) throws IOException {
         return readFrom(is, null);
     }
+
+    /**
+     * Memory-map an NFCompressedGraph which was serialized to a file with {@link #writeTo(OutputStream)}.<p>
+     * 
+     * Only the spec, connection models, and pointers are read onto the heap.  The connection data is read in place from
+     * the operating system's page cache, which may be shared by any number of processes mapping the same file.<p>
+     * 
+     * The file is unmapped when {@link #destroy()} is called.  The graph must not be used afterwards.  The file must not
+     * be modified while it is mapped.
+     */
+    public static NFCompressedGraph mapFrom(Path path) throws IOException {
+        NFCompressedGraphDeserializer deserializer = new NFCompressedGraphDeserializer();
+        return deserializer.deserializeMapped(path);
+    }
+
+    /**
+     * Read an NFCompressedGraph, holding its pointers as {@link NFCompressedGraphPackedPointers}.<p>
+     * 
+     * The packed pointers usually require a fraction of the memory of int or long pointers, at the cost of a few additional operations for each lookup.
+     */
+    public static NFCompressedGraph readPackedFrom(InputStream is) throws IOException {
+        NFCompressedGraphDeserializer deserializer = new NFCompressedGraphDeserializer(true);
+        return deserializer.deserialize(is);
+    }
+
+    /**
+     * Read an NFCompressedGraph, holding its connection data outside of the Java heap.<p>
+     * 
+     * The off-heap memory is released when {@link #destroy()} is called.  The graph must not be used afterwards.
+     */
+    public static NFCompressedGraph readOffHeapFrom(InputStream is) throws IOException {
+        NFCompressedGraphDeserializer deserializer = new NFCompressedGraphDeserializer();
+        return deserializer.deserializeOffHeap(is);
+    }
     
     /**
      * When using a {@link ByteSegmentPool}, this method will borrow arrays used to construct the NFCompressedGraph from that pool.
@@ -255,6 +861,7 @@ public class NFCompressedGraph extends NFGraph {
     
     /**
      * When using a {@link ByteSegmentPool}, this method will return all borrowed arrays back to that pool.
+     * When the data is held off-heap, this method will release that memory.
      * <p>
      * Note that because the {@link ByteSegmentPool} is NOT thread-safe, this this call is also NOT thread-safe.
      * It is up to implementations to ensure that only a single update thread
@@ -263,6 +870,8 @@ public class NFCompressedGraph extends NFGraph {
     public void destroy() {
         if(data instanceof SegmentedByteArray)
             ((SegmentedByteArray) data).destroy();
+        else if(data instanceof SegmentedDirectByteArray)
+            ((SegmentedDirectByteArray) data).destroy();
     }
 
 }
@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.netflix.nfgraph.spec.NFPropertySpec;
+
+/**
+ * This class holds the {@link ConnectionColumn} for each property specified with {@link NFPropertySpec#COLUMNAR}.<p>
+ *
+ * Columns are keyed by the node type and property name, separated by a period.<p>
+ *
+ * It is unlikely that this class will need to be used externally.
+ */
+public class NFCompressedGraphColumns {
+
+    private final Map<String, ConnectionColumn> columns;
+
+    public NFCompressedGraphColumns() {
+        this.columns = new HashMap<String, ConnectionColumn>();
+    }
+
+    public void addColumn(String nodeType, String propertyName, ConnectionColumn column) {
+        columns.put(nodeType + "." + propertyName, column);
+    }
+
+    /**
+     * @return the column for the given property, or null if none was built.
+     */
+    public ConnectionColumn getColumn(String nodeType, String propertyName) {
+        if(columns.isEmpty())
+            return null;
+        return columns.get(nodeType + "." + propertyName);
+    }
+
+}
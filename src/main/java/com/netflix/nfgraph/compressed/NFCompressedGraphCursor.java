@@ -0,0 +1,470 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import com.netflix.nfgraph.NFGraphModelHolder;
+import com.netflix.nfgraph.NFPropertyHandle;
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.ByteArrayReader;
+
+/**
+ * A reusable view over the connections of a single property of a single node in an {@link NFCompressedGraph}.<p>
+ * 
+ * Each call to <code>getConnectionSet()</code> or <code>getConnectionIterator()</code> on an {@link NFCompressedGraph} allocates
+ * a reader and an {@link OrdinalSet} or {@link OrdinalIterator}.  A cursor instead is positioned at a node's connections, then iterated
+ * and probed in place.  Positioning, iterating, and probing a cursor does not allocate any objects:<p>
+ * 
+ * <pre>
+ * {@code
+ * NFCompressedGraphCursor cursor = graph.newCursor();
+ * NFPropertyHandle actors = graph.getPropertyHandle("Movie", "actors");
+ * 
+ * cursor.position(actors, movieOrdinal);
+ * 
+ * int actorOrdinal = cursor.nextOrdinal();
+ * while(actorOrdinal != NO_MORE_ORDINALS) {
+ *     ...
+ *     actorOrdinal = cursor.nextOrdinal();
+ * }
+ * }
+ * </pre>
+ * 
+ * A cursor is not thread-safe.  Each thread should obtain its own cursor with {@link NFCompressedGraph#newCursor()}, and reuse it.
+ */
+public class NFCompressedGraphCursor implements OrdinalIterator {
+
+    private static final int EMPTY = 0;
+    private static final int SINGLE = 1;
+    private static final int COMPACT = 2;
+    private static final int HASHED = 3;
+    private static final int BIT_SET = 4;
+    private static final int SKIP_COMPACT = 5;
+    private static final int FIXED_HASH = 6;
+    private static final int PARTITIONED = 7;
+    private static final int GROUP_VARINT = 8;
+    private static final int ELIAS_FANO = 9;
+    private static final int RANGE_BIT_SET = 10;
+
+    private static final int UNKNOWN_SIZE = -1;
+
+    private final NFCompressedGraph graph;
+    private final ByteArrayReader reader;
+
+    private final CompactOrdinalIterator compactIterator;
+    private final BitSetOrdinalIterator bitSetIterator;
+    private final BitSetOrdinalSet bitSet;
+    private final HashSetOrdinalSet hashSet;
+    private HashSetOrdinalIterator hashSetIterator;
+    private SkipCompactOrdinalIterator skipCompactIterator;
+    private FixedWidthHashSetOrdinalIterator fixedHashIterator;
+    private PartitionedOrdinalIterator partitionedIterator;
+    private GroupVarIntOrdinalIterator groupVarIntIterator;
+    private EliasFanoOrdinalIterator eliasFanoIterator;
+    private RangeBitSetOrdinalIterator rangeBitSetIterator;
+
+    private int encoding;
+    private int size;
+    private int singleOrdinal;
+    private boolean singleReturned;
+
+    NFCompressedGraphCursor(NFCompressedGraph graph) {
+        this.graph = graph;
+        this.reader = new ByteArrayReader(graph.getData(), 0);
+        this.compactIterator = new CompactOrdinalIterator(reader);
+        this.bitSetIterator = new BitSetOrdinalIterator(reader);
+        this.bitSet = new BitSetOrdinalSet(reader);
+        this.hashSet = new HashSetOrdinalSet(reader);
+        this.encoding = EMPTY;
+    }
+
+    /**
+     * Position this cursor at the connections for the given property of the node with the given ordinal.
+     * 
+     * @return this cursor
+     */
+    public NFCompressedGraphCursor position(NFPropertyHandle property, int ordinal) {
+        NFCompressedGraphPropertyHandle handle = graph.compressedHandle(property);
+        ConnectionColumn column = handle.getColumn();
+
+        if(column != null)
+            positionAtSingle(column.get(ordinal));
+        else if(graph.positionReader(reader, handle, ordinal))
+            positionAtEncoding(handle.getPropertySpec(), handle.numBitSetBytes(handle.getPropertyPosition()));
+        else
+            encoding = EMPTY;
+        return this;
+    }
+
+    /**
+     * Position this cursor at the connections for the given property of the node with the given type and ordinal.
+     * 
+     * @return this cursor
+     */
+    public NFCompressedGraphCursor position(String nodeType, int ordinal, String propertyName) {
+        return position(NFGraphModelHolder.CONNECTION_MODEL_GLOBAL, nodeType, ordinal, propertyName);
+    }
+
+    /**
+     * Position this cursor at the connections for the given property of the node with the given type and ordinal, in the given connection model.
+     * 
+     * @return this cursor
+     */
+    public NFCompressedGraphCursor position(String connectionModel, String nodeType, int ordinal, String propertyName) {
+        ConnectionColumn column = graph.getColumn(nodeType, propertyName);
+
+        if(column != null) {
+            positionAtSingle(column.get(ordinal));
+            return this;
+        }
+
+        NFPropertySpec propertySpec = graph.positionReader(reader, connectionModel, nodeType, ordinal, propertyName);
+        if(propertySpec != null)
+            positionAtEncoding(propertySpec, graph.numBitSetBytes(propertySpec));
+        else
+            encoding = EMPTY;
+        return this;
+    }
+
+    /**
+     * @return the next connected ordinal, or {@link OrdinalIterator#NO_MORE_ORDINALS} once all connections have been returned.
+     */
+    @Override
+    public int nextOrdinal() {
+        switch(encoding) {
+        case SINGLE:
+            if(singleReturned)
+                return NO_MORE_ORDINALS;
+            singleReturned = true;
+            return singleOrdinal;
+        case COMPACT:
+            return compactIterator.nextOrdinal();
+        case HASHED:
+            return hashSetIterator.nextOrdinal();
+        case BIT_SET:
+            return bitSetIterator.nextOrdinal();
+        case SKIP_COMPACT:
+            return skipCompactIterator.nextOrdinal();
+        case FIXED_HASH:
+            return fixedHashIterator.nextOrdinal();
+        case PARTITIONED:
+            return partitionedIterator.nextOrdinal();
+        case GROUP_VARINT:
+            return groupVarIntIterator.nextOrdinal();
+        case ELIAS_FANO:
+            return eliasFanoIterator.nextOrdinal();
+        case RANGE_BIT_SET:
+            return rangeBitSetIterator.nextOrdinal();
+        default:
+            return NO_MORE_ORDINALS;
+        }
+    }
+
+    /**
+     * Rewinds this cursor to the first connection at its current position.
+     */
+    @Override
+    public void reset() {
+        switch(encoding) {
+        case SINGLE:
+            singleReturned = false;
+            break;
+        case COMPACT:
+            compactIterator.reset();
+            break;
+        case HASHED:
+            hashSetIterator.reset();
+            break;
+        case BIT_SET:
+            bitSetIterator.reset();
+            break;
+        case SKIP_COMPACT:
+            skipCompactIterator.reset();
+            break;
+        case FIXED_HASH:
+            fixedHashIterator.reset();
+            break;
+        case PARTITIONED:
+            partitionedIterator.reset();
+            break;
+        case GROUP_VARINT:
+            groupVarIntIterator.reset();
+            break;
+        case ELIAS_FANO:
+            eliasFanoIterator.reset();
+            break;
+        case RANGE_BIT_SET:
+            rangeBitSetIterator.reset();
+            break;
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the given ordinal is connected at this cursor's current position.  This does not affect iteration.
+     */
+    public boolean contains(int value) {
+        switch(encoding) {
+        case SINGLE:
+            return singleOrdinal == value;
+        case COMPACT:
+            return compactContains(value);
+        case HASHED:
+            return hashSet.contains(value);
+        case BIT_SET:
+            return bitSet.contains(value);
+        case SKIP_COMPACT:
+            return skipCompactIterator.contains(value);
+        case FIXED_HASH:
+            return fixedHashIterator.contains(value);
+        case PARTITIONED:
+            return partitionedIterator.contains(value);
+        case GROUP_VARINT:
+            return groupVarIntIterator.contains(value);
+        case ELIAS_FANO:
+            return eliasFanoIterator.contains(value);
+        case RANGE_BIT_SET:
+            return rangeBitSetIterator.contains(value);
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * @return the number of connections at this cursor's current position.  This does not affect iteration.
+     */
+    public int size() {
+        switch(encoding) {
+        case SINGLE:
+            return 1;
+        case COMPACT:
+            return size != UNKNOWN_SIZE ? size : countTerminalBytes(false);
+        case HASHED:
+            return size != UNKNOWN_SIZE ? size : countTerminalBytes(true);
+        case BIT_SET:
+            return size != UNKNOWN_SIZE ? size : bitSet.size();
+        case SKIP_COMPACT:
+        case FIXED_HASH:
+        case PARTITIONED:
+        case GROUP_VARINT:
+        case ELIAS_FANO:
+        case RANGE_BIT_SET:
+            return size;
+        default:
+            return 0;
+        }
+    }
+
+    /**
+     * Obtain an iterator over the connections at this cursor's current position.  Unlike the cursor itself, this allocates a new iterator.
+     */
+    @Override
+    public OrdinalIterator copy() {
+        switch(encoding) {
+        case SINGLE:
+            return new SingleOrdinalIterator(singleOrdinal);
+        case COMPACT:
+            return new CompactOrdinalIterator(reader.copy());
+        case HASHED:
+            return new HashSetOrdinalIterator(reader.copy());
+        case BIT_SET:
+            return new BitSetOrdinalIterator(reader.copy());
+        case SKIP_COMPACT:
+            return new SkipCompactOrdinalIterator(reader.copy());
+        case FIXED_HASH:
+            return new FixedWidthHashSetOrdinalIterator(reader.copy());
+        case PARTITIONED:
+            return new PartitionedOrdinalIterator(reader.copy());
+        case GROUP_VARINT:
+            return new GroupVarIntOrdinalIterator(reader.copy(), size);
+        case ELIAS_FANO:
+            return new EliasFanoOrdinalIterator(reader.copy(), size);
+        case RANGE_BIT_SET:
+            return new RangeBitSetOrdinalIterator(reader.copy());
+        default:
+            return EMPTY_ITERATOR;
+        }
+    }
+
+    /**
+     * @return <code>false</code> if the connections at this cursor's current position are hashed, <code>true</code> otherwise.
+     */
+    @Override
+    public boolean isOrdered() {
+        return encoding != HASHED && encoding != FIXED_HASH;
+    }
+
+    private void positionAtEncoding(NFPropertySpec propertySpec, int numBitSetBytes) {
+        if(propertySpec.isSingle()) {
+            positionAtSingle(reader.readVInt());
+            return;
+        }
+
+        size = UNKNOWN_SIZE;
+
+        if(propertySpec.isCounted()) {
+            positionAtCountedEncoding();
+            return;
+        }
+
+        int header = reader.readVInt();
+
+        if(header == -1) {
+            reader.setRemainingBytes(numBitSetBytes);
+            positionAtBitSet();
+        } else if(header == NFCompressedSetEncoding.COUNTED_SET_MARKER) {
+            positionAtCountedEncoding();
+        } else if(header == 0) {
+            encoding = EMPTY;
+        } else if(propertySpec.isHashed()) {
+            reader.setRemainingBytes(1 << (header - 1));
+            positionAtHashSet();
+        } else {
+            reader.setRemainingBytes(header);
+            positionAtCompactSet();
+        }
+    }
+
+    private void positionAtSingle(int ordinal) {
+        singleOrdinal = ordinal;
+        singleReturned = false;
+        encoding = ordinal == -1 ? EMPTY : SINGLE;
+    }
+
+    private void positionAtCountedEncoding() {
+        long header = reader.readVLong();
+
+        if(header <= 0) {
+            encoding = EMPTY;
+            return;
+        }
+
+        size = reader.readVInt();
+        reader.setRemainingBytes(NFCompressedSetEncoding.payloadLength(header));
+
+        switch(NFCompressedSetEncoding.encoding(header)) {
+        case NFCompressedSetEncoding.COMPACT:
+            positionAtCompactSet();
+            break;
+        case NFCompressedSetEncoding.HASHED:
+            positionAtHashSet();
+            break;
+        case NFCompressedSetEncoding.BIT_SET:
+            positionAtBitSet();
+            break;
+        case NFCompressedSetEncoding.SKIP_COMPACT:
+            if(skipCompactIterator == null)
+                skipCompactIterator = new SkipCompactOrdinalIterator(reader);
+            else
+                skipCompactIterator.reinitialize();
+            encoding = SKIP_COMPACT;
+            break;
+        case NFCompressedSetEncoding.FIXED_HASH:
+            if(fixedHashIterator == null)
+                fixedHashIterator = new FixedWidthHashSetOrdinalIterator(reader);
+            else
+                fixedHashIterator.reinitialize();
+            encoding = FIXED_HASH;
+            break;
+        case NFCompressedSetEncoding.PARTITIONED:
+            if(partitionedIterator == null)
+                partitionedIterator = new PartitionedOrdinalIterator(reader);
+            else
+                partitionedIterator.reinitialize();
+            encoding = PARTITIONED;
+            break;
+        case NFCompressedSetEncoding.GROUP_VARINT:
+            if(groupVarIntIterator == null)
+                groupVarIntIterator = new GroupVarIntOrdinalIterator(reader, size);
+            else
+                groupVarIntIterator.reinitialize(size);
+            encoding = GROUP_VARINT;
+            break;
+        case NFCompressedSetEncoding.ELIAS_FANO:
+            if(eliasFanoIterator == null)
+                eliasFanoIterator = new EliasFanoOrdinalIterator(reader, size);
+            else
+                eliasFanoIterator.reinitialize(size);
+            encoding = ELIAS_FANO;
+            break;
+        case NFCompressedSetEncoding.RANGE_BIT_SET:
+            if(rangeBitSetIterator == null)
+                rangeBitSetIterator = new RangeBitSetOrdinalIterator(reader);
+            else
+                rangeBitSetIterator.reinitialize();
+            encoding = RANGE_BIT_SET;
+            break;
+        case NFCompressedSetEncoding.BACK_REFERENCE:
+            reader.reposition(reader.readVLong());
+            positionAtCountedEncoding();
+            break;
+        default:
+            throw NFCompressedGraph.unknownEncoding(header);
+        }
+    }
+
+    private void positionAtCompactSet() {
+        compactIterator.reset();
+        encoding = COMPACT;
+    }
+
+    private void positionAtHashSet() {
+        if(hashSetIterator == null)
+            hashSetIterator = new HashSetOrdinalIterator(reader);
+        else
+            hashSetIterator.reinitialize();
+        encoding = HASHED;
+    }
+
+    private void positionAtBitSet() {
+        bitSetIterator.reset();
+        encoding = BIT_SET;
+    }
+
+    private boolean compactContains(int value) {
+        int currentOrdinal = 0;
+        int offset = 0;
+
+        while(offset < reader.length()) {
+            byte b = reader.getByte(offset++);
+            int delta = b & 0x7F;
+            while((b & 0x80) != 0) {
+                b = reader.getByte(offset++);
+                delta = (delta << 7) | (b & 0x7F);
+            }
+
+            currentOrdinal += delta;
+            if(currentOrdinal >= value)
+                return currentOrdinal == value;
+        }
+
+        return false;
+    }
+
+    /// Each variable-byte integer ends with a byte which has an unset sign bit.  Empty hash buckets are zero.
+    private int countTerminalBytes(boolean skipEmptyBuckets) {
+        int counter = 0;
+        for(int i=0;i<reader.length();i++) {
+            byte b = reader.getByte(i);
+            if((b & 0x80) == 0 && (b != 0 || !skipEmptyBuckets))
+                counter++;
+        }
+        return counter;
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.netflix.nfgraph.spec.NFPropertySpec;
+
+/**
+ * This class holds the {@link DegreeColumn}s for each property specified with {@link NFPropertySpec#DEGREES}.<p>
+ *
+ * Columns are keyed by the node type and property name, separated by a period.  A global property has a single column.  A model-specific
+ * property has a column for each connection model, indexed by the connection model's index.<p>
+ *
+ * It is unlikely that this class will need to be used externally.
+ */
+public class NFCompressedGraphDegrees {
+
+    private final Map<String, DegreeColumn[]> columns;
+
+    public NFCompressedGraphDegrees() {
+        this.columns = new HashMap<String, DegreeColumn[]>();
+    }
+
+    public void addColumns(String nodeType, String propertyName, DegreeColumn columnsByModel[]) {
+        columns.put(nodeType + "." + propertyName, columnsByModel);
+    }
+
+    /**
+     * @return the column for the given property and connection model, or null if none was built.
+     */
+    public DegreeColumn getColumn(String nodeType, String propertyName, int connectionModelIndex) {
+        DegreeColumn columnsByModel[] = columns.get(nodeType + "." + propertyName);
+        if(columnsByModel == null)
+            return null;
+        if(columnsByModel.length == 1)
+            return columnsByModel[0];
+        return connectionModelIndex < columnsByModel.length ? columnsByModel[connectionModelIndex] : null;
+    }
+
+    /**
+     * @return the columns for the given property, indexed by connection model, or null if none were built.
+     */
+    public DegreeColumn[] getColumns(String nodeType, String propertyName) {
+        return columns.get(nodeType + "." + propertyName);
+    }
+
+}
@@ -17,6 +17,7 @@
 
 package com.netflix.nfgraph.compressed;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -33,9 +34,13 @@ import com.netflix.nfgraph.exception.NFGraphException;
 public class NFCompressedGraphIntPointers implements NFCompressedGraphPointers {
 
     private final Map<String, int[]>pointersByOrdinal;
+    private final Map<String, Integer>nodeTypeIndexes;
+    private int pointersByNodeTypeIndex[][];
 
     public NFCompressedGraphIntPointers() {
         this.pointersByOrdinal = new HashMap<String, int[]>();
+        this.nodeTypeIndexes = new HashMap<String, Integer>();
+        this.pointersByNodeTypeIndex = new int[0][];
     }
 
     /**
@@ -53,8 +58,35 @@ public class NFCompressedGraphIntPointers implements NFCompressedGraphPointers {
         return -1;
     }
 
+    @Override
+    public int getNodeTypeIndex(String nodeType) {
+        Integer nodeTypeIndex = nodeTypeIndexes.get(nodeType);
+        if(nodeTypeIndex == null)
+            throw new NFGraphException("Undefined node type: " + nodeType);
+        return nodeTypeIndex.intValue();
+    }
+
+    @Override
+    public long getPointer(int nodeTypeIndex, int ordinal) {
+        int pointers[] = pointersByNodeTypeIndex[nodeTypeIndex];
+        if(ordinal < pointers.length) {
+            if(pointers[ordinal] == -1)
+                return -1;
+            return 0xFFFFFFFFL & pointers[ordinal];
+        }
+        return -1;
+    }
+
     public void addPointers(String nodeType, int pointers[]) {
         pointersByOrdinal.put(nodeType, pointers);
+
+        Integer nodeTypeIndex = nodeTypeIndexes.get(nodeType);
+        if(nodeTypeIndex == null) {
+            nodeTypeIndex = Integer.valueOf(pointersByNodeTypeIndex.length);
+            nodeTypeIndexes.put(nodeType, nodeTypeIndex);
+            pointersByNodeTypeIndex = Arrays.copyOf(pointersByNodeTypeIndex, pointersByNodeTypeIndex.length + 1);
+        }
+        pointersByNodeTypeIndex[nodeTypeIndex.intValue()] = pointers;
     }
 
     public int numPointers(String nodeType) {
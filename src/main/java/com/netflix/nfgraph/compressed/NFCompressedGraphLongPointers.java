@@ -17,6 +17,7 @@
 
 package com.netflix.nfgraph.compressed;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -33,9 +34,13 @@ import com.netflix.nfgraph.exception.NFGraphException;
 public class NFCompressedGraphLongPointers implements NFCompressedGraphPointers {
 
     private final Map<String, long[]>pointersByOrdinal;
+    private final Map<String, Integer>nodeTypeIndexes;
+    private long pointersByNodeTypeIndex[][];
 
     public NFCompressedGraphLongPointers() {
         this.pointersByOrdinal = new HashMap<String, long[]>();
+        this.nodeTypeIndexes = new HashMap<String, Integer>();
+        this.pointersByNodeTypeIndex = new long[0][];
     }
 
     /**
@@ -50,8 +55,32 @@ public class NFCompressedGraphLongPointers implements NFCompressedGraphPointers
         return -1;
     }
 
+    @Override
+    public int getNodeTypeIndex(String nodeType) {
+        Integer nodeTypeIndex = nodeTypeIndexes.get(nodeType);
+        if(nodeTypeIndex == null)
+            throw new NFGraphException("Undefined node type: " + nodeType);
+        return nodeTypeIndex.intValue();
+    }
+
+    @Override
+    public long getPointer(int nodeTypeIndex, int ordinal) {
+        long pointers[] = pointersByNodeTypeIndex[nodeTypeIndex];
+        if(ordinal < pointers.length)
+            return pointers[ordinal];
+        return -1;
+    }
+
     public void addPointers(String nodeType, long pointers[]) {
         pointersByOrdinal.put(nodeType, pointers);
+
+        Integer nodeTypeIndex = nodeTypeIndexes.get(nodeType);
+        if(nodeTypeIndex == null) {
+            nodeTypeIndex = Integer.valueOf(pointersByNodeTypeIndex.length);
+            nodeTypeIndexes.put(nodeType, nodeTypeIndex);
+            pointersByNodeTypeIndex = Arrays.copyOf(pointersByNodeTypeIndex, pointersByNodeTypeIndex.length + 1);
+        }
+        pointersByNodeTypeIndex[nodeTypeIndex.intValue()] = pointers;
     }
 
     public int numPointers(String nodeType) {
@@ -0,0 +1,105 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.netflix.nfgraph.exception.NFGraphException;
+import com.netflix.nfgraph.serializer.NFCompressedGraphPointersDeserializer;
+import com.netflix.nfgraph.util.PackedPointerArray;
+
+/**
+ * This class holds all of the offsets into the {@link NFCompressedGraph}'s byte array.<p>
+ *
+ * This class maintains a mapping of type name to {@link PackedPointerArray}.  Each pointer is held as a bit-packed offset from an absolute 
+ * anchor which is shared by a block of 64 ordinals, so that a pointer usually requires far fewer than the 32 or 64 bits held by the 
+ * {@link NFCompressedGraphIntPointers} or {@link NFCompressedGraphLongPointers}.  Node types in which few ordinals have connections are 
+ * held sparsely, without a packed offset for each absent node.  The pointers are built directly from their serialized form by the 
+ * {@link NFCompressedGraphPointersDeserializer}.<p>
+ *
+ * It is unlikely that this class will need to be used externally.
+ */
+public class NFCompressedGraphPackedPointers implements NFCompressedGraphPointers {
+
+    private final Map<String, PackedPointerArray>pointersByOrdinal;
+    private final Map<String, Integer>nodeTypeIndexes;
+    private PackedPointerArray pointersByNodeTypeIndex[];
+
+    public NFCompressedGraphPackedPointers() {
+        this.pointersByOrdinal = new HashMap<String, PackedPointerArray>();
+        this.nodeTypeIndexes = new HashMap<String, Integer>();
+        this.pointersByNodeTypeIndex = new PackedPointerArray[0];
+    }
+
+    /**
+     * @return the offset into the {@link NFCompressedGraph}'s byte array for the node identified by the given type and ordinal.
+     */
+    public long getPointer(String nodeType, int ordinal) {
+        PackedPointerArray pointers = pointersByOrdinal.get(nodeType);
+        if(pointers == null)
+            throw new NFGraphException("Undefined node type: " + nodeType);
+        return pointers.get(ordinal);
+    }
+
+    @Override
+    public int getNodeTypeIndex(String nodeType) {
+        Integer nodeTypeIndex = nodeTypeIndexes.get(nodeType);
+        if(nodeTypeIndex == null)
+            throw new NFGraphException("Undefined node type: " + nodeType);
+        return nodeTypeIndex.intValue();
+    }
+
+    @Override
+    public long getPointer(int nodeTypeIndex, int ordinal) {
+        return pointersByNodeTypeIndex[nodeTypeIndex].get(ordinal);
+    }
+
+    public void addPointers(String nodeType, long pointers[]) {
+        addPointers(nodeType, PackedPointerArray.pack(pointers));
+    }
+
+    public void addPointers(String nodeType, PackedPointerArray pointers) {
+        pointersByOrdinal.put(nodeType, pointers);
+
+        Integer nodeTypeIndex = nodeTypeIndexes.get(nodeType);
+        if(nodeTypeIndex == null) {
+            nodeTypeIndex = Integer.valueOf(pointersByNodeTypeIndex.length);
+            nodeTypeIndexes.put(nodeType, nodeTypeIndex);
+            pointersByNodeTypeIndex = Arrays.copyOf(pointersByNodeTypeIndex, pointersByNodeTypeIndex.length + 1);
+        }
+        pointersByNodeTypeIndex[nodeTypeIndex.intValue()] = pointers;
+    }
+
+    public int numPointers(String nodeType) {
+        return pointersByOrdinal.get(nodeType).size();
+    }
+
+    @Override
+    public Map<String, long[]> asMap() {
+        Map<String, long[]> map = new HashMap<String, long[]>();
+
+        for(Map.Entry<String, PackedPointerArray> entry : pointersByOrdinal.entrySet()) {
+            map.put(entry.getKey(), entry.getValue().toArray());
+        }
+
+        return map;
+    }
+
+}
@@ -21,10 +21,22 @@ import java.util.Map;
 public interface NFCompressedGraphPointers {
 
     /**
-     * @return the offset into the {@link NFCompressedGraph}'s byte array for the node identified by the given type and ordinal.
+     * @return the offset into the {@link NFCompressedGraph}'s byte array for the node identified by the given type and ordinal, or -1 if the node
+     * does not exist or has no connections.
      */
     public long getPointer(String nodeType, int ordinal);
 
+    /**
+     * @return an index identifying the given node type, which may be passed to {@link #getPointer(int, int)} to avoid resolving the node type on each lookup.
+     */
+    public int getNodeTypeIndex(String nodeType);
+
+    /**
+     * @return the offset into the {@link NFCompressedGraph}'s byte array for the node identified by the given node type index and ordinal, or -1 if the node
+     * does not exist or has no connections.
+     */
+    public long getPointer(int nodeTypeIndex, int ordinal);
+
     public int numPointers(String nodeType);
 
     public Map<String, long[]> asMap();
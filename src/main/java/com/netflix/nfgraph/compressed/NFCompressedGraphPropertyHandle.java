@@ -0,0 +1,73 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import com.netflix.nfgraph.NFPropertyHandle;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+
+/**
+ * An {@link NFPropertyHandle} created by an {@link NFCompressedGraph}.  In addition to the property specification, this handle holds the
+ * index of the node type in the {@link NFCompressedGraphPointers}, the bit set size of each property's target node type, and the
+ * {@link ConnectionColumn} of a {@link NFPropertySpec#COLUMNAR} property, so that no lookups by name are required when retrieving connections.
+ */
+class NFCompressedGraphPropertyHandle extends NFPropertyHandle {
+
+    private final NFCompressedGraph graph;
+    private final int nodeTypeIndex;
+    private final int numBitSetBytes[];
+    private final ConnectionColumn column;
+
+    NFCompressedGraphPropertyHandle(NFCompressedGraph graph, NFNodeSpec nodeSpec, int propertyPosition, int connectionModelIndex) {
+        super(nodeSpec, propertyPosition, connectionModelIndex);
+        this.graph = graph;
+        this.nodeTypeIndex = graph.getPointers().getNodeTypeIndex(nodeSpec.getNodeTypeName());
+
+        NFPropertySpec propertySpecs[] = nodeSpec.getPropertySpecs();
+        this.numBitSetBytes = new int[propertyPosition + 1];
+        for(int i=0;i<=propertyPosition;i++) {
+            if(propertySpecs[i].isMultiple())
+                numBitSetBytes[i] = graph.numBitSetBytes(propertySpecs[i]);
+        }
+
+        this.column = propertySpecs[propertyPosition].isColumnar() ? graph.getColumn(nodeSpec.getNodeTypeName(), propertySpecs[propertyPosition].getName()) : null;
+    }
+
+    NFCompressedGraph getGraph() {
+        return graph;
+    }
+
+    int getNodeTypeIndex() {
+        return nodeTypeIndex;
+    }
+
+    /**
+     * @return the column holding the connections of this property, or null if it is not specified with {@link NFPropertySpec#COLUMNAR}.
+     */
+    ConnectionColumn getColumn() {
+        return column;
+    }
+
+    /**
+     * @return the number of bytes in a bit set representation of the property at the given position.
+     */
+    int numBitSetBytes(int propertyPosition) {
+        return numBitSetBytes[propertyPosition];
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import com.netflix.nfgraph.compressor.NFCompressedGraphBuilder;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+
+/**
+ * The encodings of a connection set for a property specified with {@link NFPropertySpec#COUNTED}.<p>
+ *
+ * Each such set begins with a variable-byte header.  An empty set is a header of zero.  Otherwise, the header holds the length
+ * of the encoded ordinals in its upper bits, and the encoding in its lowest four bits.  It is followed by the number of ordinals in the 
+ * set as a variable-byte integer, then the encoded ordinals.  The size of a set may therefore be read without decoding its ordinals, and 
+ * a set may be skipped without knowing how its ordinals are encoded.<p>
+ *
+ * It is unlikely that this class will need to be used externally.
+ *
+ * @see NFCompressedGraphBuilder
+ */
+public class NFCompressedSetEncoding {
+
+    /**
+     * The ordinals are encoded as in a {@link CompactOrdinalSet}.
+     */
+    public static final int COMPACT = 1;
+
+    /**
+     * The ordinals are encoded as in a {@link HashSetOrdinalSet}.
+     */
+    public static final int HASHED = 2;
+
+    /**
+     * The ordinals are encoded as in a {@link BitSetOrdinalSet}.
+     */
+    public static final int BIT_SET = 3;
+
+    /**
+     * The ordinals are encoded as in a {@link SkipCompactOrdinalSet}.
+     */
+    public static final int SKIP_COMPACT = 4;
+
+    /**
+     * The ordinals are encoded as in a {@link FixedWidthHashSetOrdinalSet}.
+     */
+    public static final int FIXED_HASH = 5;
+
+    /**
+     * The ordinals are encoded as in a {@link PartitionedOrdinalSet}.
+     */
+    public static final int PARTITIONED = 6;
+
+    /**
+     * The ordinals are encoded as in a {@link GroupVarIntOrdinalSet}.
+     */
+    public static final int GROUP_VARINT = 7;
+
+    /**
+     * The ordinals are encoded as in an {@link EliasFanoOrdinalSet}.
+     */
+    public static final int ELIAS_FANO = 8;
+
+    /**
+     * The set is identical to a set written earlier in the graph's data.  The encoded bytes hold the offset of the earlier set's 
+     * header as a variable-byte long, and the set is read from there.
+     *
+     * @see NFPropertySpec#DEDUPLICATED
+     */
+    public static final int BACK_REFERENCE = 9;
+
+    /**
+     * The ordinals are encoded as in a {@link RangeBitSetOrdinalSet}.
+     */
+    public static final int RANGE_BIT_SET = 10;
+
+    /**
+     * In a property which is not {@link NFPropertySpec#COUNTED}, a set whose size is written as this value is followed by a header and 
+     * count, and encoded as it would be in a counted property.  No compact, hashed, or bit set encoding begins with this size.<p>
+     * 
+     * The large sets of a {@link NFPropertySpec#SKIP_INDEXED} property are written this way, so that every other set of the property 
+     * is written exactly as it would be without a skip index.
+     */
+    public static final int COUNTED_SET_MARKER = -2;
+
+    private NFCompressedSetEncoding() { }
+
+    /**
+     * @return the header for a non-empty set with the given encoding and number of encoded bytes.
+     */
+    public static long header(int encoding, long payloadLength) {
+        return (payloadLength << 4) | encoding;
+    }
+
+    /**
+     * @return the encoding recorded in the given header.
+     */
+    public static int encoding(long header) {
+        return (int)(header & 0x0F);
+    }
+
+    /**
+     * @return the number of encoded bytes recorded in the given header.
+     */
+    public static int payloadLength(long header) {
+        return (int)(header >>> 4);
+    }
+
+}
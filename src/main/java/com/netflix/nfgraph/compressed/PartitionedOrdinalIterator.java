@@ -0,0 +1,290 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import static com.netflix.nfgraph.compressed.PartitionedOrdinalSet.ARRAY_CONTAINER;
+import static com.netflix.nfgraph.compressed.PartitionedOrdinalSet.BITMAP_CONTAINER;
+import static com.netflix.nfgraph.compressed.PartitionedOrdinalSet.CHUNK_BITS;
+import static com.netflix.nfgraph.compressed.PartitionedOrdinalSet.DIRECTORY_ENTRY_SIZE;
+
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.SeekableOrdinalIterator;
+import com.netflix.nfgraph.util.ByteArrayReader;
+
+/**
+ * An implementation of {@link OrdinalIterator} returned for ordinals represented as partitioned containers in an {@link NFCompressedGraph}.<p>
+ *
+ * {@link #advance(int)} binary searches the directory for the target's chunk, then seeks within that chunk's container.
+ *
+ * @see PartitionedOrdinalSet
+ */
+public class PartitionedOrdinalIterator implements SeekableOrdinalIterator {
+
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+    private final ByteArrayReader reader;
+
+    private int numContainers;
+    private int directoryStart;
+    private int dataStart;
+
+    private int container;
+    private int containerKey;
+    private int containerType;
+    private int containerCardinality;
+    private int containerOffset;
+
+    /// the position within the current container:  an array index, a bit index, or a run index
+    private int position;
+    /// the position within the current run, for run containers
+    private int runPosition;
+
+    public PartitionedOrdinalIterator(ByteArrayReader reader) {
+        this.reader = reader;
+        reinitialize();
+    }
+
+    /**
+     * Reads the directory header again, after the underlying reader has been repositioned.
+     */
+    void reinitialize() {
+        int offset = 0;
+        int value = 0;
+        byte b;
+        do {
+            b = reader.getByte(offset++);
+            value = (value << 7) | (b & 0x7F);
+        } while((b & 0x80) != 0);
+
+        numContainers = value;
+        directoryStart = offset;
+        dataStart = directoryStart + numContainers * DIRECTORY_ENTRY_SIZE;
+        reset();
+    }
+
+    @Override
+    public int nextOrdinal() {
+        while(container < numContainers) {
+            int low = nextInContainer();
+            if(low != -1)
+                return (containerKey << CHUNK_BITS) | low;
+            loadContainer(container + 1);
+        }
+        return NO_MORE_ORDINALS;
+    }
+
+    @Override
+    public int advance(int target) {
+        if(container >= numContainers)
+            return NO_MORE_ORDINALS;
+
+        int key = target >>> CHUNK_BITS;
+
+        if(containerKey < key) {
+            loadContainer(findContainer(key, container + 1));
+            if(container >= numContainers)
+                return NO_MORE_ORDINALS;
+        }
+
+        if(containerKey == key)
+            seekInContainer(target & (CHUNK_SIZE - 1));
+
+        return nextOrdinal();
+    }
+
+    @Override
+    public void reset() {
+        loadContainer(0);
+    }
+
+    @Override
+    public PartitionedOrdinalIterator copy() {
+        return new PartitionedOrdinalIterator(reader.copy());
+    }
+
+    /**
+     * @return true if the given ordinal is in this set.  This does not affect iteration.
+     */
+    boolean contains(int value) {
+        if(value < 0)
+            return false;
+
+        int entry = findContainer(value >>> CHUNK_BITS, 0);
+        if(entry >= numContainers || entryKey(entry) != value >>> CHUNK_BITS)
+            return false;
+
+        int entryStart = directoryStart + entry * DIRECTORY_ENTRY_SIZE;
+        int offset = dataStart + (int)readFixedWidth(entryStart + 5, 4);
+        int low = value & (CHUNK_SIZE - 1);
+
+        switch(reader.getByte(entryStart + 2)) {
+        case ARRAY_CONTAINER:
+            int cardinality = (int)readFixedWidth(entryStart + 3, 2) + 1;
+            int index = findArrayIndex(offset, 0, cardinality, low);
+            return index < cardinality && readShort(offset + index * 2) == low;
+        case BITMAP_CONTAINER:
+            return (reader.getByte(offset + (low >>> 3)) & (1 << (low & 0x07))) != 0;
+        default:
+            int run = findRun(offset, low);
+            return run >= 0 && low - readShort(offset + 2 + run * 4) <= readShort(offset + 4 + run * 4);
+        }
+    }
+
+    private void loadContainer(int container) {
+        this.container = container;
+        this.position = 0;
+        this.runPosition = 0;
+
+        if(container < numContainers) {
+            int entryStart = directoryStart + container * DIRECTORY_ENTRY_SIZE;
+            containerKey = (int)readFixedWidth(entryStart, 2);
+            containerType = reader.getByte(entryStart + 2);
+            containerCardinality = (int)readFixedWidth(entryStart + 3, 2) + 1;
+            containerOffset = dataStart + (int)readFixedWidth(entryStart + 5, 4);
+        }
+    }
+
+    /**
+     * @return the next low 16 bits in the current container, or -1 if the container is exhausted.
+     */
+    private int nextInContainer() {
+        switch(containerType) {
+        case ARRAY_CONTAINER:
+            if(position < containerCardinality)
+                return readShort(containerOffset + 2 * position++);
+            return -1;
+        case BITMAP_CONTAINER:
+            while(position < CHUNK_SIZE) {
+                long word = reader.getLong(containerOffset + ((position >>> 6) << 3)) >>> (position & 0x3F);
+                if(word != 0) {
+                    position += Long.numberOfTrailingZeros(word);
+                    return position++;
+                }
+                position = (position | 0x3F) + 1;
+            }
+            return -1;
+        default:
+            int numRuns = readShort(containerOffset);
+            while(position < numRuns) {
+                int runStart = readShort(containerOffset + 2 + position * 4);
+                int runLength = readShort(containerOffset + 4 + position * 4) + 1;
+                if(runPosition < runLength)
+                    return runStart + runPosition++;
+                position++;
+                runPosition = 0;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Moves forward within the current container, so that the next value returned is the first which is greater than or equal to <code>low</code>.
+     */
+    private void seekInContainer(int low) {
+        switch(containerType) {
+        case ARRAY_CONTAINER:
+            position = findArrayIndex(containerOffset, position, containerCardinality, low);
+            break;
+        case BITMAP_CONTAINER:
+            position = Math.max(position, low);
+            break;
+        default:
+            int numRuns = readShort(containerOffset);
+            while(position < numRuns) {
+                int runStart = readShort(containerOffset + 2 + position * 4);
+                int runEnd = runStart + readShort(containerOffset + 4 + position * 4);
+                if(runEnd >= low) {
+                    runPosition = Math.max(runPosition, low - runStart);
+                    break;
+                }
+                position++;
+                runPosition = 0;
+            }
+        }
+    }
+
+    /**
+     * @return the first container at or after <code>from</code> whose key is greater than or equal to the given key, or <code>numContainers</code> if there is none.
+     */
+    private int findContainer(int key, int from) {
+        int low = from;
+        int high = numContainers - 1;
+
+        while(low <= high) {
+            int mid = (low + high) >>> 1;
+            if(entryKey(mid) < key)
+                low = mid + 1;
+            else
+                high = mid - 1;
+        }
+
+        return low;
+    }
+
+    /**
+     * @return the first index in <code>[from, cardinality)</code> of an array container whose value is greater than or equal to <code>low</code>.
+     */
+    private int findArrayIndex(int offset, int from, int cardinality, int value) {
+        int low = from;
+        int high = cardinality - 1;
+
+        while(low <= high) {
+            int mid = (low + high) >>> 1;
+            if(readShort(offset + mid * 2) < value)
+                low = mid + 1;
+            else
+                high = mid - 1;
+        }
+
+        return low;
+    }
+
+    /**
+     * @return the last run of a run container which starts at or before the given value, or -1 if there is none.
+     */
+    private int findRun(int offset, int value) {
+        int low = 0;
+        int high = readShort(offset) - 1;
+
+        while(low <= high) {
+            int mid = (low + high) >>> 1;
+            if(readShort(offset + 2 + mid * 4) <= value)
+                low = mid + 1;
+            else
+                high = mid - 1;
+        }
+
+        return high;
+    }
+
+    private int entryKey(int entry) {
+        return (int)readFixedWidth(directoryStart + entry * DIRECTORY_ENTRY_SIZE, 2);
+    }
+
+    private int readShort(int pos) {
+        return ((reader.getByte(pos) & 0xFF) << 8) | (reader.getByte(pos + 1) & 0xFF);
+    }
+
+    private long readFixedWidth(int pos, int width) {
+        long value = 0;
+        for(int i=0;i<width;i++)
+            value = (value << 8) | (reader.getByte(pos + i) & 0xFF);
+        return value;
+    }
+
+}
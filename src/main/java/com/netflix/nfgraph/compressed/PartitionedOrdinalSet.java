@@ -0,0 +1,85 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.compressor.PartitionedPropertyBuilder;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.ByteArrayReader;
+
+/**
+ * An implementation of {@link OrdinalSet}, returned for connections of a {@link NFPropertySpec#PARTITIONED} property in an {@link NFCompressedGraph}.<p>
+ *
+ * The ordinal space is divided into chunks of 65536 ordinals, and only the chunks which contain at least one connection are written.  Each 
+ * chunk is held in whichever of three containers is smallest:<p>
+ *
+ * <ul>
+ * <li>an array container holds the low 16 bits of each ordinal, sorted, as two-byte values.</li>
+ * <li>a bitmap container holds one bit for each of the 65536 ordinals in the chunk.</li>
+ * <li>a run container holds the start and length of each run of consecutive ordinals.</li>
+ * </ul>
+ *
+ * A directory of fixed-width entries precedes the containers.  Each entry holds the chunk's key (the high bits of its ordinals), 
+ * the container type, the number of ordinals in the chunk, and the offset of the container.  Membership tests binary search the 
+ * directory, then the container, so dense regions are nearly as fast as a {@link BitSetOrdinalSet} and sparse regions are 
+ * nearly as small as a {@link CompactOrdinalSet}.
+ *
+ * @see PartitionedPropertyBuilder
+ */
+public class PartitionedOrdinalSet extends OrdinalSet {
+
+    /**
+     * The number of low bits of an ordinal which are held within a container.
+     */
+    public static final int CHUNK_BITS = 16;
+
+    public static final int ARRAY_CONTAINER = 0;
+    public static final int BITMAP_CONTAINER = 1;
+    public static final int RUN_CONTAINER = 2;
+
+    /**
+     * The size, in bytes, of each directory entry:  a two-byte key, a one-byte container type, a two-byte cardinality minus one, and a four-byte offset.
+     */
+    public static final int DIRECTORY_ENTRY_SIZE = 9;
+
+    private final ByteArrayReader reader;
+    private final int size;
+    private final PartitionedOrdinalIterator directory;
+
+    public PartitionedOrdinalSet(ByteArrayReader reader, int size) {
+        this.reader = reader;
+        this.size = size;
+        this.directory = new PartitionedOrdinalIterator(reader.copy());
+    }
+
+    @Override
+    public boolean contains(int value) {
+        return directory.contains(value);
+    }
+
+    @Override
+    public PartitionedOrdinalIterator iterator() {
+        return new PartitionedOrdinalIterator(reader.copy());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+}
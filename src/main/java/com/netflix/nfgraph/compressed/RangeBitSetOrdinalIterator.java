@@ -0,0 +1,136 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.SeekableOrdinalIterator;
+import com.netflix.nfgraph.util.ByteArrayReader;
+
+/**
+ * An implementation of {@link OrdinalIterator} returned for ordinals represented as range-bounded bit sets in an {@link NFCompressedGraph}.<p>
+ *
+ * As for a {@link BitSetOrdinalIterator}, the window is read one 64-bit word at a time, and {@link #advance(int)} moves directly to the word 
+ * containing the target.
+ *
+ * @see RangeBitSetOrdinalSet
+ */
+public class RangeBitSetOrdinalIterator implements SeekableOrdinalIterator {
+
+    private final ByteArrayReader reader;
+
+    private int bitsOffset;
+    private long firstOrdinal;
+    private long numBitBytes;
+
+    private long wordOffset;
+    private long word;
+
+    public RangeBitSetOrdinalIterator(ByteArrayReader reader) {
+        this.reader = reader;
+        reinitialize();
+    }
+
+    /**
+     * Reads the start of the window again, after the underlying reader has been repositioned.
+     */
+    void reinitialize() {
+        int offset = 0;
+        int firstByte = 0;
+        byte b;
+        do {
+            b = reader.getByte(offset++);
+            firstByte = (firstByte << 7) | (b & 0x7F);
+        } while((b & 0x80) != 0);
+
+        bitsOffset = offset;
+        firstOrdinal = (long)firstByte << 3;
+        numBitBytes = reader.length() - offset;
+        reset();
+    }
+
+    @Override
+    public int nextOrdinal() {
+        while(word == 0) {
+            wordOffset += 8;
+            if(wordOffset >= numBitBytes)
+                return NO_MORE_ORDINALS;
+            word = reader.getLong(bitsOffset + wordOffset);
+        }
+
+        int ordinal = (int)(firstOrdinal + (wordOffset << 3)) + Long.numberOfTrailingZeros(word);
+        word &= word - 1;
+        return ordinal;
+    }
+
+    /**
+     * {@inheritDoc}<p>
+     *
+     * A target before the window returns the next ordinal, and a target beyond the window exhausts this iterator.
+     */
+    @Override
+    public int advance(int target) {
+        long bit = target - firstOrdinal;
+
+        if(bit < 0)
+            return nextOrdinal();
+
+        long targetWordOffset = (bit >>> 6) << 3;
+
+        if(targetWordOffset > wordOffset) {
+            wordOffset = targetWordOffset;
+            word = wordOffset < numBitBytes ? reader.getLong(bitsOffset + wordOffset) : 0;
+        }
+
+        if(targetWordOffset == wordOffset)
+            word &= -1L << (bit & 0x3F);
+
+        return nextOrdinal();
+    }
+
+    /**
+     * @return true if the given ordinal is in this set.  This does not affect iteration.
+     */
+    boolean contains(int value) {
+        long bit = value - firstOrdinal;
+
+        if(bit < 0 || (bit >>> 3) >= numBitBytes)
+            return false;
+
+        return (reader.getByte(bitsOffset + (bit >>> 3)) & (1 << (bit & 0x07))) != 0;
+    }
+
+    @Override
+    public void reset() {
+        wordOffset = -8;
+        word = 0;
+    }
+
+    @Override
+    public RangeBitSetOrdinalIterator copy() {
+        return new RangeBitSetOrdinalIterator(reader.copy());
+    }
+
+    /**
+     * @return <code>true</code>
+     */
+    @Override
+    public boolean isOrdered() {
+        return true;
+    }
+
+}
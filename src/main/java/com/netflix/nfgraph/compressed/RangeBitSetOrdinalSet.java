@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.compressor.BitSetPropertyBuilder;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.ByteArrayReader;
+
+/**
+ * An implementation of {@link OrdinalSet}, returned for connections of a {@link NFPropertySpec#RANGE_BIT_SET} property in an {@link NFCompressedGraph}.<p>
+ *
+ * As in a {@link BitSetOrdinalSet}, each ordinal is represented by a single bit.  However, bits are only stored for a window of ordinals, from 
+ * the byte which contains the smallest connected ordinal through the byte which contains the largest.  The index of the first byte in the 
+ * window is written as a variable-byte integer ahead of the bits, and the span of the window is the remainder of the encoded bytes.  A set 
+ * whose connections are dense within a narrow range of a large node type is therefore much smaller than a full bit set.<p>
+ *
+ * <code>contains()</code> checks that the ordinal falls within the window, then tests a single bit, and so is an <code>O(1)</code> operation.
+ *
+ * @see BitSetPropertyBuilder#buildRangeProperty(OrdinalSet, int, int)
+ */
+public class RangeBitSetOrdinalSet extends OrdinalSet {
+
+    private final ByteArrayReader reader;
+    private final int size;
+    private final int bitsOffset;
+    private final long firstOrdinal;
+    private final long numBitBytes;
+
+    public RangeBitSetOrdinalSet(ByteArrayReader reader, int size) {
+        this.reader = reader;
+        this.size = size;
+
+        int offset = 0;
+        int firstByte = 0;
+        byte b;
+        do {
+            b = reader.getByte(offset++);
+            firstByte = (firstByte << 7) | (b & 0x7F);
+        } while((b & 0x80) != 0);
+
+        this.bitsOffset = offset;
+        this.firstOrdinal = (long)firstByte << 3;
+        this.numBitBytes = reader.length() - offset;
+    }
+
+    @Override
+    public boolean contains(int value) {
+        long bit = value - firstOrdinal;
+
+        if(bit < 0 || (bit >>> 3) >= numBitBytes)
+            return false;
+
+        return (reader.getByte(bitsOffset + (bit >>> 3)) & (1 << (bit & 0x07))) != 0;
+    }
+
+    @Override
+    public RangeBitSetOrdinalIterator iterator() {
+        return new RangeBitSetOrdinalIterator(reader.copy());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+}
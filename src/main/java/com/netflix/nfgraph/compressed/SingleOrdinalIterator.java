@@ -17,12 +17,12 @@
 
 package com.netflix.nfgraph.compressed;
 
-import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.SeekableOrdinalIterator;
 
 /**
  * An implementation of {@link OrdinalIterator} which "iterates" over a single ordinal.
  */
-public class SingleOrdinalIterator implements OrdinalIterator {
+public class SingleOrdinalIterator implements SeekableOrdinalIterator {
 
     private final int ordinal;
     private boolean returned;
@@ -40,13 +40,22 @@ public class SingleOrdinalIterator implements OrdinalIterator {
         return ordinal;
     }
 
+    @Override
+    public int advance(int target) {
+        if(returned)
+            return NO_MORE_ORDINALS;
+
+        returned = true;
+        return ordinal >= target ? ordinal : NO_MORE_ORDINALS;
+    }
+
     @Override
     public void reset() {
         returned = false;
     }
 
     @Override
-    public OrdinalIterator copy() {
+    public SingleOrdinalIterator copy() {
         return new SingleOrdinalIterator(ordinal);
     }
 
@@ -0,0 +1,185 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.SeekableOrdinalIterator;
+import com.netflix.nfgraph.util.ByteArrayReader;
+
+/**
+ * An implementation of {@link OrdinalIterator} returned for ordinals represented as variable-byte deltas with a skip index in an {@link NFCompressedGraph}.<p>
+ *
+ * {@link #advance(int)} binary searches the skip index, then decodes at most one interval of deltas.
+ *
+ * @see SkipCompactOrdinalSet
+ */
+public class SkipCompactOrdinalIterator implements SeekableOrdinalIterator {
+
+    private final ByteArrayReader reader;
+
+    private int numEntries;
+    private int maxOrdinal;
+    private int ordinalWidth;
+    private int offsetWidth;
+    private int entriesStart;
+    private int deltasStart;
+
+    private int offset;
+    private int currentOrdinal;
+
+    public SkipCompactOrdinalIterator(ByteArrayReader reader) {
+        this.reader = reader;
+        reinitialize();
+    }
+
+    /**
+     * Reads the skip index header again, after the underlying reader has been repositioned.
+     */
+    void reinitialize() {
+        offset = 0;
+        readVInt();   /// the skip interval, which is implied by the entries
+        numEntries = readVInt();
+        maxOrdinal = readVInt();
+        ordinalWidth = reader.getByte(offset++);
+        offsetWidth = reader.getByte(offset++);
+        entriesStart = offset;
+        deltasStart = entriesStart + numEntries * (ordinalWidth + offsetWidth);
+        reset();
+    }
+
+    @Override
+    public int nextOrdinal() {
+        if(offset >= reader.length())
+            return NO_MORE_ORDINALS;
+        currentOrdinal += readVInt();
+        return currentOrdinal;
+    }
+
+    @Override
+    public int advance(int target) {
+        if(target > maxOrdinal) {
+            offset = (int)reader.length();
+            return NO_MORE_ORDINALS;
+        }
+
+        int entry = findEntry(target);
+
+        if(entry >= 0) {
+            int entryOffset = deltasStart + entryOffset(entry);
+            if(entryOffset >= offset) {
+                offset = entryOffset;
+                readVInt();
+                currentOrdinal = entryOrdinal(entry);
+                if(currentOrdinal >= target)
+                    return currentOrdinal;
+            }
+        }
+
+        int ordinal = nextOrdinal();
+        while(ordinal < target)
+            ordinal = nextOrdinal();
+        return ordinal;
+    }
+
+    @Override
+    public void reset() {
+        offset = deltasStart;
+        currentOrdinal = 0;
+    }
+
+    @Override
+    public SkipCompactOrdinalIterator copy() {
+        return new SkipCompactOrdinalIterator(reader.copy());
+    }
+
+    /**
+     * @return true if the given ordinal is in this set.  This does not affect iteration.
+     */
+    boolean contains(int value) {
+        if(numEntries == 0 || value < entryOrdinal(0) || value > maxOrdinal)
+            return false;
+
+        int entry = findEntry(value);
+        int pos = deltasStart + entryOffset(entry);
+        int ordinal = entryOrdinal(entry);
+
+        pos = skipVInt(pos);
+
+        while(ordinal < value && pos < reader.length()) {
+            int delta = 0;
+            byte b;
+            do {
+                b = reader.getByte(pos++);
+                delta = (delta << 7) | (b & 0x7F);
+            } while((b & 0x80) != 0);
+            ordinal += delta;
+        }
+
+        return ordinal == value;
+    }
+
+    /**
+     * @return the last skip entry whose ordinal is less than or equal to the target, or -1 if there is none.
+     */
+    private int findEntry(int target) {
+        int low = 0;
+        int high = numEntries - 1;
+
+        while(low <= high) {
+            int mid = (low + high) >>> 1;
+            if(entryOrdinal(mid) <= target)
+                low = mid + 1;
+            else
+                high = mid - 1;
+        }
+
+        return high;
+    }
+
+    private int entryOrdinal(int entry) {
+        return (int)readFixedWidth(entriesStart + entry * (ordinalWidth + offsetWidth), ordinalWidth);
+    }
+
+    private int entryOffset(int entry) {
+        return (int)readFixedWidth(entriesStart + entry * (ordinalWidth + offsetWidth) + ordinalWidth, offsetWidth);
+    }
+
+    private long readFixedWidth(int pos, int width) {
+        long value = 0;
+        for(int i=0;i<width;i++)
+            value = (value << 8) | (reader.getByte(pos + i) & 0xFF);
+        return value;
+    }
+
+    private int readVInt() {
+        int value = 0;
+        byte b;
+        do {
+            b = reader.getByte(offset++);
+            value = (value << 7) | (b & 0x7F);
+        } while((b & 0x80) != 0);
+        return value;
+    }
+
+    private int skipVInt(int pos) {
+        while((reader.getByte(pos) & 0x80) != 0)
+            pos++;
+        return pos + 1;
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.compressor.CompactPropertyBuilder;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.ByteArrayReader;
+
+/**
+ * An implementation of {@link OrdinalSet}, returned for large sets of a {@link NFPropertySpec#SKIP_INDEXED} property in an {@link NFCompressedGraph}.<p>
+ *
+ * The ordinals are encoded as variable-byte deltas, as in a {@link CompactOrdinalSet}, preceded by a skip index.  The skip index holds the 
+ * absolute ordinal and byte offset of every {@link CompactPropertyBuilder#SKIP_INTERVAL}th ordinal, as well as the largest ordinal in the set.  
+ * Membership tests binary search the skip index and then decode at most one interval of deltas, so <code>contains()</code> is 
+ * an <code>O(log n)</code> operation.
+ *
+ * @see CompactPropertyBuilder#buildSkipIndexedProperty(OrdinalSet)
+ */
+public class SkipCompactOrdinalSet extends OrdinalSet {
+
+    private final ByteArrayReader reader;
+    private final int size;
+    /// the skip index header is read once, and only probed by contains(), which does not move the iterator
+    private final SkipCompactOrdinalIterator skipIndex;
+
+    public SkipCompactOrdinalSet(ByteArrayReader reader, int size) {
+        this.reader = reader;
+        this.size = size;
+        this.skipIndex = new SkipCompactOrdinalIterator(reader.copy());
+    }
+
+    @Override
+    public boolean contains(int value) {
+        return skipIndex.contains(value);
+    }
+
+    @Override
+    public SkipCompactOrdinalIterator iterator() {
+        return new SkipCompactOrdinalIterator(reader.copy());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+}
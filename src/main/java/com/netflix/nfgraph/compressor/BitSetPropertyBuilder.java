@@ -22,6 +22,7 @@ import static com.netflix.nfgraph.OrdinalIterator.NO_MORE_ORDINALS;
 import com.netflix.nfgraph.OrdinalIterator;
 import com.netflix.nfgraph.OrdinalSet;
 import com.netflix.nfgraph.compressed.BitSetOrdinalSet;
+import com.netflix.nfgraph.compressed.RangeBitSetOrdinalSet;
 import com.netflix.nfgraph.util.ByteArrayBuffer;
 
 /**
@@ -30,6 +31,7 @@ import com.netflix.nfgraph.util.ByteArrayBuffer;
  * It is unlikely that this class will need to be used externally.
  * 
  * @see BitSetOrdinalSet
+ * @see RangeBitSetOrdinalSet
  */
 public class BitSetPropertyBuilder {
 
@@ -44,6 +46,35 @@ public class BitSetPropertyBuilder {
 		buf.write(data);
 	}
 
+	/**
+	 * Writes the index of the first byte of the window as a variable-byte integer, then the bits for each byte from that which contains 
+	 * <code>minOrdinal</code> through that which contains <code>maxOrdinal</code>.
+	 */
+	public void buildRangeProperty(OrdinalSet ordinals, int minOrdinal, int maxOrdinal) {
+		int firstByte = minOrdinal >>> 3;
+		byte data[] = new byte[(maxOrdinal >>> 3) - firstByte + 1];
+
+		OrdinalIterator iter = ordinals.iterator();
+		int ordinal = iter.nextOrdinal();
+
+		while(ordinal != NO_MORE_ORDINALS) {
+			data[(ordinal >>> 3) - firstByte] |= (byte)(1 << (ordinal & 0x07));
+			ordinal = iter.nextOrdinal();
+		}
+
+		buf.writeVInt(firstByte);
+		buf.write(data);
+	}
+
+	/**
+	 * @return the number of bytes written by {@link #buildRangeProperty(OrdinalSet, int, int)} for a set with the given smallest and largest ordinals.
+	 */
+	public static int rangePropertyLength(int minOrdinal, int maxOrdinal) {
+		int firstByte = minOrdinal >>> 3;
+		int vIntLength = (38 - Integer.numberOfLeadingZeros(firstByte | 1)) / 7;
+		return vIntLength + (maxOrdinal >>> 3) - firstByte + 1;
+	}
+
 	private byte[] buildBitSetData(int numBits, OrdinalIterator iter) {
 		int numBytes = ((numBits - 1) / 8) + 1;
         byte data[] = new byte[numBytes];
@@ -21,6 +21,8 @@ import java.util.Arrays;
 
 import com.netflix.nfgraph.OrdinalSet;
 import com.netflix.nfgraph.compressed.CompactOrdinalSet;
+import com.netflix.nfgraph.compressed.SkipCompactOrdinalSet;
+import com.netflix.nfgraph.spec.NFPropertySpec;
 import com.netflix.nfgraph.util.ByteArrayBuffer;
 
 /**
@@ -32,7 +34,18 @@ import com.netflix.nfgraph.util.ByteArrayBuffer;
  */
 public class CompactPropertyBuilder {
 
+    /**
+     * Sets of a {@link NFPropertySpec#SKIP_INDEXED} property with at least this many ordinals are written with a skip index.
+     */
+    public static final int SKIP_INDEX_THRESHOLD = 256;
+
+    /**
+     * The number of ordinals between consecutive skip index entries.
+     */
+    public static final int SKIP_INTERVAL = 32;
+
 	private final ByteArrayBuffer buf;
+	private final ByteArrayBuffer deltaBuf = new ByteArrayBuffer();
 	
 	public CompactPropertyBuilder(ByteArrayBuffer buf) {
 		this.buf = buf;
@@ -49,5 +62,54 @@ public class CompactPropertyBuilder {
 			previousOrdinal = connectedOrdinals[i];
 		}
 	}
+
+	/**
+	 * Writes the ordinals as variable-byte deltas, preceded by a skip index.  The skip index is laid out as:<p>
+	 * 
+	 * <ul>
+	 * <li>the skip interval, the number of entries, and the largest ordinal, each as a variable-byte integer</li>
+	 * <li>a byte holding the width of each entry's ordinal, then a byte holding the width of each entry's offset</li>
+	 * <li>for every {@link #SKIP_INTERVAL}th ordinal, beginning with the first, the ordinal and the offset of its delta from the beginning of the deltas</li>
+	 * </ul>
+	 * 
+	 * @see SkipCompactOrdinalSet
+	 */
+	public void buildSkipIndexedProperty(OrdinalSet ordinalSet) {
+		int connectedOrdinals[] = ordinalSet.asArray();
+		Arrays.sort(connectedOrdinals);
+
+		int numEntries = (connectedOrdinals.length + SKIP_INTERVAL - 1) / SKIP_INTERVAL;
+		long entryOffsets[] = new long[numEntries];
+		int previousOrdinal = 0;
+
+		for(int i=0;i<connectedOrdinals.length;i++) {
+			if(i % SKIP_INTERVAL == 0)
+				entryOffsets[i / SKIP_INTERVAL] = deltaBuf.length();
+			deltaBuf.writeVInt(connectedOrdinals[i] - previousOrdinal);
+			previousOrdinal = connectedOrdinals[i];
+		}
+
+		int maxOrdinal = connectedOrdinals.length == 0 ? 0 : connectedOrdinals[connectedOrdinals.length - 1];
+		int ordinalWidth = numBytes(maxOrdinal);
+		int offsetWidth = numBytes(numEntries == 0 ? 0 : entryOffsets[numEntries - 1]);
+
+		buf.writeVInt(SKIP_INTERVAL);
+		buf.writeVInt(numEntries);
+		buf.writeVInt(maxOrdinal);
+		buf.writeByte((byte)ordinalWidth);
+		buf.writeByte((byte)offsetWidth);
+
+		for(int i=0;i<numEntries;i++) {
+			buf.writeFixedWidth(connectedOrdinals[i * SKIP_INTERVAL], ordinalWidth);
+			buf.writeFixedWidth(entryOffsets[i], offsetWidth);
+		}
+
+		buf.write(deltaBuf);
+		deltaBuf.reset();
+	}
+
+	private int numBytes(long value) {
+		return Math.max(1, (64 - Long.numberOfLeadingZeros(value) + 7) / 8);
+	}
 	
 }
@@ -0,0 +1,148 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.netflix.nfgraph.compressed.NFCompressedSetEncoding;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.ByteArrayBuffer;
+import com.netflix.nfgraph.util.ByteArrayReader;
+import com.netflix.nfgraph.util.ByteData;
+
+/**
+ * This class is used by {@link NFCompressedGraphBuilder} to find connection sets which have already been written to the graph's data, 
+ * for properties specified with {@link NFPropertySpec#DEDUPLICATED}.<p>
+ * 
+ * Sets are identified by a hash of their encoding, size, and encoded ordinals.  The bytes of a matching set are compared against the 
+ * graph's data before it is returned, so a hash collision never produces a wrong reference.<p>
+ * 
+ * A set may be written to an intermediate buffer which is later copied into the graph's data.  Its position is tracked through each 
+ * copy, and it may be referenced once the node to which it belongs has been completely written.<p>
+ * 
+ * It is unlikely that this class will need to be used externally.
+ * 
+ * @see NFCompressedSetEncoding#BACK_REFERENCE
+ */
+public class ConnectionSetDeduplicator {
+
+	/**
+	 * Sets with fewer encoded bytes than this are always written in full.  A reference costs up to five bytes for a graph of 
+	 * several gigabytes, so smaller sets would save little or nothing.
+	 */
+	public static final int MIN_DEDUPLICATED_LENGTH = 8;
+
+	private final ByteArrayBuffer graphBuffer;
+	private final Map<Long, Long> writtenSetPointers;
+	private final List<PendingSet> pendingSets;
+
+	public ConnectionSetDeduplicator(ByteArrayBuffer graphBuffer) {
+		this.graphBuffer = graphBuffer;
+		this.writtenSetPointers = new HashMap<Long, Long>();
+		this.pendingSets = new ArrayList<PendingSet>();
+	}
+
+	/**
+	 * @return a 64-bit hash of the set with the given encoding, size, and encoded ordinals.
+	 */
+	public long hash(int encoding, int size, ByteArrayBuffer encodedOrdinals) {
+		long hash = 0xCBF29CE484222325L;
+		hash = (hash ^ encoding) * 0x100000001B3L;
+		hash = (hash ^ size) * 0x100000001B3L;
+
+		ByteData data = encodedOrdinals.getData();
+		for(long i=0;i<encodedOrdinals.length();i++)
+			hash = (hash ^ (data.get(i) & 0xFF)) * 0x100000001B3L;
+
+		return hash;
+	}
+
+	/**
+	 * @return the offset into the graph's data of the header of an identical set, or -1 if no identical set has been written.
+	 */
+	public long find(long hash, int encoding, int size, ByteArrayBuffer encodedOrdinals) {
+		Long pointer = writtenSetPointers.get(hash);
+
+		if(pointer == null)
+			return -1;
+
+		ByteArrayReader reader = new ByteArrayReader(graphBuffer.getData(), pointer.longValue());
+		long header = reader.readVLong();
+
+		if(NFCompressedSetEncoding.encoding(header) != encoding 
+				|| NFCompressedSetEncoding.payloadLength(header) != encodedOrdinals.length() 
+				|| reader.readVInt() != size)
+			return -1;
+
+		ByteData data = encodedOrdinals.getData();
+		for(long i=0;i<encodedOrdinals.length();i++) {
+			if(reader.readByte() != data.get(i))
+				return -1;
+		}
+
+		return pointer.longValue();
+	}
+
+	/**
+	 * Records that the set with the given hash is about to be written at the current end of the given buffer.
+	 */
+	public void add(long hash, ByteArrayBuffer toBuffer) {
+		pendingSets.add(new PendingSet(hash, toBuffer, toBuffer.length()));
+	}
+
+	/**
+	 * Records that the contents of the <code>from</code> buffer are about to be copied to the current end of the <code>to</code> buffer.
+	 */
+	public void copied(ByteArrayBuffer from, ByteArrayBuffer to) {
+		for(PendingSet set : pendingSets) {
+			if(set.buffer == from) {
+				set.buffer = to;
+				set.offset += to.length();
+			}
+		}
+	}
+
+	/**
+	 * Allows each set which has been copied into the graph's data to be found.  Called once each node has been completely written.  
+	 * If identical sets were written for the same node, the first is retained.
+	 */
+	public void nodeWritten() {
+		for(PendingSet set : pendingSets) {
+			if(set.buffer == graphBuffer && !writtenSetPointers.containsKey(set.hash))
+				writtenSetPointers.put(set.hash, set.offset);
+		}
+
+		pendingSets.clear();
+	}
+
+	private static class PendingSet {
+		private final long hash;
+		private ByteArrayBuffer buffer;
+		private long offset;
+
+		PendingSet(long hash, ByteArrayBuffer buffer, long offset) {
+			this.hash = hash;
+			this.buffer = buffer;
+			this.offset = offset;
+		}
+	}
+
+}
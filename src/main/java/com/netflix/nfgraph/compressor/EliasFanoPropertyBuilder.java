@@ -0,0 +1,106 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressor;
+
+import java.util.Arrays;
+
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.compressed.EliasFanoOrdinalSet;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.ByteArrayBuffer;
+
+/**
+ * This class is used by {@link NFCompressedGraphBuilder} to write sets of ordinals represented with the Elias-Fano encoding.<p>
+ * 
+ * It is unlikely that this class will need to be used externally.
+ * 
+ * @see EliasFanoOrdinalSet
+ */
+public class EliasFanoPropertyBuilder {
+
+    /**
+     * The sampled index holds the position in the high bits which follows every <code>SELECT_QUANTUM</code>th zero bit.
+     */
+    public static final int SELECT_QUANTUM = 256;
+
+	private final ByteArrayBuffer buf;
+
+	public EliasFanoPropertyBuilder(ByteArrayBuffer buf) {
+		this.buf = buf;
+	}
+
+	/**
+	 * Writes the ordinals as:<p>
+	 * 
+	 * <ul>
+	 * <li>the largest ordinal, as a variable-byte integer</li>
+	 * <li>a byte holding the number of low bits</li>
+	 * <li>the number of entries in the sampled index, as a variable-byte integer, then each entry as a four-byte integer</li>
+	 * <li>the low bits of each ordinal, packed least significant bit first</li>
+	 * <li>the high bits of each ordinal in unary, packed least significant bit first</li>
+	 * </ul>
+	 * 
+	 * The number of ordinals is not written, because it is recorded in the header of every {@link NFPropertySpec#COUNTED} set.
+	 */
+	public void buildProperty(OrdinalSet ordinalSet) {
+		int ordinals[] = ordinalSet.asArray();
+		Arrays.sort(ordinals);
+
+		int numValues = ordinals.length;
+		int maxOrdinal = numValues == 0 ? 0 : ordinals[numValues - 1];
+		int lowBits = numValues == 0 ? 0 : Math.max(0, 31 - Integer.numberOfLeadingZeros(((maxOrdinal + 1) / numValues)));
+		long numHighBits = numValues + ((long)maxOrdinal >>> lowBits) + 1;
+
+		byte low[] = new byte[(int)(((long)numValues * lowBits + 7) >>> 3)];
+		byte high[] = new byte[(int)((numHighBits + 7) >>> 3)];
+
+		for(int i=0;i<numValues;i++) {
+			long lowValue = ordinals[i] & ((1L << lowBits) - 1);
+			long bitPosition = (long)i * lowBits;
+			for(int bit=0;bit<lowBits;bit++) {
+				if((lowValue & (1L << bit)) != 0)
+					low[(int)((bitPosition + bit) >>> 3)] |= (byte)(1 << ((bitPosition + bit) & 0x07));
+			}
+
+			long highPosition = ((long)ordinals[i] >>> lowBits) + i;
+			high[(int)(highPosition >>> 3)] |= (byte)(1 << (highPosition & 0x07));
+		}
+
+		int maxHigh = maxOrdinal >>> lowBits;
+		int numSkips = maxHigh / SELECT_QUANTUM;
+		long skips[] = new long[numSkips];
+
+		int zeros = 0;
+		for(long position=0;position<numHighBits && zeros < numSkips * SELECT_QUANTUM;position++) {
+			if((high[(int)(position >>> 3)] & (1 << (position & 0x07))) == 0) {
+				zeros++;
+				if(zeros % SELECT_QUANTUM == 0)
+					skips[zeros / SELECT_QUANTUM - 1] = position + 1;
+			}
+		}
+
+		buf.writeVInt(maxOrdinal);
+		buf.writeByte((byte)lowBits);
+		buf.writeVInt(numSkips);
+		for(long skip : skips)
+			buf.writeFixedWidth(skip, 4);
+		buf.write(low);
+		buf.write(high);
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressor;
+
+import java.util.Arrays;
+
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.compressed.GroupVarIntOrdinalSet;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.ByteArrayBuffer;
+
+/**
+ * This class is used by {@link NFCompressedGraphBuilder} to write sets of ordinals represented as group varint deltas.<p>
+ * 
+ * It is unlikely that this class will need to be used externally.
+ * 
+ * @see GroupVarIntOrdinalSet
+ */
+public class GroupVarIntPropertyBuilder {
+
+	private final ByteArrayBuffer buf;
+
+	public GroupVarIntPropertyBuilder(ByteArrayBuffer buf) {
+		this.buf = buf;
+	}
+
+	/**
+	 * Writes the deltas between the sorted ordinals in groups of four.  The number of ordinals is not written, because it is recorded 
+	 * in the header of every {@link NFPropertySpec#COUNTED} set.  Each group begins with a tag byte, in which each pair of bits, from least to most significant, holds the width in bytes of one delta, 
+	 * minus one.  The deltas follow, little-endian.  The last group may hold fewer than four deltas.
+	 */
+	public void buildProperty(OrdinalSet ordinalSet) {
+		int ordinals[] = ordinalSet.asArray();
+		Arrays.sort(ordinals);
+
+		int previousOrdinal = 0;
+
+		for(int groupStart=0;groupStart<ordinals.length;groupStart+=4) {
+			int groupEnd = Math.min(groupStart + 4, ordinals.length);
+			int deltas[] = new int[groupEnd - groupStart];
+			int tag = 0;
+
+			for(int i=0;i<deltas.length;i++) {
+				deltas[i] = ordinals[groupStart + i] - previousOrdinal;
+				previousOrdinal = ordinals[groupStart + i];
+				tag |= (width(deltas[i]) - 1) << (i << 1);
+			}
+
+			buf.writeByte((byte)tag);
+
+			for(int delta : deltas) {
+				for(int i=0;i<width(delta);i++)
+					buf.writeByte((byte)(delta >>> (i << 3)));
+			}
+		}
+	}
+
+	private static int width(int delta) {
+		return Math.max(1, (32 - Integer.numberOfLeadingZeros(delta) + 7) >>> 3);
+	}
+
+}
@@ -21,6 +21,7 @@ import static com.netflix.nfgraph.OrdinalIterator.NO_MORE_ORDINALS;
 
 import com.netflix.nfgraph.OrdinalIterator;
 import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.compressed.FixedWidthHashSetOrdinalSet;
 import com.netflix.nfgraph.compressed.HashSetOrdinalSet;
 import com.netflix.nfgraph.util.ByteArrayBuffer;
 import com.netflix.nfgraph.util.Mixer;
@@ -40,6 +41,35 @@ public class HashedPropertyBuilder {
 		this.buf = buf;
 	}
 	
+	/**
+	 * Writes the ordinals into an open-addressed hash table of fixed-width slots, with linear probing.  The table holds at least 
+	 * four slots for every three ordinals.
+	 * 
+	 * @see FixedWidthHashSetOrdinalSet
+	 */
+	public void buildFixedWidthProperty(OrdinalSet ordinals) {
+		int values[] = ordinals.asArray();
+
+		int maxValue = 0;
+		for(int value : values)
+			maxValue = Math.max(maxValue, value + 1);
+
+		int slotWidth = Math.max(1, (32 - Integer.numberOfLeadingZeros(maxValue) + 7) / 8);
+		int numSlots = Integer.highestOneBit(Math.max(1, values.length * 4 / 3)) << 1;
+		int slots[] = new int[numSlots];
+
+		for(int value : values) {
+			int bucket = Mixer.hashInt(value) & (numSlots - 1);
+			while(slots[bucket] != 0 && slots[bucket] != value + 1)
+				bucket = (bucket + 1) & (numSlots - 1);
+			slots[bucket] = value + 1;
+		}
+
+		buf.writeByte((byte)slotWidth);
+		for(int slot : slots)
+			buf.writeFixedWidth(slot, slotWidth);
+	}
+
 	public void buildProperty(OrdinalSet ordinals) {
 	    if(ordinals.size() == 0)
 	        return;
@@ -17,18 +17,28 @@
 
 package com.netflix.nfgraph.compressor;
 
+import java.util.Arrays;
+
 import com.netflix.nfgraph.NFGraphModelHolder;
+import com.netflix.nfgraph.OrdinalIterator;
 import com.netflix.nfgraph.OrdinalSet;
 import com.netflix.nfgraph.build.NFBuildGraph;
 import com.netflix.nfgraph.build.NFBuildGraphNode;
 import com.netflix.nfgraph.build.NFBuildGraphNodeCache;
 import com.netflix.nfgraph.build.NFBuildGraphNodeList;
+import com.netflix.nfgraph.compressed.ConnectionColumn;
+import com.netflix.nfgraph.compressed.DegreeColumn;
 import com.netflix.nfgraph.compressed.NFCompressedGraph;
+import com.netflix.nfgraph.compressed.NFCompressedGraphColumns;
+import com.netflix.nfgraph.compressed.NFCompressedGraphDegrees;
 import com.netflix.nfgraph.compressed.NFCompressedGraphLongPointers;
+import com.netflix.nfgraph.compressed.NFCompressedSetEncoding;
+import com.netflix.nfgraph.compressed.SingleOrdinalIterator;
 import com.netflix.nfgraph.spec.NFGraphSpec;
 import com.netflix.nfgraph.spec.NFNodeSpec;
 import com.netflix.nfgraph.spec.NFPropertySpec;
 import com.netflix.nfgraph.util.ByteArrayBuffer;
+import com.netflix.nfgraph.util.SortedArrayOrdinalSet;
 
 
 /**
@@ -43,29 +53,52 @@ public class NFCompressedGraphBuilder {
     private final NFGraphModelHolder modelHolder;
 
     private final ByteArrayBuffer graphBuffer;
+    private final ByteArrayBuffer nodeBuffer;
     private final ByteArrayBuffer modelBuffer;
     private final ByteArrayBuffer fieldBuffer;
 
     private final CompactPropertyBuilder compactPropertyBuilder;
     private final HashedPropertyBuilder hashedPropertyBuilder;
     private final BitSetPropertyBuilder bitSetPropertyBuilder;
+    private final PartitionedPropertyBuilder partitionedPropertyBuilder;
+    private final GroupVarIntPropertyBuilder groupVarIntPropertyBuilder;
+    private final EliasFanoPropertyBuilder eliasFanoPropertyBuilder;
+    private final ConnectionSetDeduplicator deduplicator;
 
     private final NFCompressedGraphLongPointers compressedGraphPointers;
+    private final NFCompressedGraphLongPointers inversePointers;
+    private final NFCompressedGraphDegrees degrees;
+    private final NFCompressedGraphColumns columns;
 
     public NFCompressedGraphBuilder(NFGraphSpec graphSpec, NFBuildGraphNodeCache buildGraphNodeCache, NFGraphModelHolder modelHolder) {
+        this(graphSpec, buildGraphNodeCache, modelHolder, false);
+    }
+
+    /**
+     * @param offHeap if true, the connection data of the built {@link NFCompressedGraph} will be held outside of the Java heap.
+     */
+    public NFCompressedGraphBuilder(NFGraphSpec graphSpec, NFBuildGraphNodeCache buildGraphNodeCache, NFGraphModelHolder modelHolder, boolean offHeap) {
         this.graphSpec = graphSpec;
         this.buildGraphNodeCache = buildGraphNodeCache;
         this.modelHolder = modelHolder;
 
-        this.graphBuffer = new ByteArrayBuffer();
+        this.graphBuffer = new ByteArrayBuffer(offHeap);
+        this.nodeBuffer = new ByteArrayBuffer();
         this.modelBuffer = new ByteArrayBuffer();
         this.fieldBuffer = new ByteArrayBuffer();
 
         this.compactPropertyBuilder = new CompactPropertyBuilder(fieldBuffer);
         this.hashedPropertyBuilder = new HashedPropertyBuilder(fieldBuffer);
         this.bitSetPropertyBuilder = new BitSetPropertyBuilder(fieldBuffer);
+        this.partitionedPropertyBuilder = new PartitionedPropertyBuilder(fieldBuffer);
+        this.groupVarIntPropertyBuilder = new GroupVarIntPropertyBuilder(fieldBuffer);
+        this.eliasFanoPropertyBuilder = new EliasFanoPropertyBuilder(fieldBuffer);
+        this.deduplicator = new ConnectionSetDeduplicator(graphBuffer);
 
         this.compressedGraphPointers = new NFCompressedGraphLongPointers();
+        this.inversePointers = new NFCompressedGraphLongPointers();
+        this.degrees = new NFCompressedGraphDegrees();
+        this.columns = new NFCompressedGraphColumns();
     }
 
     public NFCompressedGraph buildGraph() {
@@ -74,18 +107,181 @@ public class NFCompressedGraphBuilder {
     		addNodeType(nodeType, nodeOrdinals);
     	}
 
-        return new NFCompressedGraph(graphSpec, modelHolder, graphBuffer.getData(), graphBuffer.length(), compressedGraphPointers);
+        for(NFNodeSpec nodeSpec : graphSpec) {
+            for(NFPropertySpec propertySpec : nodeSpec.getPropertySpecs()) {
+                if(propertySpec.isIndexedInverse())
+                    addInverseIndex(nodeSpec, propertySpec);
+                if(propertySpec.hasDegrees())
+                    addDegrees(nodeSpec, propertySpec);
+                if(propertySpec.isColumnar())
+                    addColumn(nodeSpec, propertySpec);
+            }
+        }
+
+        return new NFCompressedGraph(graphSpec, modelHolder, graphBuffer.getData(), graphBuffer.length(), compressedGraphPointers, inversePointers, degrees, columns);
+    }
+
+    /**
+     * A columnar property is not serialized with each node.  Instead, each node's single connection is held in a fixed-width column, indexed by ordinal.
+     */
+    private void addColumn(NFNodeSpec nodeSpec, NFPropertySpec propertySpec) {
+        NFBuildGraphNodeList nodes = buildGraphNodeCache.getNodes(nodeSpec.getNodeTypeName());
+        int connections[] = new int[nodes.size()];
+
+        for(int i=0;i<nodes.size();i++) {
+            NFBuildGraphNode node = nodes.get(i);
+            connections[i] = node == null ? -1 : node.getConnection(0, propertySpec);
+        }
+
+        columns.addColumn(nodeSpec.getNodeTypeName(), propertySpec.getName(), ConnectionColumn.of(connections));
+    }
+
+    /**
+     * Each node's degree is its number of distinct connections, as returned by the connection iterator.
+     */
+    private void addDegrees(NFNodeSpec nodeSpec, NFPropertySpec propertySpec) {
+        NFBuildGraphNodeList nodes = buildGraphNodeCache.getNodes(nodeSpec.getNodeTypeName());
+        int numModels = propertySpec.isConnectionModelSpecific() ? modelHolder.size() : 1;
+        DegreeColumn columns[] = new DegreeColumn[numModels];
+
+        for(int i=0;i<numModels;i++) {
+            int nodeDegrees[] = new int[nodes.size()];
+
+            for(int j=0;j<nodes.size();j++) {
+                NFBuildGraphNode node = nodes.get(j);
+                if(node != null) {
+                    OrdinalIterator iter = connectionIterator(node, propertySpec, i);
+                    while(iter.nextOrdinal() != OrdinalIterator.NO_MORE_ORDINALS)
+                        nodeDegrees[j]++;
+                }
+            }
+
+            columns[i] = DegreeColumn.of(nodeDegrees);
+        }
+
+        degrees.addColumns(nodeSpec.getNodeTypeName(), propertySpec.getName(), columns);
+    }
+
+    /**
+     * The incoming connections for each node of the property's target type are appended to the graph data, encoded in the same way as 
+     * a compact property.  Nodes with no incoming connections are given a pointer of -1.
+     */
+    private void addInverseIndex(NFNodeSpec nodeSpec, NFPropertySpec propertySpec) {
+        String nodeType = nodeSpec.getNodeTypeName();
+        NFBuildGraphNodeList nodes = buildGraphNodeCache.getNodes(nodeType);
+        int numTargets = buildGraphNodeCache.numNodes(propertySpec.getToNodeType());
+        int numModels = propertySpec.isConnectionModelSpecific() ? modelHolder.size() : 1;
+
+        int offsets[][] = new int[numModels][];
+        int sources[][] = new int[numModels][];
+
+        for(int i=0;i<numModels;i++) {
+            offsets[i] = new int[numTargets + 1];
+            sources[i] = invert(nodes, propertySpec, i, offsets[i]);
+        }
+
+        int numBitsInBitSet = nodes.size();
+        long ordinalPointers[] = new long[numTargets];
+
+        for(int target=0;target<numTargets;target++) {
+            if(!hasIncomingConnections(offsets, target)) {
+                ordinalPointers[target] = -1;
+                continue;
+            }
+
+            ordinalPointers[target] = graphBuffer.length();
+
+            if(propertySpec.isConnectionModelSpecific()) {
+                for(int i=0;i<numModels;i++) {
+                    serializeMultipleProperty(incomingConnections(offsets[i], sources[i], target), numBitsInBitSet, false, modelBuffer);
+                }
+                copyBuffer(modelBuffer, graphBuffer);
+            } else {
+                serializeMultipleProperty(incomingConnections(offsets[0], sources[0], target), numBitsInBitSet, false, graphBuffer);
+            }
+        }
+
+        inversePointers.addPointers(nodeType + "." + propertySpec.getName(), ordinalPointers);
+    }
+
+    /**
+     * Inverts the given property in compressed sparse row form.  The incoming connections for each target ordinal <code>t</code> are returned 
+     * in ascending order, from index <code>offsets[t]</code> (inclusive) to index <code>offsets[t+1]</code> (exclusive).
+     */
+    private int[] invert(NFBuildGraphNodeList nodes, NFPropertySpec propertySpec, int connectionModelIndex, int offsets[]) {
+        int numTargets = offsets.length - 1;
+
+        for(int i=0;i<nodes.size();i++) {
+            NFBuildGraphNode node = nodes.get(i);
+            if(node != null) {
+                OrdinalIterator iter = connectionIterator(node, propertySpec, connectionModelIndex);
+                for(int target = iter.nextOrdinal(); target != OrdinalIterator.NO_MORE_ORDINALS; target = iter.nextOrdinal()) {
+                    if(target < numTargets)
+                        offsets[target + 1]++;
+                }
+            }
+        }
+
+        for(int i=0;i<numTargets;i++)
+            offsets[i + 1] += offsets[i];
+
+        int sources[] = new int[offsets[numTargets]];
+        int position[] = Arrays.copyOf(offsets, numTargets);
+
+        /// nodes are visited in ascending ordinal order, so each list of incoming connections is sorted
+        for(int i=0;i<nodes.size();i++) {
+            NFBuildGraphNode node = nodes.get(i);
+            if(node != null) {
+                OrdinalIterator iter = connectionIterator(node, propertySpec, connectionModelIndex);
+                for(int target = iter.nextOrdinal(); target != OrdinalIterator.NO_MORE_ORDINALS; target = iter.nextOrdinal()) {
+                    if(target < numTargets)
+                        sources[position[target]++] = i;
+                }
+            }
+        }
+
+        return sources;
+    }
+
+    private OrdinalIterator connectionIterator(NFBuildGraphNode node, NFPropertySpec propertySpec, int connectionModelIndex) {
+        if(propertySpec.isSingle()) {
+            int connection = node.getConnection(connectionModelIndex, propertySpec);
+            return connection == -1 ? OrdinalIterator.EMPTY_ITERATOR : new SingleOrdinalIterator(connection);
+        }
+        return node.getConnectionIterator(connectionModelIndex, propertySpec);
+    }
+
+    private boolean hasIncomingConnections(int offsets[][], int target) {
+        for(int i=0;i<offsets.length;i++) {
+            if(offsets[i][target + 1] > offsets[i][target])
+                return true;
+        }
+        return false;
+    }
+
+    private OrdinalSet incomingConnections(int offsets[], int sources[], int target) {
+        int size = offsets[target + 1] - offsets[target];
+        if(size == 0)
+            return OrdinalSet.EMPTY_SET;
+        return new SortedArrayOrdinalSet(Arrays.copyOfRange(sources, offsets[target], offsets[target + 1]), size);
     }
 
+    /**
+     * A node without any connections is not serialized.  Its pointer is -1, the same as an absent node, so that it occupies no
+     * bytes in the graph's data and every lookup against it returns before any data is read.  Likewise, no node is serialized
+     * if every property of its type is columnar.
+     */
     private void addNodeType(String nodeType, NFBuildGraphNodeList nodes) {
         NFNodeSpec nodeSpec = graphSpec.getNodeSpec(nodeType);
+        boolean hasSerializedProperties = hasSerializedProperties(nodeSpec);
         long ordinalPointers[] = new long[nodes.size()];
 
         for(int i=0;i<nodes.size();i++) {
             NFBuildGraphNode node = nodes.get(i);
-            if(node != null) {
+            if(hasSerializedProperties && node != null && node.hasConnections()) {
                 ordinalPointers[i] = graphBuffer.length();
                 serializeNode(node, nodeSpec);
+                deduplicator.nodeWritten();
             } else {
                 ordinalPointers[i] = -1;
             }
@@ -94,20 +290,62 @@ public class NFCompressedGraphBuilder {
         compressedGraphPointers.addPointers(nodeType, ordinalPointers);
     }
 
+    private boolean hasSerializedProperties(NFNodeSpec nodeSpec) {
+        for(NFPropertySpec propertySpec : nodeSpec.getPropertySpecs()) {
+            if(!propertySpec.isColumnar())
+                return true;
+        }
+        return false;
+    }
+
     private void serializeNode(NFBuildGraphNode node, NFNodeSpec nodeSpec) {
+        if(nodeSpec.hasPropertyOffsets() && nodeSpec.getPropertySpecs().length > 1) {
+            serializeNodeWithPropertyOffsets(node, nodeSpec);
+            return;
+        }
+
         for(NFPropertySpec propertySpec : nodeSpec.getPropertySpecs()) {
-            serializeProperty(node, propertySpec);
+            serializeProperty(node, propertySpec, graphBuffer);
+        }
+    }
+
+    /**
+     * The properties are preceded by a byte indicating the width of each offset, then the offset of each property
+     * after the first, relative to the beginning of the first property.
+     */
+    private void serializeNodeWithPropertyOffsets(NFBuildGraphNode node, NFNodeSpec nodeSpec) {
+        NFPropertySpec propertySpecs[] = nodeSpec.getPropertySpecs();
+        long propertyOffsets[] = new long[propertySpecs.length];
+
+        for(int i=0;i<propertySpecs.length;i++) {
+            propertyOffsets[i] = nodeBuffer.length();
+            serializeProperty(node, propertySpecs[i], nodeBuffer);
+        }
+
+        long maxOffset = propertyOffsets[propertySpecs.length - 1];
+        int offsetWidth = Math.max(1, (64 - Long.numberOfLeadingZeros(maxOffset) + 7) / 8);
+
+        graphBuffer.writeByte((byte)offsetWidth);
+        for(int i=1;i<propertySpecs.length;i++) {
+            graphBuffer.writeFixedWidth(propertyOffsets[i], offsetWidth);
         }
+
+        deduplicator.copied(nodeBuffer, graphBuffer);
+        graphBuffer.write(nodeBuffer);
+        nodeBuffer.reset();
     }
 
-    private void serializeProperty(NFBuildGraphNode node, NFPropertySpec propertySpec) {
+    private void serializeProperty(NFBuildGraphNode node, NFPropertySpec propertySpec, ByteArrayBuffer toBuffer) {
+        if(propertySpec.isColumnar())
+            return;
+
         if(propertySpec.isConnectionModelSpecific()) {
             for(int i=0;i<modelHolder.size();i++) {
                 serializeProperty(node, propertySpec, i, modelBuffer);
             }
-            copyBuffer(modelBuffer, graphBuffer);
+            copyBuffer(modelBuffer, toBuffer);
         } else {
-            serializeProperty(node, propertySpec, 0, graphBuffer);
+            serializeProperty(node, propertySpec, 0, toBuffer);
         }
     }
 
@@ -126,12 +364,148 @@ public class NFCompressedGraphBuilder {
 
     private void serializeMultipleProperty(NFBuildGraphNode node, NFPropertySpec propertySpec, int connectionModelIndex, ByteArrayBuffer toBuffer) {
         OrdinalSet connections = node.getConnectionSet(connectionModelIndex, propertySpec);
-
         int numBitsInBitSet = buildGraphNodeCache.numNodes(propertySpec.getToNodeType());
+
+        if(propertySpec.isCounted())
+            serializeCountedProperty(connections, numBitsInBitSet, propertySpec, toBuffer);
+        else if(propertySpec.isSkipIndexed() && !propertySpec.isHashed() && connections.size() >= CompactPropertyBuilder.SKIP_INDEX_THRESHOLD)
+            serializeSkipIndexedProperty(connections, numBitsInBitSet, toBuffer);
+        else
+            serializeMultipleProperty(connections, numBitsInBitSet, propertySpec.isHashed(), toBuffer);
+    }
+
+    /**
+     * A large set of a {@link NFPropertySpec#SKIP_INDEXED} property which is not {@link NFPropertySpec#COUNTED} is written with a skip index, 
+     * preceded by {@link NFCompressedSetEncoding#COUNTED_SET_MARKER} and a counted set header.  A set which turns out to have fewer distinct 
+     * connections than {@link CompactPropertyBuilder#SKIP_INDEX_THRESHOLD}, or which is smaller as a bit set, is written as usual.
+     */
+    private void serializeSkipIndexedProperty(OrdinalSet connections, int numBitsInBitSet, ByteArrayBuffer toBuffer) {
+        OrdinalSet distinctConnections = distinct(connections);
+        int size = distinctConnections.size();
+        int bitSetSize = ((numBitsInBitSet - 1) / 8) + 1;
+
+        if(size >= CompactPropertyBuilder.SKIP_INDEX_THRESHOLD && size < bitSetSize) {
+            compactPropertyBuilder.buildSkipIndexedProperty(distinctConnections);
+
+            if(fieldBuffer.length() < bitSetSize) {
+                toBuffer.writeVInt(NFCompressedSetEncoding.COUNTED_SET_MARKER);
+                toBuffer.writeVLong(NFCompressedSetEncoding.header(NFCompressedSetEncoding.SKIP_COMPACT, fieldBuffer.length()));
+                toBuffer.writeVInt(size);
+                toBuffer.write(fieldBuffer);
+                fieldBuffer.reset();
+                return;
+            }
+
+            fieldBuffer.reset();
+        }
+
+        serializeMultipleProperty(connections, numBitsInBitSet, false, toBuffer);
+    }
+
+    /**
+     * The set is encoded in the same way as an uncounted property, but is preceded by a header which identifies its encoding and length, 
+     * then by the number of connections.  Duplicate connections are removed, so that the count is the same regardless of the encoding.<p>
+     * 
+     * For a {@link NFPropertySpec#DEDUPLICATED} property, a set which is encoded identically to one already written is replaced by the
+     * offset of the earlier set.
+     * 
+     * @see NFCompressedSetEncoding
+     */
+    private void serializeCountedProperty(OrdinalSet connections, int numBitsInBitSet, NFPropertySpec propertySpec, ByteArrayBuffer toBuffer) {
+        connections = distinct(connections);
+        int size = connections.size();
+
+        if(size == 0) {
+            toBuffer.writeByte((byte)0);
+            return;
+        }
+
+        int bitSetSize = ((numBitsInBitSet - 1) / 8) + 1;
+        int encoding;
+
+        if(propertySpec.isHashed())
+            encoding = propertySpec.isFixedWidth() ? NFCompressedSetEncoding.FIXED_HASH : NFCompressedSetEncoding.HASHED;
+        else if(propertySpec.isPartitioned())
+            encoding = NFCompressedSetEncoding.PARTITIONED;
+        else if(propertySpec.isEliasFano())
+            encoding = NFCompressedSetEncoding.ELIAS_FANO;
+        else if(propertySpec.isGroupVarInt())
+            encoding = NFCompressedSetEncoding.GROUP_VARINT;
+        else if(propertySpec.isSkipIndexed() && size >= CompactPropertyBuilder.SKIP_INDEX_THRESHOLD)
+            encoding = NFCompressedSetEncoding.SKIP_COMPACT;
+        else
+            encoding = NFCompressedSetEncoding.COMPACT;
+
+        /// runs of consecutive ordinals may be smaller than a bit set even when the set is dense, so a partitioned set is always built
+        boolean isPartitioned = encoding == NFCompressedSetEncoding.PARTITIONED;
+
+        if(size < bitSetSize || isPartitioned) {
+            switch(encoding) {
+            case NFCompressedSetEncoding.HASHED:
+                hashedPropertyBuilder.buildProperty(connections);
+                break;
+            case NFCompressedSetEncoding.FIXED_HASH:
+                hashedPropertyBuilder.buildFixedWidthProperty(connections);
+                break;
+            case NFCompressedSetEncoding.SKIP_COMPACT:
+                compactPropertyBuilder.buildSkipIndexedProperty(connections);
+                break;
+            case NFCompressedSetEncoding.PARTITIONED:
+                partitionedPropertyBuilder.buildProperty(connections);
+                break;
+            case NFCompressedSetEncoding.GROUP_VARINT:
+                groupVarIntPropertyBuilder.buildProperty(connections);
+                break;
+            case NFCompressedSetEncoding.ELIAS_FANO:
+                eliasFanoPropertyBuilder.buildProperty(connections);
+                break;
+            default:
+                compactPropertyBuilder.buildProperty(connections);
+            }
+        }
+
+        if((size >= bitSetSize && !isPartitioned) || fieldBuffer.length() >= bitSetSize) {
+            fieldBuffer.reset();
+            bitSetPropertyBuilder.buildProperty(connections, numBitsInBitSet);
+            encoding = NFCompressedSetEncoding.BIT_SET;
+        }
+
+        if(propertySpec.isRangeBitSet()) {
+            int ordinals[] = connections.asArray();
+            int minOrdinal = ordinals[0];
+            int maxOrdinal = ordinals[size - 1];
+
+            if(BitSetPropertyBuilder.rangePropertyLength(minOrdinal, maxOrdinal) < fieldBuffer.length()) {
+                fieldBuffer.reset();
+                bitSetPropertyBuilder.buildRangeProperty(connections, minOrdinal, maxOrdinal);
+                encoding = NFCompressedSetEncoding.RANGE_BIT_SET;
+            }
+        }
+
+        if(propertySpec.isDeduplicated() && fieldBuffer.length() >= ConnectionSetDeduplicator.MIN_DEDUPLICATED_LENGTH) {
+            long hash = deduplicator.hash(encoding, size, fieldBuffer);
+            long sharedSetPointer = deduplicator.find(hash, encoding, size, fieldBuffer);
+
+            if(sharedSetPointer == -1) {
+                deduplicator.add(hash, toBuffer);
+            } else {
+                fieldBuffer.reset();
+                fieldBuffer.writeVLong(sharedSetPointer);
+                encoding = NFCompressedSetEncoding.BACK_REFERENCE;
+            }
+        }
+
+        toBuffer.writeVLong(NFCompressedSetEncoding.header(encoding, fieldBuffer.length()));
+        toBuffer.writeVInt(size);
+        toBuffer.write(fieldBuffer);
+        fieldBuffer.reset();
+    }
+
+    private void serializeMultipleProperty(OrdinalSet connections, int numBitsInBitSet, boolean isHashed, ByteArrayBuffer toBuffer) {
 		int bitSetSize = ((numBitsInBitSet - 1) / 8) + 1;
 
         if(connections.size() < bitSetSize) {
-        	if(propertySpec.isHashed()) {
+        	if(isHashed) {
         		hashedPropertyBuilder.buildProperty(connections);
         		if(fieldBuffer.length() < bitSetSize) {
         	        int log2BytesUsed = 32 - Integer.numberOfLeadingZeros((int)fieldBuffer.length());
@@ -159,8 +533,22 @@ public class NFCompressedGraphBuilder {
         fieldBuffer.reset();
     }
 
+    private OrdinalSet distinct(OrdinalSet connections) {
+        int ordinals[] = connections.asArray();
+        Arrays.sort(ordinals);
+
+        int size = 0;
+        for(int i=0;i<ordinals.length;i++) {
+            if(size == 0 || ordinals[i] != ordinals[size - 1])
+                ordinals[size++] = ordinals[i];
+        }
+
+        return new SortedArrayOrdinalSet(ordinals, size);
+    }
+
     private void copyBuffer(ByteArrayBuffer from, ByteArrayBuffer to) {
         to.writeVInt((int)from.length());
+        deduplicator.copied(from, to);
         to.write(from);
         from.reset();
     }
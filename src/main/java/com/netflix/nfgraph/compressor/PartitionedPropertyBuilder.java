@@ -0,0 +1,155 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressor;
+
+import static com.netflix.nfgraph.compressed.PartitionedOrdinalSet.ARRAY_CONTAINER;
+import static com.netflix.nfgraph.compressed.PartitionedOrdinalSet.BITMAP_CONTAINER;
+import static com.netflix.nfgraph.compressed.PartitionedOrdinalSet.CHUNK_BITS;
+import static com.netflix.nfgraph.compressed.PartitionedOrdinalSet.RUN_CONTAINER;
+
+import java.util.Arrays;
+
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.compressed.PartitionedOrdinalSet;
+import com.netflix.nfgraph.util.ByteArrayBuffer;
+
+/**
+ * This class is used by {@link NFCompressedGraphBuilder} to write sets of ordinals represented as partitioned containers.<p>
+ * 
+ * It is unlikely that this class will need to be used externally.
+ * 
+ * @see PartitionedOrdinalSet
+ */
+public class PartitionedPropertyBuilder {
+
+	private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+	private static final int BITMAP_CONTAINER_SIZE = CHUNK_SIZE / 8;
+
+	private final ByteArrayBuffer buf;
+	private final ByteArrayBuffer containerBuf = new ByteArrayBuffer();
+
+	public PartitionedPropertyBuilder(ByteArrayBuffer buf) {
+		this.buf = buf;
+	}
+
+	/**
+	 * Writes the number of containers, then the directory, then each container.  Each chunk is written in whichever container 
+	 * type requires the fewest bytes.
+	 */
+	public void buildProperty(OrdinalSet ordinalSet) {
+		int ordinals[] = ordinalSet.asArray();
+		Arrays.sort(ordinals);
+
+		int numContainers = 0;
+		for(int i=0;i<ordinals.length;i++) {
+			if(i == 0 || (ordinals[i] >>> CHUNK_BITS) != (ordinals[i-1] >>> CHUNK_BITS))
+				numContainers++;
+		}
+
+		buf.writeVInt(numContainers);
+
+		int chunkStart = 0;
+		while(chunkStart < ordinals.length) {
+			int key = ordinals[chunkStart] >>> CHUNK_BITS;
+
+			int chunkEnd = chunkStart;
+			int cardinality = 0;
+			int numRuns = 0;
+			while(chunkEnd < ordinals.length && (ordinals[chunkEnd] >>> CHUNK_BITS) == key) {
+				if(chunkEnd == chunkStart || ordinals[chunkEnd] != ordinals[chunkEnd-1]) {
+					if(cardinality == 0 || ordinals[chunkEnd] != ordinals[chunkEnd-1] + 1)
+						numRuns++;
+					cardinality++;
+				}
+				chunkEnd++;
+			}
+
+			int arraySize = cardinality * 2;
+			int runSize = 2 + numRuns * 4;
+
+			int containerType;
+			if(arraySize <= runSize && arraySize <= BITMAP_CONTAINER_SIZE)
+				containerType = ARRAY_CONTAINER;
+			else if(runSize <= BITMAP_CONTAINER_SIZE)
+				containerType = RUN_CONTAINER;
+			else
+				containerType = BITMAP_CONTAINER;
+
+			buf.writeFixedWidth(key, 2);
+			buf.writeByte((byte)containerType);
+			buf.writeFixedWidth(cardinality - 1, 2);
+			buf.writeFixedWidth(containerBuf.length(), 4);
+
+			switch(containerType) {
+			case ARRAY_CONTAINER:
+				writeArrayContainer(ordinals, chunkStart, chunkEnd);
+				break;
+			case RUN_CONTAINER:
+				writeRunContainer(ordinals, chunkStart, chunkEnd, numRuns);
+				break;
+			default:
+				writeBitmapContainer(ordinals, chunkStart, chunkEnd);
+			}
+
+			chunkStart = chunkEnd;
+		}
+
+		buf.write(containerBuf);
+		containerBuf.reset();
+	}
+
+	private void writeArrayContainer(int ordinals[], int start, int end) {
+		for(int i=start;i<end;i++) {
+			if(i == start || ordinals[i] != ordinals[i-1])
+				containerBuf.writeFixedWidth(ordinals[i] & (CHUNK_SIZE - 1), 2);
+		}
+	}
+
+	private void writeRunContainer(int ordinals[], int start, int end, int numRuns) {
+		containerBuf.writeFixedWidth(numRuns, 2);
+
+		int runStart = ordinals[start];
+		int previous = runStart;
+		for(int i=start+1;i<end;i++) {
+			if(ordinals[i] > previous + 1) {
+				writeRun(runStart, previous);
+				runStart = ordinals[i];
+			}
+			previous = ordinals[i];
+		}
+
+		writeRun(runStart, previous);
+	}
+
+	private void writeRun(int runStart, int runEnd) {
+		containerBuf.writeFixedWidth(runStart & (CHUNK_SIZE - 1), 2);
+		containerBuf.writeFixedWidth(runEnd - runStart, 2);
+	}
+
+	private void writeBitmapContainer(int ordinals[], int start, int end) {
+		byte bitmap[] = new byte[BITMAP_CONTAINER_SIZE];
+
+		for(int i=start;i<end;i++) {
+			int low = ordinals[i] & (CHUNK_SIZE - 1);
+			bitmap[low >>> 3] |= (byte)(1 << (low & 0x07));
+		}
+
+		containerBuf.write(bitmap);
+	}
+
+}
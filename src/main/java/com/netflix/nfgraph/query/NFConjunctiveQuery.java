@@ -0,0 +1,104 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.netflix.nfgraph.NFGraph;
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.exception.NFGraphException;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+
+/**
+ * A query for the nodes which are contained in every one of a number of {@link OrdinalSet}s, for example the movies which 
+ * feature a given actor AND belong to a given genre AND were released in a given country:<p>
+ * 
+ * <pre>
+ * {@code
+ * NFQueryPlan plan = new NFConjunctiveQuery(graph)
+ *                          .connectedTo("Movie", actorOrdinal, "actors")
+ *                          .connectedTo("Movie", genreOrdinal, "genres")
+ *                          .and("released in country", releasedMovies)
+ *                          .plan();
+ * 
+ * OrdinalSet movies = plan.execute();
+ * }
+ * </pre>
+ * 
+ * The cost of an intersection depends on the order in which the sets are visited.  {@link #plan()} examines the estimated size
+ * and the encoding of each set to choose that order, which is described by {@link NFQueryPlan#explain()}.
+ */
+public class NFConjunctiveQuery {
+
+    private final NFGraph graph;
+    private final List<String> labels;
+    private final List<OrdinalSet> sets;
+
+    public NFConjunctiveQuery(NFGraph graph) {
+        this.graph = graph;
+        this.labels = new ArrayList<String>();
+        this.sets = new ArrayList<OrdinalSet>();
+    }
+
+    /**
+     * Require the result to be contained in the given set.
+     * 
+     * @param label a description of the set, used in {@link NFQueryPlan#explain()}.
+     */
+    public NFConjunctiveQuery and(String label, OrdinalSet set) {
+        labels.add(label);
+        sets.add(set);
+        return this;
+    }
+
+    /**
+     * Require the result to be connected from the given node by the given property.
+     */
+    public NFConjunctiveQuery connectedFrom(String nodeType, int ordinal, String propertyName) {
+        return and(nodeType + "[" + ordinal + "]." + propertyName, graph.getConnectionSet(nodeType, ordinal, propertyName));
+    }
+
+    /**
+     * Require the result to be nodes of the given type which connect to the given ordinal by the given property.  The property must 
+     * be specified with {@link NFPropertySpec#INDEXED_INVERSE}.
+     */
+    public NFConjunctiveQuery connectedTo(String nodeType, int ordinal, String propertyName) {
+        return and(nodeType + "." + propertyName + " -> [" + ordinal + "]", graph.getIncomingConnectionSet(nodeType, ordinal, propertyName));
+    }
+
+    /**
+     * @return a plan for evaluating this query.
+     */
+    public NFQueryPlan plan() {
+        if(sets.isEmpty())
+            throw new NFGraphException("A conjunctive query requires at least one set");
+
+        return NFQueryPlan.plan(labels, sets);
+    }
+
+    /**
+     * Plan and evaluate this query.
+     * 
+     * @return the ordinals which are contained in every set.
+     */
+    public OrdinalSet execute() {
+        return plan().execute();
+    }
+
+}
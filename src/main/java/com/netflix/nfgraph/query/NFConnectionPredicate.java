@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.query;
+
+import com.netflix.nfgraph.compressed.NFCompressedGraphCursor;
+
+/**
+ * A condition on the connections of a single property of a single node, used by {@link NFPathQuery#where(String, NFConnectionPredicate)}.<p>
+ * 
+ * The predicate is given an {@link NFCompressedGraphCursor} positioned at the connections.  It may probe or iterate the cursor, but 
+ * should not retain it.
+ */
+public interface NFConnectionPredicate {
+
+    public boolean test(NFCompressedGraphCursor connections);
+
+    /**
+     * @return a predicate which is satisfied if the given ordinal is connected.
+     */
+    public static NFConnectionPredicate contains(int ordinal) {
+        return connections -> connections.contains(ordinal);
+    }
+
+    /**
+     * @return a predicate which is satisfied if any of the given ordinals is connected.
+     */
+    public static NFConnectionPredicate containsAny(int... ordinals) {
+        int values[] = ordinals.clone();
+        return connections -> {
+            for(int ordinal : values) {
+                if(connections.contains(ordinal))
+                    return true;
+            }
+            return false;
+        };
+    }
+
+    /**
+     * @return a predicate which is satisfied if all of the given ordinals are connected.
+     */
+    public static NFConnectionPredicate containsAll(int... ordinals) {
+        int values[] = ordinals.clone();
+        return connections -> {
+            for(int ordinal : values) {
+                if(!connections.contains(ordinal))
+                    return false;
+            }
+            return true;
+        };
+    }
+
+    /**
+     * @return a predicate which is satisfied if there is at least one connection.
+     */
+    public static NFConnectionPredicate isNotEmpty() {
+        return connections -> connections.size() > 0;
+    }
+
+    /**
+     * @return a predicate which is satisfied if there are no connections.
+     */
+    public static NFConnectionPredicate isEmpty() {
+        return connections -> connections.size() == 0;
+    }
+
+    /**
+     * @return a predicate which is satisfied if there are at least <code>minimum</code> connections.
+     */
+    public static NFConnectionPredicate sizeAtLeast(int minimum) {
+        return connections -> connections.size() >= minimum;
+    }
+
+    /**
+     * @return a predicate which is satisfied if this predicate is not.
+     */
+    public default NFConnectionPredicate negate() {
+        return connections -> !test(connections);
+    }
+
+}
@@ -0,0 +1,218 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.query;
+
+import static com.netflix.nfgraph.OrdinalIterator.NO_MORE_ORDINALS;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.netflix.nfgraph.NFPropertyHandle;
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.compressed.NFCompressedGraph;
+import com.netflix.nfgraph.compressed.NFCompressedGraphCursor;
+
+/**
+ * An <code>NFGraphTraversal</code> expands a frontier of nodes across a sequence of properties in an {@link NFCompressedGraph}, 
+ * breadth first.<p>
+ * 
+ * For example, the following returns the movies which share an actor with any of the given movies, and then their genres:<p>
+ * 
+ * <pre>
+ * {@code
+ * NFGraphTraversal traversal = new NFGraphTraversal(graph);
+ * 
+ * OrdinalSet genres = traversal.expand("Movie", movies, "actors", "movies", "genres");
+ * }
+ * </pre>
+ * 
+ * Each node type has a visited bit set, which spans the entire traversal.  A node is added to the frontier only the first time it 
+ * is reached, so a node of a type which appears at several hops is expanded at most once.  In the example above, the returned 
+ * genres are those of movies other than the starting movies.<p>
+ * 
+ * The frontier at each hop is divided into chunks, which are expanded in parallel in a {@link ForkJoinPool}.  Each chunk reads 
+ * connections with its own {@link NFCompressedGraphCursor}, and no ordinals are boxed.<p>
+ * 
+ * An <code>NFGraphTraversal</code> is thread-safe, provided that each connection model used has already been registered with the graph.
+ */
+public class NFGraphTraversal {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private final NFCompressedGraph graph;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Create a traversal which expands frontiers in the common {@link ForkJoinPool}.
+     */
+    public NFGraphTraversal(NFCompressedGraph graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    public NFGraphTraversal(NFCompressedGraph graph, ForkJoinPool pool) {
+        this(graph, pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param chunkSize the number of frontier nodes expanded by each task.  Frontiers no larger than this are expanded in a single task.
+     */
+    public NFGraphTraversal(NFCompressedGraph graph, ForkJoinPool pool, int chunkSize) {
+        this.graph = graph;
+        this.pool = pool;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Expand the given frontier of nodes of the given type across each of the given properties in turn.
+     * 
+     * @return the nodes first reached by the last property.  If no properties are given, the distinct nodes in the frontier.
+     */
+    public OrdinalSet expand(String nodeType, OrdinalSet frontier, String... propertyNames) {
+        return expand(null, nodeType, frontier, propertyNames);
+    }
+
+    /**
+     * Expand the given frontier of nodes of the given type across each of the given properties in turn, in the given connection model.
+     * 
+     * @return the nodes first reached by the last property.  If no properties are given, the distinct nodes in the frontier.
+     */
+    public OrdinalSet expand(String connectionModel, String nodeType, OrdinalSet frontier, String... propertyNames) {
+        Map<String, AtomicLongArray> visitedByType = new HashMap<String, AtomicLongArray>();
+
+        AtomicLongArray visited = visited(visitedByType, nodeType);
+        int numNodes = graph.getNumNodes(nodeType);
+
+        int ordinals[] = new int[16];
+        int numOrdinals = 0;
+
+        OrdinalIterator iter = frontier.iterator();
+        for(int ordinal = iter.nextOrdinal(); ordinal != NO_MORE_ORDINALS; ordinal = iter.nextOrdinal()) {
+            if(ordinal >= 0 && ordinal < numNodes && setBit(visited, ordinal)) {
+                if(numOrdinals == ordinals.length)
+                    ordinals = Arrays.copyOf(ordinals, ordinals.length * 2);
+                ordinals[numOrdinals++] = ordinal;
+            }
+        }
+
+        ordinals = Arrays.copyOf(ordinals, numOrdinals);
+
+        for(String propertyName : propertyNames) {
+            NFPropertyHandle property = connectionModel == null ? graph.getPropertyHandle(nodeType, propertyName)
+                                                                : graph.getPropertyHandle(connectionModel, nodeType, propertyName);
+            nodeType = property.getPropertySpec().getToNodeType();
+            visited = visited(visitedByType, nodeType);
+
+            if(ordinals.length > 0)
+                ordinals = pool.invoke(new ExpandTask(property, ordinals, 0, ordinals.length, visited));
+        }
+
+        Arrays.sort(ordinals);
+        return OrdinalBitSets.toOrdinalSet(ordinals, visited.length());
+    }
+
+    /**
+     * Expands a range of the frontier.  Each task returns the nodes which it was first to reach, so the next frontier is assembled 
+     * from the leaves without scanning a bit set spanning every node of the type.
+     */
+    private class ExpandTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final NFPropertyHandle property;
+        private final int ordinals[];
+        private final int from;
+        private final int to;
+        private final AtomicLongArray visited;
+
+        ExpandTask(NFPropertyHandle property, int ordinals[], int from, int to, AtomicLongArray visited) {
+            this.property = property;
+            this.ordinals = ordinals;
+            this.from = from;
+            this.to = to;
+            this.visited = visited;
+        }
+
+        @Override
+        protected int[] compute() {
+            if(to - from > chunkSize) {
+                int mid = (from + to) >>> 1;
+                ExpandTask right = new ExpandTask(property, ordinals, mid, to, visited);
+                right.fork();
+
+                int leftReached[] = new ExpandTask(property, ordinals, from, mid, visited).compute();
+                int rightReached[] = right.join();
+
+                int reached[] = Arrays.copyOf(leftReached, leftReached.length + rightReached.length);
+                System.arraycopy(rightReached, 0, reached, leftReached.length, rightReached.length);
+                return reached;
+            }
+
+            NFCompressedGraphCursor cursor = graph.newCursor();
+            long numBits = (long)visited.length() << 6;
+
+            int reached[] = new int[to - from];
+            int numReached = 0;
+
+            for(int i=from;i<to;i++) {
+                cursor.position(property, ordinals[i]);
+
+                for(int connection = cursor.nextOrdinal(); connection != NO_MORE_ORDINALS; connection = cursor.nextOrdinal()) {
+                    /// only the task which first visits a node adds it to the next frontier
+                    if(connection >= 0 && connection < numBits && setBit(visited, connection)) {
+                        if(numReached == reached.length)
+                            reached = Arrays.copyOf(reached, reached.length * 2);
+                        reached[numReached++] = connection;
+                    }
+                }
+            }
+
+            return Arrays.copyOf(reached, numReached);
+        }
+    }
+
+    private AtomicLongArray visited(Map<String, AtomicLongArray> visitedByType, String nodeType) {
+        AtomicLongArray visited = visitedByType.get(nodeType);
+        if(visited == null) {
+            visited = new AtomicLongArray((graph.getNumNodes(nodeType) + 63) >>> 6);
+            visitedByType.put(nodeType, visited);
+        }
+        return visited;
+    }
+
+    /**
+     * @return true if the bit was not previously set.
+     */
+    private static boolean setBit(AtomicLongArray bits, int ordinal) {
+        int wordIndex = ordinal >>> 6;
+        long mask = 1L << (ordinal & 0x3F);
+
+        while(true) {
+            long word = bits.get(wordIndex);
+            if((word & mask) != 0)
+                return false;
+            if(bits.compareAndSet(wordIndex, word, word | mask))
+                return true;
+        }
+    }
+
+}
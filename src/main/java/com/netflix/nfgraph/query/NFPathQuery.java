@@ -0,0 +1,313 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.query;
+
+import static com.netflix.nfgraph.OrdinalIterator.NO_MORE_ORDINALS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.netflix.nfgraph.NFPropertyHandle;
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.compressed.NFCompressedGraph;
+import com.netflix.nfgraph.compressed.NFCompressedGraphCursor;
+import com.netflix.nfgraph.util.SortedArrayOrdinalSet;
+
+/**
+ * A path query over an {@link NFCompressedGraph}, which is evaluated lazily as a pipeline of {@link OrdinalIterator} stages.<p>
+ * 
+ * A query begins at a set of nodes, then follows properties from node to node, optionally filtering and deduplicating along the way:<p>
+ * 
+ * <pre>
+ * {@code
+ * import static com.netflix.nfgraph.query.NFConnectionPredicate.contains;
+ * 
+ * ...
+ * 
+ * OrdinalIterator movies = NFPathQuery.from(graph, "Movie", movieOrdinal)
+ *                                     .out("actors")
+ *                                     .out("movies")
+ *                                     .where("genres", contains(genreOrdinal))
+ *                                     .distinct()
+ *                                     .iterator();
+ * }
+ * </pre>
+ * 
+ * No intermediate results are materialized.  Each <code>out()</code> stage pulls a node from the previous stage only once it has 
+ * returned all of the connections of the prior node, which it reads with a reusable {@link NFCompressedGraphCursor}.  Each 
+ * <code>where()</code> and <code>distinct()</code> is fused into the stage which produces the nodes it applies to, rather than adding 
+ * a stage of its own.  <code>distinct()</code> tracks the nodes which have been returned in a bit set.<p>
+ * 
+ * Each call to a method which adds to the path modifies and returns this query.  Property names are resolved as they are added, and
+ * an unknown property fails immediately.  Each iterator obtained from the query is independent, but is not thread-safe.
+ */
+public class NFPathQuery {
+
+    private final NFCompressedGraph graph;
+    private final String connectionModel;
+    private final OrdinalSet sourceOrdinals;
+    private final List<Step> steps;
+
+    private String nodeType;
+
+    /**
+     * Begin a query at the given nodes.  Usually, a query is instead created with {@link #from(NFCompressedGraph, String, int...)}.
+     * 
+     * @param connectionModel the connection model in which each property is followed, or null for the global connection model.
+     */
+    public NFPathQuery(NFCompressedGraph graph, String connectionModel, String nodeType, OrdinalSet ordinals) {
+        this.graph = graph;
+        this.connectionModel = connectionModel;
+        this.sourceOrdinals = ordinals;
+        this.nodeType = nodeType;
+        this.steps = new ArrayList<Step>();
+        this.steps.add(new Step(nodeType, null));
+    }
+
+    /**
+     * Begin a path query at the given nodes.
+     */
+    public static NFPathQuery from(NFCompressedGraph graph, String nodeType, int... ordinals) {
+        int sortedOrdinals[] = ordinals.clone();
+        Arrays.sort(sortedOrdinals);
+        return from(graph, nodeType, new SortedArrayOrdinalSet(sortedOrdinals, sortedOrdinals.length));
+    }
+
+    /**
+     * Begin a path query at the given nodes.
+     */
+    public static NFPathQuery from(NFCompressedGraph graph, String nodeType, OrdinalSet ordinals) {
+        return new NFPathQuery(graph, null, nodeType, ordinals);
+    }
+
+    /**
+     * Begin a path query at the given nodes, which will follow properties in the given connection model.
+     */
+    public static NFPathQuery from(NFCompressedGraph graph, String connectionModel, String nodeType, OrdinalSet ordinals) {
+        return new NFPathQuery(graph, connectionModel, nodeType, ordinals);
+    }
+
+    /**
+     * Follow the given property from each node at the end of the path.
+     */
+    public NFPathQuery out(String propertyName) {
+        NFPropertyHandle property = resolve(propertyName);
+        nodeType = property.getPropertySpec().getToNodeType();
+        steps.add(new Step(nodeType, property));
+        return this;
+    }
+
+    /**
+     * Keep only the nodes at the end of the path whose connections via the given property satisfy the given predicate.
+     */
+    public NFPathQuery where(String propertyName, NFConnectionPredicate predicate) {
+        currentStep().addFilter(resolve(propertyName), predicate);
+        return this;
+    }
+
+    /**
+     * Return each node at the end of the path only once.
+     */
+    public NFPathQuery distinct() {
+        currentStep().distinct = true;
+        return this;
+    }
+
+    /**
+     * @return the type of the nodes at the end of the path.
+     */
+    public String getNodeType() {
+        return nodeType;
+    }
+
+    /**
+     * @return a new lazily evaluated iterator over the nodes at the end of the path.  Unless the path is {@link #distinct()}, a node 
+     * is returned once for each way in which it was reached.
+     */
+    public OrdinalIterator iterator() {
+        OrdinalIterator iter = new StageIterator(sourceOrdinals.iterator(), steps.get(0));
+        for(int i=1;i<steps.size();i++)
+            iter = new StageIterator(iter, steps.get(i));
+        return iter;
+    }
+
+    /**
+     * @return the distinct nodes at the end of the path.
+     */
+    public OrdinalSet toOrdinalSet() {
+        long words[] = new long[numWords(nodeType)];
+        OrdinalIterator iter = iterator();
+
+        for(int ordinal = iter.nextOrdinal(); ordinal != NO_MORE_ORDINALS; ordinal = iter.nextOrdinal()) {
+            if(ordinal < (words.length << 6))
+                words[ordinal >>> 6] |= 1L << (ordinal & 0x3F);
+        }
+
+        return OrdinalBitSets.toOrdinalSet(OrdinalBitSets.toOrdinals(words), words);
+    }
+
+    /**
+     * @return the number of nodes at the end of the path.  Unless the path is {@link #distinct()}, a node is counted once for each way 
+     * in which it was reached.
+     */
+    public int count() {
+        OrdinalIterator iter = iterator();
+        int count = 0;
+
+        while(iter.nextOrdinal() != NO_MORE_ORDINALS)
+            count++;
+
+        return count;
+    }
+
+    private NFPropertyHandle resolve(String propertyName) {
+        if(connectionModel == null)
+            return graph.getPropertyHandle(nodeType, propertyName);
+        return graph.getPropertyHandle(connectionModel, nodeType, propertyName);
+    }
+
+    private Step currentStep() {
+        return steps.get(steps.size() - 1);
+    }
+
+    private int numWords(String nodeType) {
+        return (graph.getNumNodes(nodeType) + 63) >>> 6;
+    }
+
+    /**
+     * A step produces nodes of a single type, either from the query's source ordinals or by following a property, and applies 
+     * any filters and deduplication to those nodes.
+     */
+    private static class Step {
+        private final String nodeType;
+        private final NFPropertyHandle property;
+        private NFPropertyHandle filterProperties[] = new NFPropertyHandle[0];
+        private NFConnectionPredicate filterPredicates[] = new NFConnectionPredicate[0];
+        private boolean distinct;
+
+        Step(String nodeType, NFPropertyHandle property) {
+            this.nodeType = nodeType;
+            this.property = property;
+        }
+
+        void addFilter(NFPropertyHandle filterProperty, NFConnectionPredicate predicate) {
+            filterProperties = Arrays.copyOf(filterProperties, filterProperties.length + 1);
+            filterPredicates = Arrays.copyOf(filterPredicates, filterPredicates.length + 1);
+            filterProperties[filterProperties.length - 1] = filterProperty;
+            filterPredicates[filterPredicates.length - 1] = predicate;
+        }
+    }
+
+    private class StageIterator implements OrdinalIterator {
+
+        private final OrdinalIterator upstream;
+        private final Step step;
+        private final NFPropertyHandle property;
+        private final NFPropertyHandle filterProperties[];
+        private final NFConnectionPredicate filterPredicates[];
+        private final NFCompressedGraphCursor cursor;
+        private final NFCompressedGraphCursor filterCursor;
+        private final long returned[];
+        private boolean positioned;
+        private boolean exhausted;
+
+        /// the step is captured as it is now, so that later additions to the query do not affect this iterator
+        StageIterator(OrdinalIterator upstream, Step step) {
+            this.upstream = upstream;
+            this.step = step;
+            this.property = step.property;
+            this.filterProperties = step.filterProperties;
+            this.filterPredicates = step.filterPredicates;
+            this.cursor = property == null ? null : graph.newCursor();
+            this.filterCursor = filterProperties.length == 0 ? null : graph.newCursor();
+            this.returned = step.distinct ? new long[numWords(step.nodeType)] : null;
+        }
+
+        @Override
+        public int nextOrdinal() {
+            while(!exhausted) {
+                int ordinal = nextCandidate();
+
+                if(ordinal == NO_MORE_ORDINALS) {
+                    exhausted = true;
+                } else if(ordinal >= 0 && accept(ordinal)) {
+                    return ordinal;
+                }
+            }
+
+            return NO_MORE_ORDINALS;
+        }
+
+        private int nextCandidate() {
+            if(cursor == null)
+                return upstream.nextOrdinal();
+
+            int connection = positioned ? cursor.nextOrdinal() : NO_MORE_ORDINALS;
+
+            while(connection == NO_MORE_ORDINALS) {
+                int ordinal = upstream.nextOrdinal();
+                if(ordinal == NO_MORE_ORDINALS)
+                    return NO_MORE_ORDINALS;
+
+                cursor.position(property, ordinal);
+                positioned = true;
+                connection = cursor.nextOrdinal();
+            }
+
+            return connection;
+        }
+
+        private boolean accept(int ordinal) {
+            if(returned != null && ordinal < (returned.length << 6) && (returned[ordinal >>> 6] & (1L << (ordinal & 0x3F))) != 0)
+                return false;
+
+            for(int i=0;i<filterProperties.length;i++) {
+                filterCursor.position(filterProperties[i], ordinal);
+                if(!filterPredicates[i].test(filterCursor))
+                    return false;
+            }
+
+            if(returned != null && ordinal < (returned.length << 6))
+                returned[ordinal >>> 6] |= 1L << (ordinal & 0x3F);
+
+            return true;
+        }
+
+        @Override
+        public void reset() {
+            upstream.reset();
+            positioned = false;
+            if(returned != null)
+                Arrays.fill(returned, 0);
+            exhausted = false;
+        }
+
+        @Override
+        public OrdinalIterator copy() {
+            return new StageIterator(upstream.copy(), step);
+        }
+
+        @Override
+        public boolean isOrdered() {
+            return cursor == null && upstream.isOrdered();
+        }
+    }
+
+}
@@ -0,0 +1,299 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.query;
+
+import static com.netflix.nfgraph.OrdinalIterator.NO_MORE_ORDINALS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import com.netflix.nfgraph.LeapfrogIntersectionIterator;
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.OrdinalSets;
+import com.netflix.nfgraph.SeekableOrdinalIterator;
+import com.netflix.nfgraph.compressed.BitSetOrdinalSet;
+import com.netflix.nfgraph.compressed.CompactOrdinalSet;
+import com.netflix.nfgraph.compressed.EliasFanoOrdinalSet;
+import com.netflix.nfgraph.compressed.FixedWidthHashSetOrdinalSet;
+import com.netflix.nfgraph.compressed.GroupVarIntOrdinalSet;
+import com.netflix.nfgraph.compressed.HashSetOrdinalSet;
+import com.netflix.nfgraph.compressed.PartitionedOrdinalSet;
+import com.netflix.nfgraph.compressed.RangeBitSetOrdinalSet;
+import com.netflix.nfgraph.compressed.SingleOrdinalSet;
+import com.netflix.nfgraph.compressed.SkipCompactOrdinalSet;
+import com.netflix.nfgraph.util.SortedArrayOrdinalSet;
+
+/**
+ * A plan for intersecting a number of {@link OrdinalSet}s, created by {@link NFConjunctiveQuery#plan()}.<p>
+ * 
+ * Each set is assigned one of the following roles:<p>
+ * 
+ * <ul>
+ * <li><b>DRIVE</b>:  The set with the smallest estimated size is iterated.</li>
+ * <li><b>SEEK</b>:  Sets whose membership tests require a scan, such as {@link CompactOrdinalSet}s, are skipped through in step with 
+ *     the driving set by a {@link LeapfrogIntersectionIterator}, so that each is scanned at most once.</li>
+ * <li><b>PROBE</b>:  Sets with fast membership tests, such as {@link BitSetOrdinalSet}s and {@link HashSetOrdinalSet}s, are probed for 
+ *     each remaining candidate.  The cheapest and smallest sets are probed first, since they are most likely to eliminate a candidate.</li>
+ * </ul>
+ * 
+ * If every set is a {@link BitSetOrdinalSet}, they are instead combined a 64-bit word at a time.<p>
+ * 
+ * Planning never decodes a set.  Each set's size is taken from the count in its header where its encoding records one, and is 
+ * otherwise estimated with {@link OrdinalSet#estimatedSize()}.  If a set's header records that it is empty, the plan returns an 
+ * empty set without examining the others.  An estimate of zero only means that a set may be empty.  Such a set drives, so an 
+ * empty set still ends evaluation after its first ordinal is read.
+ */
+public class NFQueryPlan {
+
+    private static final int CONSTANT = 0;
+    private static final int LOGARITHMIC = 1;
+    private static final int LINEAR = 2;
+
+    /// a group varint set of at most one group is probed by decoding a single tag byte and four deltas
+    private static final int SINGLE_GROUP = 4;
+
+    private final Term emptyTerm;
+    private final Term bitSetTerms[];
+    private final Term driver;
+    private final Term seekTerms[];
+    private final Term probeTerms[];
+
+    private NFQueryPlan(Term emptyTerm, Term bitSetTerms[], Term driver, Term seekTerms[], Term probeTerms[]) {
+        this.emptyTerm = emptyTerm;
+        this.bitSetTerms = bitSetTerms;
+        this.driver = driver;
+        this.seekTerms = seekTerms;
+        this.probeTerms = probeTerms;
+    }
+
+    static NFQueryPlan plan(List<String> labels, List<OrdinalSet> sets) {
+        List<Term> terms = new ArrayList<Term>();
+        for(int i=0;i<sets.size();i++)
+            terms.add(new Term(labels.get(i), sets.get(i)));
+
+        for(Term term : terms) {
+            if(term.exactSize && term.estimatedSize == 0)
+                return new NFQueryPlan(term, null, null, null, null);
+        }
+
+        if(terms.size() > 1 && allBitSets(terms))
+            return new NFQueryPlan(null, terms.toArray(new Term[terms.size()]), null, null, null);
+
+        /// the smallest set drives.  Among sets of equal size, one which would be expensive to probe drives.
+        Collections.sort(terms, new Comparator<Term>() {
+            public int compare(Term a, Term b) {
+                if(a.estimatedSize != b.estimatedSize)
+                    return a.estimatedSize < b.estimatedSize ? -1 : 1;
+                return b.probeCost - a.probeCost;
+            }
+        });
+
+        Term driver = terms.get(0);
+        List<Term> seekTerms = new ArrayList<Term>();
+        List<Term> probeTerms = new ArrayList<Term>();
+
+        for(int i=1;i<terms.size();i++) {
+            if(terms.get(i).probeCost == LINEAR)
+                seekTerms.add(terms.get(i));
+            else
+                probeTerms.add(terms.get(i));
+        }
+
+        Collections.sort(probeTerms, new Comparator<Term>() {
+            public int compare(Term a, Term b) {
+                if(a.probeCost != b.probeCost)
+                    return a.probeCost - b.probeCost;
+                return Integer.compare(a.estimatedSize, b.estimatedSize);
+            }
+        });
+
+        return new NFQueryPlan(null, null, driver, seekTerms.toArray(new Term[seekTerms.size()]), probeTerms.toArray(new Term[probeTerms.size()]));
+    }
+
+    /**
+     * Evaluate this plan.
+     * 
+     * @return the ordinals which are contained in every set.
+     */
+    public OrdinalSet execute() {
+        if(emptyTerm != null)
+            return OrdinalSet.EMPTY_SET;
+
+        if(bitSetTerms != null) {
+            OrdinalSet result = bitSetTerms[0].set;
+            for(int i=1;i<bitSetTerms.length;i++)
+                result = OrdinalSets.intersect(result, bitSetTerms[i].set);
+            return result;
+        }
+
+        if(driver.estimatedSize == 0 && driver.set.iterator().nextOrdinal() == NO_MORE_ORDINALS)
+            return OrdinalSet.EMPTY_SET;
+
+        OrdinalIterator iter;
+
+        if(seekTerms.length > 0) {
+            SeekableOrdinalIterator iterators[] = new SeekableOrdinalIterator[seekTerms.length + 1];
+            iterators[0] = OrdinalSets.seekableIterator(driver.set);
+            for(int i=0;i<seekTerms.length;i++)
+                iterators[i + 1] = OrdinalSets.seekableIterator(seekTerms[i].set);
+            iter = new LeapfrogIntersectionIterator(iterators);
+        } else {
+            iter = driver.set.iterator();
+        }
+
+        int result[] = new int[Math.max(1, Math.min(driver.estimatedSize, 1024))];
+        int size = 0;
+
+        for(int ordinal = iter.nextOrdinal(); ordinal != NO_MORE_ORDINALS; ordinal = iter.nextOrdinal()) {
+            if(probeAll(ordinal)) {
+                if(size == result.length)
+                    result = Arrays.copyOf(result, size * 2);
+                result[size++] = ordinal;
+            }
+        }
+
+        if(size == 0)
+            return OrdinalSet.EMPTY_SET;
+
+        if(!iter.isOrdered())
+            Arrays.sort(result, 0, size);
+
+        return new SortedArrayOrdinalSet(result, size);
+    }
+
+    private boolean probeAll(int ordinal) {
+        for(Term term : probeTerms) {
+            if(!term.set.contains(ordinal))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return a description of this plan, with one line for each set in the order in which it is visited.
+     */
+    public String explain() {
+        StringBuilder builder = new StringBuilder();
+
+        if(emptyTerm != null) {
+            builder.append("EMPTY   ").append(emptyTerm.describe()).append("\n");
+        } else if(bitSetTerms != null) {
+            for(Term term : bitSetTerms)
+                builder.append("AND     ").append(term.describe()).append("\n");
+        } else {
+            builder.append("DRIVE   ").append(driver.describe()).append("\n");
+            for(Term term : seekTerms)
+                builder.append("SEEK    ").append(term.describe()).append("\n");
+            for(Term term : probeTerms)
+                builder.append("PROBE   ").append(term.describe()).append("\n");
+        }
+
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return explain();
+    }
+
+    private static boolean allBitSets(List<Term> terms) {
+        for(Term term : terms) {
+            if(!(term.set instanceof BitSetOrdinalSet))
+                return false;
+        }
+        return true;
+    }
+
+    private static class Term {
+        private final String label;
+        private final OrdinalSet set;
+        private final int estimatedSize;
+        private final boolean exactSize;
+        private final int probeCost;
+        private final String encoding;
+
+        Term(String label, OrdinalSet set) {
+            this.label = label;
+            this.set = set;
+
+            if(set instanceof BitSetOrdinalSet) {
+                encoding = "bit set";
+                exactSize = false;
+                probeCost = CONSTANT;
+            } else if(set instanceof RangeBitSetOrdinalSet) {
+                encoding = "range bit set";
+                exactSize = true;
+                probeCost = CONSTANT;
+            } else if(set instanceof HashSetOrdinalSet) {
+                encoding = "hashed";
+                exactSize = false;
+                probeCost = CONSTANT;
+            } else if(set instanceof FixedWidthHashSetOrdinalSet) {
+                encoding = "fixed-width hashed";
+                exactSize = true;
+                probeCost = CONSTANT;
+            } else if(set instanceof SingleOrdinalSet) {
+                encoding = "single";
+                exactSize = true;
+                probeCost = CONSTANT;
+            } else if(set instanceof SortedArrayOrdinalSet) {
+                encoding = "sorted array";
+                exactSize = true;
+                probeCost = LOGARITHMIC;
+            } else if(set instanceof EliasFanoOrdinalSet) {
+                encoding = "elias-fano";
+                exactSize = true;
+                probeCost = LOGARITHMIC;
+            } else if(set instanceof GroupVarIntOrdinalSet) {
+                encoding = "group varint";
+                exactSize = true;
+                probeCost = set.size() <= SINGLE_GROUP ? CONSTANT : LINEAR;
+            } else if(set instanceof PartitionedOrdinalSet) {
+                encoding = "partitioned";
+                exactSize = true;
+                probeCost = LOGARITHMIC;
+            } else if(set instanceof SkipCompactOrdinalSet) {
+                encoding = "skip-indexed compact";
+                exactSize = true;
+                probeCost = LOGARITHMIC;
+            } else if(set instanceof CompactOrdinalSet) {
+                encoding = "compact";
+                exactSize = false;
+                probeCost = LINEAR;
+            } else {
+                encoding = set == OrdinalSet.EMPTY_SET ? "empty" : set.getClass().getSimpleName();
+                exactSize = set == OrdinalSet.EMPTY_SET;
+                probeCost = LINEAR;
+            }
+
+            /// each exact size is the count in the set's header, which is read without decoding the set
+            this.estimatedSize = exactSize ? set.size() : set.estimatedSize();
+        }
+
+        String describe() {
+            return label + " (" + encoding + ", " + (exactSize ? "" : "~") + estimatedSize + " ordinals, " + PROBE_COSTS[probeCost] + " contains)";
+        }
+    }
+
+    private static final String PROBE_COSTS[] = { "O(1)", "O(log n)", "O(n)" };
+
+}
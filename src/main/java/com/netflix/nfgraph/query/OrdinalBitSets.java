@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.query;
+
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.compressed.BitSetOrdinalSet;
+import com.netflix.nfgraph.util.ByteArrayReader;
+import com.netflix.nfgraph.util.SimpleByteArray;
+import com.netflix.nfgraph.util.SortedArrayOrdinalSet;
+
+/**
+ * Conversions from the 64-bit word bit sets used to track nodes during queries.
+ */
+class OrdinalBitSets {
+
+    private OrdinalBitSets() { }
+
+    /**
+     * @return the ordinals whose bits are set, in ascending order.
+     */
+    static int[] toOrdinals(long words[]) {
+        int count = 0;
+        for(long word : words)
+            count += Long.bitCount(word);
+
+        int ordinals[] = new int[count];
+        int position = 0;
+
+        for(int i=0;i<words.length;i++) {
+            long word = words[i];
+            while(word != 0) {
+                ordinals[position++] = (i << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+
+        return ordinals;
+    }
+
+    /**
+     * @return an {@link OrdinalSet} containing the given sorted ordinals, whose bits are set in <code>words</code>.  A {@link BitSetOrdinalSet} 
+     * is returned when it is smaller than a {@link SortedArrayOrdinalSet}.
+     */
+    static OrdinalSet toOrdinalSet(int ordinals[], long words[]) {
+        if(ordinals.length == 0)
+            return OrdinalSet.EMPTY_SET;
+
+        if((long)ordinals.length * 4 <= (long)words.length * 8)
+            return new SortedArrayOrdinalSet(ordinals, ordinals.length);
+
+        byte data[] = new byte[words.length << 3];
+        for(int i=0;i<words.length;i++) {
+            for(int j=0;j<8;j++)
+                data[(i << 3) + j] = (byte)(words[i] >>> (j << 3));
+        }
+
+        return new BitSetOrdinalSet(new ByteArrayReader(new SimpleByteArray(data), 0, data.length));
+    }
+
+    /**
+     * @return an {@link OrdinalSet} containing the given sorted ordinals, each of which lies within a bit set of <code>numWords</code> words.  
+     * A {@link BitSetOrdinalSet} is returned when it is smaller than a {@link SortedArrayOrdinalSet}.
+     */
+    static OrdinalSet toOrdinalSet(int ordinals[], int numWords) {
+        if(ordinals.length == 0)
+            return OrdinalSet.EMPTY_SET;
+
+        if((long)ordinals.length * 4 <= (long)numWords * 8)
+            return new SortedArrayOrdinalSet(ordinals, ordinals.length);
+
+        byte data[] = new byte[numWords << 3];
+        for(int ordinal : ordinals)
+            data[ordinal >>> 3] |= 1 << (ordinal & 0x07);
+
+        return new BitSetOrdinalSet(new ByteArrayReader(new SimpleByteArray(data), 0, data.length));
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.serializer;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+
+import com.netflix.nfgraph.compressed.ConnectionColumn;
+import com.netflix.nfgraph.compressed.NFCompressedGraphColumns;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.BitPackedArray;
+
+public class NFCompressedGraphColumnsDeserializer {
+
+    NFCompressedGraphColumns deserializeColumns(DataInputStream dis, NFGraphSpec spec) throws IOException {
+        NFCompressedGraphColumns columns = new NFCompressedGraphColumns();
+
+        for(NFNodeSpec nodeSpec : spec) {
+            for(NFPropertySpec propertySpec : nodeSpec.getPropertySpecs()) {
+                if(propertySpec.isColumnar())
+                    columns.addColumn(nodeSpec.getNodeTypeName(), propertySpec.getName(), deserializeColumn(dis));
+            }
+        }
+
+        return columns;
+    }
+
+    private ConnectionColumn deserializeColumn(DataInputStream dis) throws IOException {
+        int numNodes = dis.readInt();
+        int bitsPerElement = dis.readByte();
+        long words[] = new long[dis.readInt()];
+        for(int i=0;i<words.length;i++)
+            words[i] = dis.readLong();
+
+        return new ConnectionColumn(new BitPackedArray(bitsPerElement, words), numNodes);
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.serializer;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import com.netflix.nfgraph.compressed.ConnectionColumn;
+import com.netflix.nfgraph.compressed.NFCompressedGraphColumns;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+
+/**
+ * The connection columns are written in the order of the properties in the spec, so no property names are serialized.
+ */
+public class NFCompressedGraphColumnsSerializer {
+
+    private final NFGraphSpec spec;
+    private final NFCompressedGraphColumns columns;
+
+    NFCompressedGraphColumnsSerializer(NFGraphSpec spec, NFCompressedGraphColumns columns) {
+        this.spec = spec;
+        this.columns = columns;
+    }
+
+    void serializeColumns(DataOutputStream dos) throws IOException {
+        for(NFNodeSpec nodeSpec : spec) {
+            for(NFPropertySpec propertySpec : nodeSpec.getPropertySpecs()) {
+                if(propertySpec.isColumnar())
+                    serializeColumn(dos, columns.getColumn(nodeSpec.getNodeTypeName(), propertySpec.getName()));
+            }
+        }
+    }
+
+    private void serializeColumn(DataOutputStream dos, ConnectionColumn column) throws IOException {
+        if(column == null) {
+            dos.writeInt(0);
+            dos.writeByte(1);
+            dos.writeInt(0);
+            return;
+        }
+
+        long words[] = column.getPackedConnections().getWords();
+
+        dos.writeInt(column.size());
+        dos.writeByte(column.getPackedConnections().getBitsPerElement());
+        dos.writeInt(words.length);
+        for(long word : words)
+            dos.writeLong(word);
+    }
+
+}
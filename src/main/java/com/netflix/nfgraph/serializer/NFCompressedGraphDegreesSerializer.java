@@ -0,0 +1,70 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.serializer;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import com.netflix.nfgraph.compressed.DegreeColumn;
+import com.netflix.nfgraph.compressed.NFCompressedGraphDegrees;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+
+/**
+ * The degree columns are written in the order of the properties in the spec, so no property names are serialized.
+ */
+public class NFCompressedGraphDegreesSerializer {
+
+    private final NFGraphSpec spec;
+    private final NFCompressedGraphDegrees degrees;
+
+    NFCompressedGraphDegreesSerializer(NFGraphSpec spec, NFCompressedGraphDegrees degrees) {
+        this.spec = spec;
+        this.degrees = degrees;
+    }
+
+    void serializeDegrees(DataOutputStream dos) throws IOException {
+        for(NFNodeSpec nodeSpec : spec) {
+            for(NFPropertySpec propertySpec : nodeSpec.getPropertySpecs()) {
+                if(propertySpec.hasDegrees())
+                    serializeColumns(dos, degrees.getColumns(nodeSpec.getNodeTypeName(), propertySpec.getName()));
+            }
+        }
+    }
+
+    private void serializeColumns(DataOutputStream dos, DegreeColumn columns[]) throws IOException {
+        if(columns == null) {
+            dos.writeInt(0);
+            return;
+        }
+
+        dos.writeInt(columns.length);
+
+        for(DegreeColumn column : columns) {
+            long words[] = column.getPackedDegrees().getWords();
+
+            dos.writeInt(column.size());
+            dos.writeByte(column.getPackedDegrees().getBitsPerElement());
+            dos.writeInt(words.length);
+            for(long word : words)
+                dos.writeLong(word);
+        }
+    }
+
+}
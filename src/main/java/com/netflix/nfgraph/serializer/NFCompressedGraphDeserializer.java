@@ -19,6 +19,10 @@ package com.netflix.nfgraph.serializer;
 
 import com.netflix.nfgraph.NFGraphModelHolder;
 import com.netflix.nfgraph.compressed.NFCompressedGraph;
+import com.netflix.nfgraph.compressed.NFCompressedGraphColumns;
+import com.netflix.nfgraph.compressed.NFCompressedGraphDegrees;
+import com.netflix.nfgraph.compressed.NFCompressedGraphLongPointers;
+import com.netflix.nfgraph.compressed.NFCompressedGraphPackedPointers;
 import com.netflix.nfgraph.compressed.NFCompressedGraphPointers;
 import com.netflix.nfgraph.spec.NFGraphSpec;
 import com.netflix.nfgraph.spec.NFNodeSpec;
@@ -26,11 +30,19 @@ import com.netflix.nfgraph.spec.NFPropertySpec;
 import com.netflix.nfgraph.util.ByteData;
 import com.netflix.nfgraph.util.ByteSegmentPool;
 import com.netflix.nfgraph.util.SegmentedByteArray;
+import com.netflix.nfgraph.util.SegmentedDirectByteArray;
 import com.netflix.nfgraph.util.SimpleByteArray;
 
+import java.io.BufferedInputStream;
 import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * This class is used by {@link NFCompressedGraph#readFrom(InputStream)}.<p>
@@ -39,27 +51,132 @@ import java.io.InputStream;
  */
 public class NFCompressedGraphDeserializer {
 
-    private final NFCompressedGraphPointersDeserializer pointersDeserializer = new NFCompressedGraphPointersDeserializer();
+    private final NFCompressedGraphPointersDeserializer pointersDeserializer;
+    private final NFCompressedGraphDegreesDeserializer degreesDeserializer = new NFCompressedGraphDegreesDeserializer();
+    private final NFCompressedGraphColumnsDeserializer columnsDeserializer = new NFCompressedGraphColumnsDeserializer();
+
+    public NFCompressedGraphDeserializer() {
+        this(false);
+    }
+
+    /**
+     * @param packPointers if true, the pointers are held as {@link NFCompressedGraphPackedPointers}.
+     */
+    public NFCompressedGraphDeserializer(boolean packPointers) {
+        this.pointersDeserializer = new NFCompressedGraphPointersDeserializer(packPointers);
+    }
 
     public NFCompressedGraph deserialize(InputStream is) throws IOException {
         return deserialize(is, null);
     }
     
     public NFCompressedGraph deserialize(InputStream is, ByteSegmentPool byteSegmentPool) throws IOException {
+        return deserialize(is, byteSegmentPool, false);
+    }
+
+    /**
+     * Deserialize an {@link NFCompressedGraph} whose connection data is held outside of the Java heap in a {@link SegmentedDirectByteArray}.
+     */
+    public NFCompressedGraph deserializeOffHeap(InputStream is) throws IOException {
+        return deserialize(is, null, true);
+    }
+
+    /**
+     * Deserialize an {@link NFCompressedGraph} from a file, memory-mapping the connection data in place rather than copying it.
+     * Only the spec, models, and pointers are read onto the heap.
+     */
+    public NFCompressedGraph deserializeMapped(Path path) throws IOException {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            CountingInputStream is = new CountingInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            DataInputStream dis = new DataInputStream(is);
+
+            NFGraphSpec spec = deserializeSpec(dis);
+            NFGraphModelHolder models = deserializeModels(dis);
+            NFCompressedGraphPointers pointers = pointersDeserializer.deserializePointers(dis);
+            NFCompressedGraphPointers inversePointers = deserializeInversePointers(dis, spec);
+            NFCompressedGraphDegrees degrees = deserializeDegrees(dis, spec);
+            NFCompressedGraphColumns columns = deserializeColumns(dis, spec);
+            long dataLength = deserializeDataLength(dis);
+            ByteData data = mapData(channel, is.getCount(), dataLength);
+
+            return new NFCompressedGraph(spec, models, data, dataLength, pointers, inversePointers, degrees, columns);
+        }
+    }
+
+    private NFCompressedGraph deserialize(InputStream is, ByteSegmentPool byteSegmentPool, boolean offHeap) throws IOException {
         DataInputStream dis = new DataInputStream(is);
 
         NFGraphSpec spec = deserializeSpec(dis);
         NFGraphModelHolder models = deserializeModels(dis);
         NFCompressedGraphPointers pointers = pointersDeserializer.deserializePointers(dis);
+        NFCompressedGraphPointers inversePointers = deserializeInversePointers(dis, spec);
+        NFCompressedGraphDegrees degrees = deserializeDegrees(dis, spec);
+        NFCompressedGraphColumns columns = deserializeColumns(dis, spec);
         long dataLength = deserializeDataLength(dis);
-        ByteData data = deserializeData(dis, dataLength, byteSegmentPool);
+        ByteData data = offHeap ? deserializeOffHeapData(dis, dataLength) : deserializeData(dis, dataLength, byteSegmentPool);
+
+        return new NFCompressedGraph(spec, models, data, dataLength, pointers, inversePointers, degrees, columns);
+    }
 
-        return new NFCompressedGraph(spec, models, data, dataLength, pointers);
+    /// Backwards compatibility:  The pointers for the reverse index are only serialized if some property
+    /// is specified with INDEXED_INVERSE, which in turn requires the spec to be serialized with flags.
+    private NFCompressedGraphPointers deserializeInversePointers(DataInputStream dis, NFGraphSpec spec) throws IOException {
+        if(hasIndexedInverseProperty(spec))
+            return pointersDeserializer.deserializePointers(dis);
+        return new NFCompressedGraphLongPointers();
     }
 
+    static boolean hasIndexedInverseProperty(NFGraphSpec spec) {
+        for(NFNodeSpec nodeSpec : spec) {
+            for(NFPropertySpec propertySpec : nodeSpec.getPropertySpecs()) {
+                if(propertySpec.isIndexedInverse())
+                    return true;
+            }
+        }
+        return false;
+    }
+
+
+    /// Backwards compatibility:  The degree columns are only serialized if some property is specified with DEGREES.
+    private NFCompressedGraphDegrees deserializeDegrees(DataInputStream dis, NFGraphSpec spec) throws IOException {
+        if(hasDegreesProperty(spec))
+            return degreesDeserializer.deserializeDegrees(dis, spec);
+        return new NFCompressedGraphDegrees();
+    }
+
+    static boolean hasDegreesProperty(NFGraphSpec spec) {
+        for(NFNodeSpec nodeSpec : spec) {
+            for(NFPropertySpec propertySpec : nodeSpec.getPropertySpecs()) {
+                if(propertySpec.hasDegrees())
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /// Backwards compatibility:  The connection columns are only serialized if some property is specified with COLUMNAR.
+    private NFCompressedGraphColumns deserializeColumns(DataInputStream dis, NFGraphSpec spec) throws IOException {
+        if(hasColumnarProperty(spec))
+            return columnsDeserializer.deserializeColumns(dis, spec);
+        return new NFCompressedGraphColumns();
+    }
+
+    static boolean hasColumnarProperty(NFGraphSpec spec) {
+        for(NFNodeSpec nodeSpec : spec) {
+            for(NFPropertySpec propertySpec : nodeSpec.getPropertySpecs()) {
+                if(propertySpec.isColumnar())
+                    return true;
+            }
+        }
+        return false;
+    }
 
     private NFGraphSpec deserializeSpec(DataInputStream dis) throws IOException {
         int numNodes = dis.readInt();
+
+        if(numNodes == -1)
+            return deserializeSpecWithFlags(dis);
+
         NFNodeSpec nodeSpecs[] = new NFNodeSpec[numNodes];
 
         for(int i=0;i<numNodes;i++) {
@@ -83,6 +200,32 @@ public class NFCompressedGraphDeserializer {
         return new NFGraphSpec(nodeSpecs);
     }
 
+    /// Backwards compatibility:  If any node or property requires flags which the original spec
+    /// format cannot represent, then -1 is serialized as an int before the spec with integer flags.
+    private NFGraphSpec deserializeSpecWithFlags(DataInputStream dis) throws IOException {
+        int numNodes = dis.readInt();
+        NFNodeSpec nodeSpecs[] = new NFNodeSpec[numNodes];
+
+        for(int i=0;i<numNodes;i++) {
+            String nodeTypeName = dis.readUTF();
+            int nodeFlags = dis.readInt();
+            int numProperties = dis.readInt();
+            NFPropertySpec propertySpecs[] = new NFPropertySpec[numProperties];
+
+            for(int j=0;j<numProperties;j++) {
+                String propertyName = dis.readUTF();
+                String toNodeType = dis.readUTF();
+                int propertyFlags = dis.readInt();
+
+                propertySpecs[j] = new NFPropertySpec(propertyName, toNodeType, propertyFlags);
+            }
+
+            nodeSpecs[i] = new NFNodeSpec(nodeTypeName, nodeFlags, propertySpecs);
+        }
+
+        return new NFGraphSpec(nodeSpecs);
+    }
+
     private NFGraphModelHolder deserializeModels(DataInputStream dis) throws IOException {
         int numModels = dis.readInt();
         NFGraphModelHolder modelHolder = new NFGraphModelHolder();
@@ -104,6 +247,31 @@ public class NFCompressedGraphDeserializer {
         return dataLength;
     }
 
+    /// Segments are sized to the data, between 4KB and 1GB, so that large graphs are held in few direct buffers.
+    private ByteData deserializeOffHeapData(DataInputStream dis, long dataLength) throws IOException {
+        int log2OfSegmentSize = Math.min(30, Math.max(12, 64 - Long.numberOfLeadingZeros(dataLength - 1)));
+        SegmentedDirectByteArray data = new SegmentedDirectByteArray(log2OfSegmentSize);
+        data.readFrom(dis, dataLength);
+        return data;
+    }
+
+    /// A single mapping may not exceed Integer.MAX_VALUE bytes, so the data is mapped in 1GB segments.
+    private ByteData mapData(FileChannel channel, long dataOffset, long dataLength) throws IOException {
+        if(dataOffset + dataLength > channel.size())
+            throw new EOFException();
+
+        int log2OfSegmentSize = 30;
+        long segmentSize = 1L << log2OfSegmentSize;
+        ByteBuffer segments[] = new ByteBuffer[(int)((dataLength + segmentSize - 1) >>> log2OfSegmentSize)];
+
+        for(int i=0;i<segments.length;i++) {
+            long segmentStart = (long)i << log2OfSegmentSize;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, dataOffset + segmentStart, Math.min(segmentSize, dataLength - segmentStart));
+        }
+
+        return new SegmentedDirectByteArray(segments, log2OfSegmentSize, dataLength, true);
+    }
+
     private ByteData deserializeData(DataInputStream dis, long dataLength, ByteSegmentPool memoryPool) throws IOException {
         if(dataLength >= 0x20000000 || memoryPool != null) {
             SegmentedByteArray data = memoryPool == null ? new SegmentedByteArray(14) : new SegmentedByteArray(memoryPool);
@@ -18,8 +18,10 @@ package com.netflix.nfgraph.serializer;
 
 import com.netflix.nfgraph.compressed.NFCompressedGraphIntPointers;
 import com.netflix.nfgraph.compressed.NFCompressedGraphLongPointers;
+import com.netflix.nfgraph.compressed.NFCompressedGraphPackedPointers;
 import com.netflix.nfgraph.compressed.NFCompressedGraphPointers;
 import com.netflix.nfgraph.util.ByteArrayReader;
+import com.netflix.nfgraph.util.PackedPointerArray;
 import com.netflix.nfgraph.util.SimpleByteArray;
 
 import java.io.DataInputStream;
@@ -27,9 +29,26 @@ import java.io.IOException;
 
 public class NFCompressedGraphPointersDeserializer {
 
+    private final boolean packPointers;
+
+    public NFCompressedGraphPointersDeserializer() {
+        this(false);
+    }
+
+    /**
+     * @param packPointers if true, the pointers are deserialized as {@link NFCompressedGraphPackedPointers}, regardless of the number of bits they require.
+     */
+    public NFCompressedGraphPointersDeserializer(boolean packPointers) {
+        this.packPointers = packPointers;
+    }
+
     NFCompressedGraphPointers deserializePointers(DataInputStream dis) throws IOException {
         int numTypes = dis.readInt();
 
+        /// the int and long representations serialize their deltas identically, so packed pointers are built from either
+        if(packPointers)
+            return deserializePackedPointers(dis, numTypes & Integer.MAX_VALUE);
+
         /// Backwards compatibility:  The representation of the pointers is encoded as
         /// In order to maintain backwards compatibility of produced artifacts,
         /// if more than 32 bits is required to represent the pointers, then flag
@@ -42,6 +61,23 @@ public class NFCompressedGraphPointersDeserializer {
         return deserializeIntPointers(dis, numTypes);
     }
 
+    private NFCompressedGraphPackedPointers deserializePackedPointers(DataInputStream dis, int numTypes) throws IOException {
+        NFCompressedGraphPackedPointers pointers = new NFCompressedGraphPackedPointers();
+
+        for(int i=0;i<numTypes;i++) {
+            String nodeType = dis.readUTF();
+            int numNodes = dis.readInt();
+            int numBytes = dis.readInt();
+
+            byte data[] = new byte[numBytes];
+            dis.readFully(data);
+
+            pointers.addPointers(nodeType, PackedPointerArray.unpackDeltas(new ByteArrayReader(new SimpleByteArray(data), 0), numNodes));
+        }
+
+        return pointers;
+    }
+
     private NFCompressedGraphLongPointers deserializeLongPointers(DataInputStream dis, int numTypes) throws IOException {
         NFCompressedGraphLongPointers pointers = new NFCompressedGraphLongPointers();
 
@@ -19,6 +19,9 @@ package com.netflix.nfgraph.serializer;
 
 import com.netflix.nfgraph.NFGraphModelHolder;
 import com.netflix.nfgraph.compressed.NFCompressedGraph;
+import com.netflix.nfgraph.compressed.NFCompressedGraphColumns;
+import com.netflix.nfgraph.compressed.NFCompressedGraphDegrees;
+import com.netflix.nfgraph.compressed.NFCompressedGraphLongPointers;
 import com.netflix.nfgraph.compressed.NFCompressedGraphPointers;
 import com.netflix.nfgraph.spec.NFGraphSpec;
 import com.netflix.nfgraph.spec.NFNodeSpec;
@@ -36,16 +39,36 @@ import java.io.OutputStream;
  */
 public class NFCompressedGraphSerializer {
 
+    private static final int ORIGINAL_PROPERTY_FLAGS = NFPropertySpec.MODEL_SPECIFIC | NFPropertySpec.SINGLE | NFPropertySpec.HASH;
+
     private final NFGraphSpec spec;
     private final NFGraphModelHolder modelHolder;
     private final NFCompressedGraphPointersSerializer pointersSerializer;
+    private final NFCompressedGraphPointersSerializer inversePointersSerializer;
+    private final NFCompressedGraphDegreesSerializer degreesSerializer;
+    private final NFCompressedGraphColumnsSerializer columnsSerializer;
     private final ByteData data;
     private final long dataLength;
 
     public NFCompressedGraphSerializer(NFGraphSpec spec, NFGraphModelHolder modelHolder, NFCompressedGraphPointers pointers, ByteData data, long dataLength) {
+        this(spec, modelHolder, pointers, new NFCompressedGraphLongPointers(), data, dataLength);
+    }
+
+    public NFCompressedGraphSerializer(NFGraphSpec spec, NFGraphModelHolder modelHolder, NFCompressedGraphPointers pointers, NFCompressedGraphPointers inversePointers, ByteData data, long dataLength) {
+        this(spec, modelHolder, pointers, inversePointers, new NFCompressedGraphDegrees(), data, dataLength);
+    }
+
+    public NFCompressedGraphSerializer(NFGraphSpec spec, NFGraphModelHolder modelHolder, NFCompressedGraphPointers pointers, NFCompressedGraphPointers inversePointers, NFCompressedGraphDegrees degrees, ByteData data, long dataLength) {
+        this(spec, modelHolder, pointers, inversePointers, degrees, new NFCompressedGraphColumns(), data, dataLength);
+    }
+
+    public NFCompressedGraphSerializer(NFGraphSpec spec, NFGraphModelHolder modelHolder, NFCompressedGraphPointers pointers, NFCompressedGraphPointers inversePointers, NFCompressedGraphDegrees degrees, NFCompressedGraphColumns columns, ByteData data, long dataLength) {
         this.spec = spec;
         this.modelHolder = modelHolder;
         this.pointersSerializer = new NFCompressedGraphPointersSerializer(pointers, dataLength);
+        this.inversePointersSerializer = new NFCompressedGraphPointersSerializer(inversePointers, dataLength);
+        this.degreesSerializer = new NFCompressedGraphDegreesSerializer(spec, degrees);
+        this.columnsSerializer = new NFCompressedGraphColumnsSerializer(spec, columns);
         this.data = data;
         this.dataLength = dataLength;
     }
@@ -56,12 +79,30 @@ public class NFCompressedGraphSerializer {
         serializeSpec(dos);
         serializeModels(dos);
         pointersSerializer.serializePointers(dos);
+        /// The reverse index pointers are only present if the spec requires them
+        if(NFCompressedGraphDeserializer.hasIndexedInverseProperty(spec))
+            inversePointersSerializer.serializePointers(dos);
+        /// As are the degree columns
+        if(NFCompressedGraphDeserializer.hasDegreesProperty(spec))
+            degreesSerializer.serializeDegrees(dos);
+        /// And the connection columns
+        if(NFCompressedGraphDeserializer.hasColumnarProperty(spec))
+            columnsSerializer.serializeColumns(dos);
         serializeData(dos);
 
         dos.flush();
     }
 
     private void serializeSpec(DataOutputStream dos) throws IOException {
+        /// In order to maintain backwards compatibility of produced artifacts,
+        /// the original spec format is written unless any node or property
+        /// uses a flag which it cannot represent.  In that case, first serialize
+        /// a negative 1 integer, then the spec with flags as integers.
+        if(requiresFlags()) {
+            serializeSpecWithFlags(dos);
+            return;
+        }
+
         dos.writeInt(spec.size());
 
         for(NFNodeSpec nodeSpec : spec) {
@@ -78,6 +119,37 @@ public class NFCompressedGraphSerializer {
         }
     }
 
+    private void serializeSpecWithFlags(DataOutputStream dos) throws IOException {
+        dos.writeInt(-1);
+        dos.writeInt(spec.size());
+
+        for(NFNodeSpec nodeSpec : spec) {
+            dos.writeUTF(nodeSpec.getNodeTypeName());
+            dos.writeInt(nodeSpec.getFlags());
+            dos.writeInt(nodeSpec.getPropertySpecs().length);
+
+            for(NFPropertySpec propertySpec : nodeSpec.getPropertySpecs()) {
+                dos.writeUTF(propertySpec.getName());
+                dos.writeUTF(propertySpec.getToNodeType());
+                dos.writeInt(propertySpec.getFlags());
+            }
+        }
+    }
+
+    private boolean requiresFlags() {
+        for(NFNodeSpec nodeSpec : spec) {
+            if(nodeSpec.getFlags() != 0)
+                return true;
+
+            for(NFPropertySpec propertySpec : nodeSpec.getPropertySpecs()) {
+                if((propertySpec.getFlags() & ~ORIGINAL_PROPERTY_FLAGS) != 0)
+                    return true;
+            }
+        }
+
+        return false;
+    }
+
     private void serializeModels(DataOutputStream dos) throws IOException {
         dos.writeInt(modelHolder.size());
         for(String model : modelHolder) {
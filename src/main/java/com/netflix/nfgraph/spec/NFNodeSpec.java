@@ -19,18 +19,28 @@ package com.netflix.nfgraph.spec;
 
 import java.util.Iterator;
 
+import com.netflix.nfgraph.compressed.NFCompressedGraph;
 import com.netflix.nfgraph.exception.NFGraphException;
 import com.netflix.nfgraph.util.ArrayIterator;
 
 /**
  * An <code>NFNodeSpec</code> specifies the schema for a node type.
  * 
- * It is defined by a node name and a number of {@link NFPropertySpec}.
+ * It is defined by a node name, optional flags, and a number of {@link NFPropertySpec}.
  */
 public class NFNodeSpec implements Iterable<NFPropertySpec> {
 
+    /**
+     * A node spec instantiated with this flag will have an offset directory written ahead of each node's properties in an 
+     * {@link NFCompressedGraph}, so that any property may be located without decoding the properties which precede it.<p>
+     * 
+     * This costs a few bytes per node, and is worthwhile for node types with many properties.
+     */
+    public static final int PROPERTY_OFFSETS = 0x01;
+
 	private final String nodeTypeName;
     private final NFPropertySpec propertySpecs[];
+    private final int flags;
     
     private final int numSingleProperties;
     private final int numMultipleProperties;
@@ -42,8 +52,20 @@ public class NFNodeSpec implements Iterable<NFPropertySpec> {
      * @param propertySpecs a complete listing of the properties available for this node type.
      */
     public NFNodeSpec(String nodeTypeName, NFPropertySpec... propertySpecs) {
+        this(nodeTypeName, 0, propertySpecs);
+    }
+
+    /**
+     * The constructor for an <code>NFNodeSpec</code> with flags.
+     * 
+     * @param nodeTypeName the name of the node type
+     * @param flags a bitwise-or of the flags defined as constants in {@link NFNodeSpec}, for example {@link #PROPERTY_OFFSETS}.
+     * @param propertySpecs a complete listing of the properties available for this node type.
+     */
+    public NFNodeSpec(String nodeTypeName, int flags, NFPropertySpec... propertySpecs) {
     	this.nodeTypeName = nodeTypeName;
         this.propertySpecs = propertySpecs;
+        this.flags = flags;
         
         int numSingleProperties = 0;
         int numMultipleProperties = 0;
@@ -72,6 +94,14 @@ public class NFNodeSpec implements Iterable<NFPropertySpec> {
         throw new NFGraphException("Property " + propertyName + " is undefined for node type " + nodeTypeName);
     }
     
+    public int getFlags() {
+        return flags;
+    }
+
+    public boolean hasPropertyOffsets() {
+        return (flags & PROPERTY_OFFSETS) != 0;
+    }
+
     public int getNumSingleProperties() {
     	return numSingleProperties;
     }
@@ -17,10 +17,23 @@
 
 package com.netflix.nfgraph.spec;
 
+import com.netflix.nfgraph.NFGraph;
+import com.netflix.nfgraph.OrdinalSet;
 import com.netflix.nfgraph.build.NFBuildGraph;
 import com.netflix.nfgraph.compressed.BitSetOrdinalSet;
 import com.netflix.nfgraph.compressed.CompactOrdinalSet;
+import com.netflix.nfgraph.compressed.ConnectionColumn;
+import com.netflix.nfgraph.compressed.DegreeColumn;
+import com.netflix.nfgraph.compressed.EliasFanoOrdinalSet;
+import com.netflix.nfgraph.compressed.FixedWidthHashSetOrdinalSet;
+import com.netflix.nfgraph.compressed.GroupVarIntOrdinalSet;
+import com.netflix.nfgraph.compressed.PartitionedOrdinalSet;
+import com.netflix.nfgraph.compressed.RangeBitSetOrdinalSet;
 import com.netflix.nfgraph.compressed.NFCompressedGraph;
+import com.netflix.nfgraph.compressed.NFCompressedSetEncoding;
+import com.netflix.nfgraph.compressed.SkipCompactOrdinalSet;
+import com.netflix.nfgraph.compressor.CompactPropertyBuilder;
+import com.netflix.nfgraph.compressor.ConnectionSetDeduplicator;
 
 /**
  * This class defines a specification for a single property.<p>
@@ -77,10 +90,117 @@ public class NFPropertySpec {
      * @see CompactOrdinalSet
      */
 	public static final int COMPACT = 0x00;
+
+    /**
+     * A property spec instantiated with this flag will also be indexed in reverse in an {@link NFCompressedGraph}, so that the nodes which
+     * connect to a given node via this property may be retrieved with {@link NFGraph#getIncomingConnectionSet(String, int, String)}.
+     */
+	public static final int INDEXED_INVERSE = 0x08;
+
+    /**
+     * A {@link #MULTIPLE} property instantiated with this flag will record the number of connections ahead of each connection set in an 
+     * {@link NFCompressedGraph}, so that {@link NFGraph#getConnectionCount(String, int, String)} and {@link OrdinalSet#size()} do not need 
+     * to decode the set.  This costs one or two bytes per set.
+     * 
+     * @see NFCompressedSetEncoding
+     */
+	public static final int COUNTED = 0x10;
+
+    /**
+     * A property spec instantiated with this flag will have the number of connections from every node precomputed into a {@link DegreeColumn}
+     * when an {@link NFCompressedGraph} is built.  The column is retrieved with {@link NFCompressedGraph#degrees(String, String)}.
+     */
+	public static final int DEGREES = 0x20;
+
+    /**
+     * A {@link #COMPACT} property instantiated with this flag will write a skip index ahead of each large connection set in an {@link NFCompressedGraph}, 
+     * so that membership tests and seeks on those sets are logarithmic rather than linear.  Sets with fewer than 
+     * {@link CompactPropertyBuilder#SKIP_INDEX_THRESHOLD} connections are encoded exactly as they would be without this flag.  Unless the 
+     * property is also {@link #COUNTED}, each skip-indexed set is marked with {@link NFCompressedSetEncoding#COUNTED_SET_MARKER}.
+     * 
+     * @see SkipCompactOrdinalSet
+     */
+	public static final int SKIP_INDEXED = 0x40;
+
+    /**
+     * A {@link #HASH} property instantiated with this flag will be represented as a {@link FixedWidthHashSetOrdinalSet} in an {@link NFCompressedGraph}, 
+     * which holds each ordinal in a fixed-width slot rather than as a variable-byte integer.  This usually requires more bytes than the 
+     * variable-byte hashed representation, but membership tests read whole slots.  This flag implies {@link #COUNTED}.
+     * 
+     * @see FixedWidthHashSetOrdinalSet
+     */
+	public static final int FIXED_WIDTH = 0x80;
+
+    /**
+     * A {@link #COMPACT} property instantiated with this flag will be represented as a {@link PartitionedOrdinalSet} in an {@link NFCompressedGraph}.  
+     * The ordinal space is divided into chunks of 65536 ordinals, each held as a sorted array, a bitmap, or a list of runs, whichever is smallest.  
+     * This suits sets whose connections are clustered in ranges of ordinals.  This flag implies {@link #COUNTED}.
+     * 
+     * @see PartitionedOrdinalSet
+     */
+	public static final int PARTITIONED = 0x100;
+
+    /**
+     * A {@link #COMPACT} property instantiated with this flag will be represented as a {@link GroupVarIntOrdinalSet} in an {@link NFCompressedGraph}.  
+     * The deltas between ordinals are written in groups of four with a tag byte, which are decoded considerably faster than variable-byte deltas.  
+     * This suits properties which are mostly iterated.  This flag implies {@link #COUNTED}.
+     * 
+     * @see GroupVarIntOrdinalSet
+     */
+	public static final int GROUP_VARINT = 0x200;
+
+    /**
+     * A {@link #COMPACT} property instantiated with this flag will be represented as an {@link EliasFanoOrdinalSet} in an {@link NFCompressedGraph}.  
+     * This takes close to the minimum number of bits for a sorted set, and supports membership tests and skipping ahead without decoding 
+     * preceding ordinals.  This suits properties which are intersected or probed.  This flag implies {@link #COUNTED}.
+     * 
+     * @see EliasFanoOrdinalSet
+     */
+	public static final int ELIAS_FANO = 0x400;
+
+    /**
+     * A multiple property instantiated with this flag will write each distinct connection set only once in an {@link NFCompressedGraph}.  
+     * When a set is encoded identically to one already written, it is replaced by a reference to the earlier copy.  Sets with fewer than 
+     * {@link ConnectionSetDeduplicator#MIN_DEDUPLICATED_LENGTH} encoded bytes are always written in full.  This suits properties for which 
+     * many nodes share the same connections.  This flag implies {@link #COUNTED}.
+     * 
+     * @see NFCompressedSetEncoding#BACK_REFERENCE
+     */
+	public static final int DEDUPLICATED = 0x800;
+
+    /**
+     * A {@link #COMPACT} property instantiated with this flag will be represented as a {@link RangeBitSetOrdinalSet} in an {@link NFCompressedGraph} 
+     * whenever that is smaller than the usual representation.  A range-bounded bit set only holds bits for the window of ordinals between 
+     * the smallest and largest connection, so it suits sets which are dense within a narrow range of a large node type.  This flag implies {@link #COUNTED}.
+     * 
+     * @see RangeBitSetOrdinalSet
+     */
+	public static final int RANGE_BIT_SET = 0x1000;
+
+    /**
+     * A {@link #SINGLE}, {@link #GLOBAL} property instantiated with this flag will be held in a {@link ConnectionColumn} in an {@link NFCompressedGraph}, 
+     * rather than in the connections of each node.  The column holds the connection of every node of the type as a bit-packed, fixed-width value, 
+     * so a connection is retrieved with a single read, without resolving the node's pointer.  This flag is ignored for other properties.
+     * 
+     * @see ConnectionColumn
+     */
+	public static final int COLUMNAR = 0x2000;
 	
     private final boolean isGlobal;
     private final boolean isMultiple;
     private final boolean isHashed;
+    private final boolean isIndexedInverse;
+    private final boolean isCounted;
+    private final boolean hasDegrees;
+    private final boolean isSkipIndexed;
+    private final boolean isFixedWidth;
+    private final boolean isPartitioned;
+    private final boolean isGroupVarInt;
+    private final boolean isEliasFano;
+    private final boolean isDeduplicated;
+    private final boolean isRangeBitSet;
+    private final boolean isColumnar;
+    private final int flags;
     
     private final String name;
     private final String toNodeType;
@@ -101,6 +221,18 @@ public class NFPropertySpec {
     	this.isGlobal = (flags & MODEL_SPECIFIC) == 0;
     	this.isMultiple = (flags & SINGLE) == 0;
     	this.isHashed = (flags & HASH) != 0;
+    	this.isIndexedInverse = (flags & INDEXED_INVERSE) != 0;
+    	this.isCounted = (flags & (COUNTED | FIXED_WIDTH | PARTITIONED | GROUP_VARINT | ELIAS_FANO | DEDUPLICATED | RANGE_BIT_SET)) != 0;
+    	this.hasDegrees = (flags & DEGREES) != 0;
+    	this.isSkipIndexed = (flags & SKIP_INDEXED) != 0;
+    	this.isFixedWidth = (flags & FIXED_WIDTH) != 0;
+    	this.isPartitioned = (flags & PARTITIONED) != 0;
+    	this.isGroupVarInt = (flags & GROUP_VARINT) != 0;
+    	this.isEliasFano = (flags & ELIAS_FANO) != 0;
+    	this.isDeduplicated = (flags & DEDUPLICATED) != 0;
+    	this.isRangeBitSet = (flags & RANGE_BIT_SET) != 0;
+    	this.isColumnar = (flags & COLUMNAR) != 0 && !isMultiple && isGlobal;
+    	this.flags = flags;
     }
     
     public NFPropertySpec(String name, String toNodeType, boolean isGlobal, boolean isMultiple, boolean isHashed) {
@@ -109,6 +241,18 @@ public class NFPropertySpec {
     	this.isGlobal = isGlobal;
         this.isMultiple = isMultiple;
         this.isHashed = isHashed;
+        this.isIndexedInverse = false;
+        this.isCounted = false;
+        this.hasDegrees = false;
+        this.isSkipIndexed = false;
+        this.isFixedWidth = false;
+        this.isPartitioned = false;
+        this.isGroupVarInt = false;
+        this.isEliasFano = false;
+        this.isDeduplicated = false;
+        this.isRangeBitSet = false;
+        this.isColumnar = false;
+        this.flags = (isGlobal ? GLOBAL : MODEL_SPECIFIC) | (isMultiple ? MULTIPLE : SINGLE) | (isHashed ? HASH : COMPACT);
     }
 
     public boolean isConnectionModelSpecific() {
@@ -135,6 +279,57 @@ public class NFPropertySpec {
         return !isHashed;
     }
 
+    public boolean isIndexedInverse() {
+        return isIndexedInverse;
+    }
+
+    public boolean isCounted() {
+        return isCounted;
+    }
+
+    public boolean hasDegrees() {
+        return hasDegrees;
+    }
+
+    public boolean isSkipIndexed() {
+        return isSkipIndexed;
+    }
+
+    public boolean isFixedWidth() {
+        return isFixedWidth;
+    }
+
+    public boolean isPartitioned() {
+        return isPartitioned;
+    }
+
+    public boolean isGroupVarInt() {
+        return isGroupVarInt;
+    }
+
+    public boolean isEliasFano() {
+        return isEliasFano;
+    }
+
+    public boolean isDeduplicated() {
+        return isDeduplicated;
+    }
+
+    public boolean isRangeBitSet() {
+        return isRangeBitSet;
+    }
+
+    public boolean isColumnar() {
+        return isColumnar;
+    }
+
+    /**
+     * @return the bitwise-or of the flags with which this property was specified.
+     */
+    public int getFlags() {
+        return flags;
+    }
+
     public String getName() {
         return name;
     }
@@ -0,0 +1,94 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.util;
+
+/**
+ * A fixed-size array of unsigned values which each occupy the same number of bits, packed contiguously into 64-bit words.<p>
+ *
+ * A value may span two words.  Values are only ever OR'd into place, so each index should be set at most once.<p>
+ *
+ * It is unlikely that this class will need to be used externally.
+ */
+public class BitPackedArray {
+
+    private final long words[];
+    private final int bitsPerElement;
+    private final long mask;
+
+    public BitPackedArray(int bitsPerElement, long numElements) {
+        this(bitsPerElement, new long[(int)((numElements * bitsPerElement + 63) >>> 6)]);
+    }
+
+    /**
+     * Create a <code>BitPackedArray</code> over previously packed words, for example after deserialization.
+     */
+    public BitPackedArray(int bitsPerElement, long words[]) {
+        this.words = words;
+        this.bitsPerElement = bitsPerElement;
+        this.mask = bitsPerElement == 64 ? -1L : (1L << bitsPerElement) - 1;
+    }
+
+    /**
+     * @return the value at the given index.
+     */
+    public long get(long index) {
+        long bitIndex = index * bitsPerElement;
+        int wordIndex = (int)(bitIndex >>> 6);
+        int bitOffset = (int)(bitIndex & 63);
+
+        long value = words[wordIndex] >>> bitOffset;
+        if(bitOffset + bitsPerElement > 64)
+            value |= words[wordIndex + 1] << (64 - bitOffset);
+
+        return value & mask;
+    }
+
+    /**
+     * Sets the value at the given index, which must not have been previously set.  Bits of the value above <code>bitsPerElement</code> are ignored.
+     */
+    public void set(long index, long value) {
+        value &= mask;
+
+        long bitIndex = index * bitsPerElement;
+        int wordIndex = (int)(bitIndex >>> 6);
+        int bitOffset = (int)(bitIndex & 63);
+
+        words[wordIndex] |= value << bitOffset;
+        if(bitOffset + bitsPerElement > 64)
+            words[wordIndex + 1] |= value >>> (64 - bitOffset);
+    }
+
+    public int getBitsPerElement() {
+        return bitsPerElement;
+    }
+
+    /**
+     * @return the packed words.  This is the backing array, not a copy.
+     */
+    public long[] getWords() {
+        return words;
+    }
+
+    /**
+     * @return the number of bits per element required to hold values up to and including <code>maxValue</code>.  This is always at least one.
+     */
+    public static int bitsRequired(long maxValue) {
+        return Math.max(1, 64 - Long.numberOfLeadingZeros(maxValue));
+    }
+
+}
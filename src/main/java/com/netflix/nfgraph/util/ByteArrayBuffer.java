@@ -29,12 +29,19 @@ import java.io.OutputStream;
  */
 public class ByteArrayBuffer {
 
-    private final SegmentedByteArray data;
+    private final ByteData data;
 
     private long pointer;
 
     public ByteArrayBuffer() {
-        this.data = new SegmentedByteArray(new ByteSegmentPool(14));
+        this(false);
+    }
+
+    /**
+     * @param offHeap if true, the written data will be held outside of the Java heap in a {@link SegmentedDirectByteArray}.
+     */
+    public ByteArrayBuffer(boolean offHeap) {
+        this.data = offHeap ? new SegmentedDirectByteArray(20) : new SegmentedByteArray(new ByteSegmentPool(14));
         this.pointer = 0;
     }
 
@@ -47,10 +54,17 @@ public class ByteArrayBuffer {
     }
 
     /**
-     * Copies the contents of the specified buffer into this buffer at the current position.
+     * Copies the contents of the specified buffer into this buffer at the current position.  An on-heap buffer is copied in bulk,
+     * whether this buffer is held on or off the heap.
      */
     public void write(ByteArrayBuffer buf) {
-        data.copy(buf.data, 0, pointer, buf.length());
+        if(data instanceof SegmentedByteArray && buf.data instanceof SegmentedByteArray)
+            ((SegmentedByteArray)data).copy((SegmentedByteArray)buf.data, 0, pointer, buf.length());
+        else if(data instanceof SegmentedDirectByteArray && buf.data instanceof SegmentedByteArray)
+            ((SegmentedDirectByteArray)data).copy((SegmentedByteArray)buf.data, 0, pointer, buf.length());
+        else
+            for(long i=0;i<buf.length();i++)
+                data.set(pointer + i, buf.data.get(i));
         pointer += buf.length();
     }
 
@@ -98,6 +112,15 @@ public class ByteArrayBuffer {
         }
     }
 
+    /**
+     * Writes the lowest <code>numBytes</code> bytes of the value, most significant byte first.
+     */
+    public void writeFixedWidth(long value, int numBytes) {
+        for(int i=numBytes-1;i>=0;i--) {
+            writeByte((byte)(value >>> (i * 8)));
+        }
+    }
+
     /**
      * The current length of the written data, in bytes.
      */
@@ -113,9 +136,9 @@ public class ByteArrayBuffer {
     }
 
     /**
-     * @return The underlying SegmentedByteArray containing the written data.
+     * @return The underlying {@link SegmentedByteArray}, or {@link SegmentedDirectByteArray} if off-heap, containing the written data.
      */
-    public SegmentedByteArray getData() {
+    public ByteData getData() {
         return data;
     }
 
@@ -139,7 +162,7 @@ public class ByteArrayBuffer {
      * Copies the written data to the given <code>OutputStream</code>
      */
     public void copyTo(OutputStream os) throws IOException {
-        data.writeTo(os, 0, pointer);
+        data.writeTo(os, pointer);
     }
 
 }
@@ -55,6 +55,28 @@ public class ByteArrayReader {
         return data.get(startByte + offset);
     }
 
+    /**
+     * Points this reader at the given offset, as though it had been newly constructed with that offset.
+     */
+    public void reposition(long pointer) {
+        this.pointer = pointer;
+        this.startByte = pointer;
+        this.endByte = data.length();
+    }
+
+    /**
+     * @return the eight bytes beginning at the given offset, as a little-endian long.  Bytes beyond the end of this reader are read as zero.
+     */
+    public long getLong(long offset) {
+        long word = data.getLong(startByte + offset);
+        long remainingBytes = length() - offset;
+
+        if(remainingBytes < 8)
+            word &= remainingBytes <= 0 ? 0 : (1L << (remainingBytes << 3)) - 1;
+
+        return word;
+    }
+
     /**
      * Set the current offset of this reader.
      */
@@ -113,6 +135,17 @@ public class ByteArrayReader {
         return value;
     }
 
+    /**
+     * @return an unsigned, big-endian value of <code>numBytes</code> bytes at the current offset.  The offset is incremented by <code>numBytes</code>.
+     */
+    public long readFixedWidth(int numBytes) {
+        long value = 0;
+        for(int i=0;i<numBytes;i++) {
+            value = (value << 8) | (readByte() & 0xFF);
+        }
+        return value;
+    }
+
     /**
      * @return the byte at the current offset.  The offset is incremented by one.
      */
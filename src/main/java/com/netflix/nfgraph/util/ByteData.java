@@ -28,6 +28,22 @@ public interface ByteData {
 
     public long length();
 
+    /**
+     * @return the eight bytes beginning at the given index, as a little-endian long.  Bytes at or beyond {@link #length()} are read as zero.
+     */
+    default long getLong(long idx) {
+        long value = 0;
+        long length = length();
+
+        for(int i=7;i>=0;i--) {
+            value <<= 8;
+            if(idx + i < length)
+                value |= get(idx + i) & 0xFFL;
+        }
+
+        return value;
+    }
+
     public void writeTo(OutputStream os, long length) throws IOException;
 
 }
@@ -0,0 +1,218 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.util;
+
+import java.util.Arrays;
+
+import com.netflix.nfgraph.compressed.NFCompressedGraphPackedPointers;
+
+/**
+ * An array of non-decreasing pointers, some of which may be absent (<code>-1</code>), held as block-anchored, bit-packed offsets.<p>
+ *
+ * The pointers are divided into blocks of {@link #BLOCK_SIZE}.  The first present pointer in each block is held as an absolute anchor.  Each 
+ * pointer is held as its offset from its block's anchor, plus one, in a {@link BitPackedArray} whose width fits the largest such offset.  An 
+ * absent pointer is held as zero.  Because the offsets within a block span only the bytes of that block's nodes, each pointer usually requires 
+ * far fewer than 32 bits.  Retrieving a pointer requires one anchor lookup and one bit-packed lookup.<p>
+ *
+ * When fewer than {@link #SPARSE_DENSITY_THRESHOLD} of the pointers are present, only the present pointers are packed, and a 
+ * {@link RankSelectBitSet} records which indexes are present.  The rank of an index in that bit set is the position of its pointer 
+ * among the packed pointers, so an absent pointer requires about one and a half bits rather than a full offset.<p>
+ *
+ * It is unlikely that this class will need to be used externally.
+ *
+ * @see NFCompressedGraphPackedPointers
+ */
+public class PackedPointerArray {
+
+    public static final int BLOCK_SIZE = 64;
+    private static final int LOG2_BLOCK_SIZE = 6;
+
+    /**
+     * Pointers are held sparsely when fewer than this fraction of them are present.
+     */
+    public static final double SPARSE_DENSITY_THRESHOLD = 0.125;
+
+    private final long anchors[];
+    private final BitPackedArray offsets;
+    private final RankSelectBitSet presence;
+    private final int numPointers;
+
+    private PackedPointerArray(long anchors[], BitPackedArray offsets, RankSelectBitSet presence, int numPointers) {
+        this.anchors = anchors;
+        this.offsets = offsets;
+        this.presence = presence;
+        this.numPointers = numPointers;
+    }
+
+    /**
+     * @return the pointer at the given index, or <code>-1</code> if the pointer is absent or the index is out of range.
+     */
+    public long get(int index) {
+        if(index >= numPointers)
+            return -1;
+
+        if(presence != null) {
+            if(!presence.get(index))
+                return -1;
+            index = presence.rank(index);
+        }
+
+        long offset = offsets.get(index);
+        if(offset == 0)
+            return -1;
+
+        return anchors[index >>> LOG2_BLOCK_SIZE] + offset - 1;
+    }
+
+    public int size() {
+        return numPointers;
+    }
+
+    /**
+     * @return true if only the present pointers are packed.
+     */
+    public boolean isSparse() {
+        return presence != null;
+    }
+
+    /**
+     * @return the number of bits used to hold the offset of each packed pointer from its block's anchor.
+     */
+    public int getBitsPerPointer() {
+        return offsets.getBitsPerElement();
+    }
+
+    /**
+     * @return the pointers, unpacked.
+     */
+    public long[] toArray() {
+        long arr[] = new long[numPointers];
+
+        if(presence != null) {
+            Arrays.fill(arr, -1);
+            for(int i=0;i<presence.cardinality();i++)
+                arr[(int)presence.select(i)] = anchors[i >>> LOG2_BLOCK_SIZE] + offsets.get(i) - 1;
+        } else {
+            for(int i=0;i<numPointers;i++)
+                arr[i] = get(i);
+        }
+
+        return arr;
+    }
+
+    /**
+     * Pack the given pointers.  The present pointers must be non-decreasing.
+     */
+    public static PackedPointerArray pack(final long pointers[]) {
+        return pack(pointers.length, new PointerSource() {
+            private int index;
+
+            void reset() {
+                index = 0;
+            }
+
+            long next() {
+                return pointers[index++];
+            }
+        });
+    }
+
+    /**
+     * Pack the pointers encoded at the reader's current position as they are serialized:  each present pointer as a variable-byte 
+     * delta from the previous present pointer, and each absent pointer as <code>-1</code>.  The encoded pointers are read more than 
+     * once, and are never unpacked into an intermediate array.
+     */
+    public static PackedPointerArray unpackDeltas(final ByteArrayReader reader, int numPointers) {
+        return pack(numPointers, new PointerSource() {
+            private long currentPointer;
+
+            void reset() {
+                reader.reset();
+                currentPointer = 0;
+            }
+
+            long next() {
+                long delta = reader.readVLong();
+                if(delta == -1)
+                    return -1;
+                currentPointer += delta;
+                return currentPointer;
+            }
+        });
+    }
+
+    private static PackedPointerArray pack(int numPointers, PointerSource source) {
+        RankSelectBitSet presence = null;
+        int numPacked = numPointers;
+
+        long presenceWords[] = new long[(numPointers + 63) >>> 6];
+        source.reset();
+        for(int i=0;i<numPointers;i++) {
+            if(source.next() != -1)
+                presenceWords[i >>> 6] |= 1L << i;
+        }
+
+        RankSelectBitSet present = new RankSelectBitSet(presenceWords);
+        if(present.cardinality() < numPointers * SPARSE_DENSITY_THRESHOLD) {
+            presence = present;
+            numPacked = present.cardinality();
+        }
+
+        long anchors[] = new long[(numPacked + BLOCK_SIZE - 1) >>> LOG2_BLOCK_SIZE];
+        long maxOffset = 0;
+
+        source.reset();
+        for(int i=0, packedIndex=0;i<numPointers;i++) {
+            long pointer = source.next();
+            if(presence != null && pointer == -1)
+                continue;
+
+            int block = packedIndex >>> LOG2_BLOCK_SIZE;
+
+            if((packedIndex & (BLOCK_SIZE - 1)) == 0)
+                anchors[block] = -1;
+
+            if(pointer != -1) {
+                if(anchors[block] == -1)
+                    anchors[block] = pointer;
+                maxOffset = Math.max(maxOffset, pointer - anchors[block]);
+            }
+
+            packedIndex++;
+        }
+
+        BitPackedArray offsets = new BitPackedArray(BitPackedArray.bitsRequired(maxOffset + 1), numPacked);
+
+        source.reset();
+        for(int i=0, packedIndex=0;i<numPointers;i++) {
+            long pointer = source.next();
+            if(pointer != -1)
+                offsets.set(packedIndex, pointer - anchors[packedIndex >>> LOG2_BLOCK_SIZE] + 1);
+            if(pointer != -1 || presence == null)
+                packedIndex++;
+        }
+
+        return new PackedPointerArray(anchors, offsets, presence, numPointers);
+    }
+
+    private static abstract class PointerSource {
+        abstract void reset();
+        abstract long next();
+    }
+
+}
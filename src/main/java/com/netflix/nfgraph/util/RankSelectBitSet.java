@@ -0,0 +1,99 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.util;
+
+/**
+ * An immutable bit set which supports constant-time <code>rank</code> and logarithmic-time <code>select</code>.<p>
+ *
+ * The cumulative number of set bits preceding each 64-bit word is held alongside the words, which adds half a bit per bit of the set.<p>
+ *
+ * It is unlikely that this class will need to be used externally.
+ *
+ * @see PackedPointerArray
+ */
+public class RankSelectBitSet {
+
+    private final long words[];
+    private final int ranks[];
+    private final int cardinality;
+
+    /**
+     * Create a <code>RankSelectBitSet</code> over the given words, in which bit <code>i</code> is bit <code>i &amp; 63</code> of word <code>i &gt;&gt;&gt; 6</code>.
+     */
+    public RankSelectBitSet(long words[]) {
+        this.words = words;
+        this.ranks = new int[words.length];
+
+        int rank = 0;
+        for(int i=0;i<words.length;i++) {
+            ranks[i] = rank;
+            rank += Long.bitCount(words[i]);
+        }
+
+        this.cardinality = rank;
+    }
+
+    public boolean get(long index) {
+        int wordIndex = (int)(index >>> 6);
+        return wordIndex < words.length && (words[wordIndex] & (1L << index)) != 0;
+    }
+
+    /**
+     * @return the number of set bits before the given index.
+     */
+    public int rank(long index) {
+        int wordIndex = (int)(index >>> 6);
+        if(wordIndex >= words.length)
+            return cardinality;
+        return ranks[wordIndex] + Long.bitCount(words[wordIndex] & ((1L << index) - 1));
+    }
+
+    /**
+     * @return the index of the set bit which is preceded by exactly <code>rank</code> set bits, or <code>-1</code> if there are not that many set bits.
+     */
+    public long select(int rank) {
+        if(rank < 0 || rank >= cardinality)
+            return -1;
+
+        /// find the first word through which more than rank bits are set
+        int low = 0;
+        int high = words.length - 1;
+
+        while(low < high) {
+            int mid = (low + high) >>> 1;
+            if(ranks[mid] + Long.bitCount(words[mid]) > rank)
+                high = mid;
+            else
+                low = mid + 1;
+        }
+
+        long word = words[low];
+        for(int i=ranks[low];i<rank;i++)
+            word &= word - 1;
+
+        return ((long)low << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * @return the number of set bits.
+     */
+    public int cardinality() {
+        return cardinality;
+    }
+
+}
@@ -19,6 +19,7 @@ package com.netflix.nfgraph.util;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 public class SegmentedByteArray implements ByteData {
@@ -56,6 +57,20 @@ public class SegmentedByteArray implements ByteData {
         return segments[(int)(index >>> log2OfSegmentSize)][(int)(index & bitmask)];
     }
 
+    /**
+     * Get the eight bytes beginning at the specified index, as a little-endian long.  If the bytes are
+     * contained in a single segment, they are read directly from that segment.
+     */
+    @Override
+    public long getLong(long index) {
+        int segmentOffset = (int)(index & bitmask);
+
+        if(segmentOffset + 8 > bitmask + 1 || index + 8 > length)
+            return ByteData.super.getLong(index);
+
+        return SimpleByteArray.getLong(segments[(int)(index >>> log2OfSegmentSize)], segmentOffset);
+    }
+
     /**
      * For a SegmentedByteArray, this is a faster copy implementation.
      *
@@ -110,6 +125,20 @@ public class SegmentedByteArray implements ByteData {
         return dataPosition - destPos;
     }
 
+    /**
+     * copies exactly length bytes from this SegmentedByteArray into the provided ByteBuffer, beginning at its current position
+     */
+    public void copy(long srcPos, ByteBuffer dest, int length) {
+        while(length > 0) {
+            int bytesToCopyFromSegment = (int)Math.min(length, (1 << log2OfSegmentSize) - (srcPos & bitmask));
+
+            dest.put(segments[(int)(srcPos >>> log2OfSegmentSize)], (int)(srcPos & bitmask), bytesToCopyFromSegment);
+
+            srcPos += bytesToCopyFromSegment;
+            length -= bytesToCopyFromSegment;
+        }
+    }
+
 
     public void readFrom(InputStream is, long length) throws IOException {
         int segmentSize = 1 << log2OfSegmentSize;
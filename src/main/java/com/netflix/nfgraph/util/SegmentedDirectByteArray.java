@@ -0,0 +1,259 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import com.netflix.nfgraph.compressed.NFCompressedGraph;
+
+/**
+ * A {@link ByteData} which holds its data outside of the Java heap, in a series of equally sized {@link ByteBuffer} segments.<p>
+ *
+ * Segments are allocated as direct <code>ByteBuffer</code>s, or may be supplied by the caller (for example, as memory-mapped regions of a file).
+ * Because the data is not on the heap, it does not need to be traced or copied by the garbage collector.<p>
+ *
+ * The memory held by direct segments is released by {@link #destroy()}, or otherwise once each segment becomes unreachable.  After
+ * {@link #destroy()} is called, this <code>SegmentedDirectByteArray</code> must not be used.
+ *
+ * @see NFCompressedGraph#destroy()
+ */
+public class SegmentedDirectByteArray implements ByteData {
+
+    private ByteBuffer[] segments;
+    private final ByteBuffer[] suppliedSegments;
+    private final boolean releaseOnDestroy;
+    private final int log2OfSegmentSize;
+    private final int bitmask;
+    private long length;
+
+    /**
+     * Create an empty <code>SegmentedDirectByteArray</code>, which will allocate direct segments of <code>2^log2OfSegmentSize</code> bytes as data is set.
+     */
+    public SegmentedDirectByteArray(int log2OfSegmentSize) {
+        this.segments = new ByteBuffer[2];
+        this.log2OfSegmentSize = log2OfSegmentSize;
+        this.bitmask = (1 << log2OfSegmentSize) - 1;
+        this.suppliedSegments = null;
+        this.releaseOnDestroy = true;
+        this.length = 0;
+    }
+
+    /**
+     * Create a <code>SegmentedDirectByteArray</code> over existing segments.  Each segment except the last must contain exactly
+     * <code>2^log2OfSegmentSize</code> bytes, beginning at position 0.  These segments will not be released by {@link #destroy()}.
+     */
+    public SegmentedDirectByteArray(ByteBuffer[] segments, int log2OfSegmentSize, long length) {
+        this(segments, log2OfSegmentSize, length, false);
+    }
+
+    /**
+     * Create a <code>SegmentedDirectByteArray</code> over existing segments.  Each segment except the last must contain exactly
+     * <code>2^log2OfSegmentSize</code> bytes, beginning at position 0.<p>
+     *
+     * If <code>releaseOnDestroy</code> is true, the segments will be released by {@link #destroy()}.  For memory-mapped segments, this unmaps
+     * them.  In that case, the segments must not be duplicates or slices of other buffers, and must not be used elsewhere after destruction.
+     */
+    public SegmentedDirectByteArray(ByteBuffer[] segments, int log2OfSegmentSize, long length, boolean releaseOnDestroy) {
+        this.segments = new ByteBuffer[segments.length];
+        this.suppliedSegments = segments.clone();
+        this.releaseOnDestroy = releaseOnDestroy;
+        this.log2OfSegmentSize = log2OfSegmentSize;
+        this.bitmask = (1 << log2OfSegmentSize) - 1;
+        this.length = length;
+
+        for(int i=0;i<segments.length;i++)
+            this.segments[i] = segments[i].duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set the byte at the given index to the specified value
+     */
+    @Override
+    public void set(long index, byte value) {
+        int segmentIndex = (int)(index >>> log2OfSegmentSize);
+        ensureCapacity(segmentIndex);
+        segments[segmentIndex].put((int)(index & bitmask), value);
+    }
+
+    /**
+     * Get the value of the byte at the specified index.
+     */
+    @Override
+    public byte get(long index) {
+        return segments[(int)(index >>> log2OfSegmentSize)].get((int)(index & bitmask));
+    }
+
+    /**
+     * Get the eight bytes beginning at the specified index, as a little-endian long.  If the bytes are
+     * contained in a single segment, they are read with a single access to that segment.
+     */
+    @Override
+    public long getLong(long index) {
+        int segmentOffset = (int)(index & bitmask);
+
+        if(segmentOffset + 8 > bitmask + 1 || index + 8 > length)
+            return ByteData.super.getLong(index);
+
+        return segments[(int)(index >>> log2OfSegmentSize)].getLong(segmentOffset);
+    }
+
+    /**
+     * Copies <code>length</code> bytes from the given {@link SegmentedByteArray}, beginning at <code>srcPos</code>, into this array
+     * at <code>destPos</code>.  Each segment is filled with bulk copies from the source's segments.
+     */
+    public void copy(SegmentedByteArray src, long srcPos, long destPos, long length) {
+        while(length > 0) {
+            int segmentIndex = (int)(destPos >>> log2OfSegmentSize);
+            ensureCapacity(segmentIndex);
+
+            int bytesToCopy = (int)Math.min(length, (bitmask + 1) - (destPos & bitmask));
+
+            ByteBuffer segment = segments[segmentIndex].duplicate();
+            segment.position((int)(destPos & bitmask));
+            src.copy(srcPos, segment, bytesToCopy);
+
+            srcPos += bytesToCopy;
+            destPos += bytesToCopy;
+            length -= bytesToCopy;
+        }
+    }
+
+    /**
+     * Reads exactly <code>length</code> bytes from the <code>InputStream</code> into this array, beginning at index 0.
+     */
+    public void readFrom(InputStream is, long length) throws IOException {
+        byte buf[] = new byte[0x10000];
+        long position = 0;
+
+        while(position < length) {
+            int segmentIndex = (int)(position >>> log2OfSegmentSize);
+            ensureCapacity(segmentIndex);
+
+            int bytesToRead = (int)Math.min(buf.length, Math.min(length - position, (bitmask + 1) - (position & bitmask)));
+            int bytesRead = is.read(buf, 0, bytesToRead);
+            if(bytesRead == -1)
+                throw new EOFException();
+
+            ByteBuffer segment = segments[segmentIndex].duplicate();
+            segment.position((int)(position & bitmask));
+            segment.put(buf, 0, bytesRead);
+            position += bytesRead;
+        }
+    }
+
+    @Override
+    public void writeTo(OutputStream os, long length) throws IOException {
+        byte buf[] = new byte[0x10000];
+        long position = 0;
+
+        while(position < length) {
+            int bytesToWrite = (int)Math.min(buf.length, Math.min(length - position, (bitmask + 1) - (position & bitmask)));
+
+            ByteBuffer segment = segments[(int)(position >>> log2OfSegmentSize)].duplicate();
+            segment.position((int)(position & bitmask));
+            segment.get(buf, 0, bytesToWrite);
+            os.write(buf, 0, bytesToWrite);
+
+            position += bytesToWrite;
+        }
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Releases the memory held by any segments allocated by this array, without waiting for the garbage collector.<p>
+     *
+     * Note that this is NOT thread safe.  Any subsequent access to this array will fail.
+     */
+    public void destroy() {
+        /// supplied segments are read through duplicates, but only the original buffers may be released
+        if(releaseOnDestroy && segments != null) {
+            for(ByteBuffer segment : suppliedSegments != null ? suppliedSegments : segments) {
+                if(segment != null)
+                    release(segment);
+            }
+        }
+
+        segments = null;
+        length = 0;
+    }
+
+    /**
+     * Ensures that the segment at segmentIndex exists
+     */
+    private void ensureCapacity(int segmentIndex) {
+        if(segmentIndex >= segments.length) {
+            segments = Arrays.copyOf(segments, Math.max(segments.length * 3 / 2, segmentIndex + 1));
+        }
+
+        long numSegmentsPopulated = length >> log2OfSegmentSize;
+
+        for(long i=numSegmentsPopulated; i <= segmentIndex; i++) {
+            segments[(int)i] = ByteBuffer.allocateDirect(1 << log2OfSegmentSize).order(ByteOrder.LITTLE_ENDIAN);
+            length += 1 << log2OfSegmentSize;
+        }
+    }
+
+    /// Direct buffers are otherwise only freed once they have been garbage collected.  There is no public API to free them
+    /// explicitly, so the cleaner is invoked reflectively:  through sun.misc.Unsafe.invokeCleaner() in Java 9 and later, or
+    /// through the buffer's cleaner() method in Java 8.  If neither is available, the memory is left to the garbage collector.
+    private static void release(ByteBuffer buffer) {
+        try {
+            if(UNSAFE != null && INVOKE_CLEANER != null) {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } else {
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if(cleaner != null)
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch(Exception ignore) { }
+    }
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+        } catch(Exception ignore) { }
+
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+}
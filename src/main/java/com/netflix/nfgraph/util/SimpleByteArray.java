@@ -41,6 +41,13 @@ public class SimpleByteArray implements ByteData {
         return data[(int)idx];
     }
 
+    @Override
+    public long getLong(long idx) {
+        if(idx + 8 > data.length)
+            return ByteData.super.getLong(idx);
+        return getLong(data, (int)idx);
+    }
+
     @Override
     public long length() {
         return data.length;
@@ -51,4 +58,18 @@ public class SimpleByteArray implements ByteData {
         os.write(data, 0, (int)length);
     }
 
+    /**
+     * @return the eight bytes beginning at the given offset in the array, as a little-endian long.
+     */
+    static long getLong(byte data[], int offset) {
+        return (data[offset] & 0xFFL)
+             | (data[offset + 1] & 0xFFL) << 8
+             | (data[offset + 2] & 0xFFL) << 16
+             | (data[offset + 3] & 0xFFL) << 24
+             | (data[offset + 4] & 0xFFL) << 32
+             | (data[offset + 5] & 0xFFL) << 40
+             | (data[offset + 6] & 0xFFL) << 48
+             | (data[offset + 7] & 0xFFL) << 56;
+    }
+
 }
@@ -0,0 +1,116 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.util;
+
+import java.util.Arrays;
+
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.OrdinalSets;
+import com.netflix.nfgraph.SeekableOrdinalIterator;
+
+/**
+ * An implementation of {@link OrdinalSet} over a sorted array of distinct ordinals.  This is used to hold materialized results,
+ * for example from {@link OrdinalSets}.<p>
+ *
+ * <code>contains()</code> is an <code>O(log n)</code> operation.
+ */
+public class SortedArrayOrdinalSet extends OrdinalSet {
+
+    private final int ordinals[];
+    private final int size;
+
+    /**
+     * @param ordinals an array whose first <code>size</code> elements are distinct and sorted ascending.
+     */
+    public SortedArrayOrdinalSet(int ordinals[], int size) {
+        this.ordinals = ordinals;
+        this.size = size;
+    }
+
+    @Override
+    public boolean contains(int value) {
+        return Arrays.binarySearch(ordinals, 0, size, value) >= 0;
+    }
+
+    @Override
+    public int[] asArray() {
+        return Arrays.copyOf(ordinals, size);
+    }
+
+    @Override
+    public OrdinalIterator iterator() {
+        return new SortedArrayOrdinalIterator(ordinals, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private static class SortedArrayOrdinalIterator implements SeekableOrdinalIterator {
+
+        private final int ordinals[];
+        private final int size;
+        private int position;
+
+        SortedArrayOrdinalIterator(int ordinals[], int size) {
+            this.ordinals = ordinals;
+            this.size = size;
+        }
+
+        @Override
+        public int nextOrdinal() {
+            if(position == size)
+                return NO_MORE_ORDINALS;
+            return ordinals[position++];
+        }
+
+        @Override
+        public int advance(int target) {
+            int bound = 1;
+            while(position + bound < size && ordinals[position + bound] < target)
+                bound <<= 1;
+
+            int low = position;
+            int high = Math.min(position + bound, size);
+
+            while(low < high) {
+                int mid = (low + high) >>> 1;
+                if(ordinals[mid] < target)
+                    low = mid + 1;
+                else
+                    high = mid;
+            }
+
+            position = low;
+            return nextOrdinal();
+        }
+
+        @Override
+        public void reset() {
+            position = 0;
+        }
+
+        @Override
+        public SortedArrayOrdinalIterator copy() {
+            return new SortedArrayOrdinalIterator(ordinals, size);
+        }
+    }
+
+}
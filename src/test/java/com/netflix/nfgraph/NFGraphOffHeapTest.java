@@ -0,0 +1,131 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.netflix.nfgraph.compressed.NFCompressedGraph;
+import com.netflix.nfgraph.util.ByteSegmentPool;
+import com.netflix.nfgraph.util.SegmentedByteArray;
+import com.netflix.nfgraph.util.SegmentedDirectByteArray;
+
+public class NFGraphOffHeapTest {
+
+    private RandomizedGraphBuilder graphBuilder;
+    private long seed;
+
+    @Before
+    public void setUp() {
+        graphBuilder = new RandomizedGraphBuilder(5000, 5000);
+        seed = System.currentTimeMillis();
+    }
+
+    @Test
+    public void compressesOffHeap() throws IOException {
+        NFCompressedGraph heapGraph = graphBuilder.build(new Random(seed));
+        NFCompressedGraph offHeapGraph = graphBuilder.buildOffHeap(new Random(seed));
+
+        graphBuilder.assertGraph(offHeapGraph, new Random(seed));
+        assertArrayEquals(serialize(heapGraph), serialize(offHeapGraph));
+    }
+
+    @Test
+    public void readsOffHeap() throws IOException {
+        NFCompressedGraph graph = graphBuilder.build(new Random(seed));
+        byte serialized[] = serialize(graph);
+
+        NFCompressedGraph offHeapGraph = NFCompressedGraph.readOffHeapFrom(new ByteArrayInputStream(serialized));
+
+        graphBuilder.assertGraph(offHeapGraph, new Random(seed));
+        graphBuilder.assertGraphUsingPropertyHandles(offHeapGraph, new Random(seed));
+        assertArrayEquals(serialized, serialize(offHeapGraph));
+    }
+
+    @Test
+    public void mapsFromFile() throws IOException {
+        NFCompressedGraph graph = graphBuilder.build(new Random(seed));
+        byte serialized[] = serialize(graph);
+
+        Path file = Files.createTempFile("nfgraph", ".bin");
+        try {
+            Files.write(file, serialized);
+
+            NFCompressedGraph mappedGraph = NFCompressedGraph.mapFrom(file);
+
+            graphBuilder.assertGraph(mappedGraph, new Random(seed));
+            assertArrayEquals(serialized, serialize(mappedGraph));
+
+            mappedGraph.destroy();
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void destroyedGraphCannotBeRead() throws IOException {
+        NFCompressedGraph graph = NFCompressedGraph.readOffHeapFrom(new ByteArrayInputStream(serialize(graphBuilder.build(new Random(seed)))));
+        graph.destroy();
+
+        /// the released memory must never be read -- the graph no longer has any data
+        boolean readable = true;
+        try {
+            graphBuilder.assertGraph(graph, new Random(seed));
+        } catch(AssertionError | NullPointerException expected) {
+            readable = false;
+        }
+
+        Assert.assertFalse(readable);
+    }
+
+    @Test
+    public void copiesHeapDataAcrossSegmentBoundaries() {
+        Random rand = new Random(seed);
+        SegmentedByteArray src = new SegmentedByteArray(new ByteSegmentPool(4));
+        byte expected[] = new byte[100];
+        for(int i=0;i<expected.length;i++) {
+            expected[i] = (byte)rand.nextInt();
+            src.set(i, expected[i]);
+        }
+
+        SegmentedDirectByteArray dest = new SegmentedDirectByteArray(5);
+        dest.copy(src, 3, 21, 90);
+
+        for(int i=0;i<90;i++)
+            Assert.assertEquals("seed: " + seed, expected[i + 3], dest.get(i + 21));
+
+        dest.destroy();
+    }
+
+    private byte[] serialize(NFCompressedGraph graph) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        graph.writeTo(baos);
+        return baos.toByteArray();
+    }
+
+}
@@ -59,6 +59,44 @@ public class NFGraphTest {
         randomizedGraphBuilder.assertGraph(graph, new Random(seed));
     }
 
+    @Test
+    public void randomizedPropertyHandleTest() {
+        randomizedGraphBuilder.assertGraphUsingPropertyHandles(graph, new Random(seed));
+    }
+
+    @Test
+    public void subclassesImplementingOnlyTheStringBasedLookupsSupportPropertyHandles() {
+        randomizedGraphBuilder.assertGraphUsingPropertyHandles(new DelegatingGraph(graph), new Random(seed));
+    }
+
+    /**
+     * An <code>NFGraph</code> which implements only the lookups required before property handles were introduced.
+     */
+    private static class DelegatingGraph extends NFGraph {
+
+        private final NFGraph delegate;
+
+        DelegatingGraph(NFGraph delegate) {
+            super(delegate.graphSpec, delegate.modelHolder);
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected int getConnection(int connectionModelIndex, String nodeType, int ordinal, String propertyName) {
+            return delegate.getConnection(connectionModelIndex, nodeType, ordinal, propertyName);
+        }
+
+        @Override
+        protected OrdinalSet getConnectionSet(int connectionModelIndex, String nodeType, int ordinal, String propertyName) {
+            return delegate.getConnectionSet(connectionModelIndex, nodeType, ordinal, propertyName);
+        }
+
+        @Override
+        protected OrdinalIterator getConnectionIterator(int connectionModelIndex, String nodeType, int ordinal, String propertyName) {
+            return delegate.getConnectionIterator(connectionModelIndex, nodeType, ordinal, propertyName);
+        }
+    }
+
 
 
 }
@@ -0,0 +1,234 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.netflix.nfgraph.build.NFBuildGraphOrdinalSet;
+import com.netflix.nfgraph.compressed.BitSetOrdinalSet;
+import com.netflix.nfgraph.compressed.CompactOrdinalSet;
+import com.netflix.nfgraph.compressed.HashSetOrdinalSet;
+import com.netflix.nfgraph.compressed.SingleOrdinalSet;
+import com.netflix.nfgraph.compressor.BitSetPropertyBuilder;
+import com.netflix.nfgraph.compressor.CompactPropertyBuilder;
+import com.netflix.nfgraph.compressor.HashedPropertyBuilder;
+import com.netflix.nfgraph.util.ByteArrayBuffer;
+import com.netflix.nfgraph.util.ByteArrayReader;
+import com.netflix.nfgraph.util.SortedArrayOrdinalSet;
+
+public class OrdinalSetsTest {
+
+    private static final int NUM_ENCODINGS = 6;
+
+    private Random rand;
+    private long seed;
+
+    @Before
+    public void setUp() {
+        seed = System.currentTimeMillis();
+        rand = new Random(seed);
+    }
+
+    @Test
+    public void operationsMatchJavaSetsForAllEncodingPairs() {
+        for(int i=0;i<20;i++) {
+            int ordinalsA[] = randomOrdinals();
+            int ordinalsB[] = randomOrdinals();
+
+            for(int encodingA=0;encodingA<NUM_ENCODINGS;encodingA++) {
+                for(int encodingB=0;encodingB<NUM_ENCODINGS;encodingB++) {
+                    OrdinalSet a = encode(ordinalsA, encodingA);
+                    OrdinalSet b = encode(ordinalsB, encodingB);
+                    String message = "seed: " + seed + " encodings: " + encodingA + ", " + encodingB;
+
+                    TreeSet<Integer> expected = toJavaSet(ordinalsA);
+                    expected.retainAll(toJavaSet(ordinalsB));
+                    assertArrayEquals(message, toArray(expected), OrdinalSets.intersect(a, b).asArray());
+                    assertEquals(message, expected.size(), OrdinalSets.intersectionSize(a, b));
+
+                    expected = toJavaSet(ordinalsA);
+                    expected.addAll(toJavaSet(ordinalsB));
+                    assertArrayEquals(message, toArray(expected), OrdinalSets.union(a, b).asArray());
+
+                    expected = toJavaSet(ordinalsA);
+                    expected.removeAll(toJavaSet(ordinalsB));
+                    assertArrayEquals(message, toArray(expected), OrdinalSets.difference(a, b).asArray());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void leapfrogIntersectionMatchesJavaSets() {
+        for(int i=0;i<50;i++) {
+            int numSets = rand.nextInt(4) + 1;
+            OrdinalSet sets[] = new OrdinalSet[numSets];
+            TreeSet<Integer> expected = null;
+
+            for(int j=0;j<numSets;j++) {
+                int ordinals[] = randomOrdinals();
+                sets[j] = encode(ordinals, rand.nextInt(NUM_ENCODINGS));
+                if(expected == null)
+                    expected = toJavaSet(ordinals);
+                else
+                    expected.retainAll(toJavaSet(ordinals));
+            }
+
+            assertArrayEquals("seed: " + seed, toArray(expected), OrdinalSets.intersectAll(sets).asArray());
+        }
+    }
+
+    @Test
+    public void advanceReturnsFirstRemainingOrdinalAtOrAboveTarget() {
+        for(int i=0;i<20;i++) {
+            int ordinals[] = randomOrdinals();
+            TreeSet<Integer> expected = toJavaSet(ordinals);
+
+            for(int encoding=0;encoding<NUM_ENCODINGS;encoding++) {
+                SeekableOrdinalIterator iter = OrdinalSets.seekableIterator(encode(ordinals, encoding));
+                int lastReturned = -1;
+                int target = 0;
+
+                while(true) {
+                    Integer next = expected.ceiling(Math.max(target, lastReturned + 1));
+                    int ordinal = iter.advance(target);
+
+                    if(next == null) {
+                        assertEquals("seed: " + seed + " encoding: " + encoding, OrdinalIterator.NO_MORE_ORDINALS, ordinal);
+                        break;
+                    }
+
+                    assertEquals("seed: " + seed + " encoding: " + encoding, next.intValue(), ordinal);
+                    lastReturned = ordinal;
+                    /// occasionally target an ordinal which has already been passed
+                    target = rand.nextInt(5) == 0 ? ordinal - rand.nextInt(3) : ordinal + rand.nextInt(100);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void leapfrogIteratorAdvancesAndResets() {
+        SeekableOrdinalIterator iter = new LeapfrogIntersectionIterator(
+                OrdinalSets.seekableIterator(encode(new int[] { 1, 3, 5, 64, 200, 999 }, 2)),
+                OrdinalSets.seekableIterator(encode(new int[] { 3, 5, 64, 65, 200, 999 }, 0)),
+                OrdinalSets.seekableIterator(encode(new int[] { 0, 3, 64, 200, 999 }, 5)));
+
+        assertEquals(3, iter.nextOrdinal());
+        assertEquals(200, iter.advance(65));
+        assertEquals(999, iter.nextOrdinal());
+        assertEquals(OrdinalIterator.NO_MORE_ORDINALS, iter.nextOrdinal());
+
+        iter.reset();
+        assertEquals(64, iter.advance(4));
+        assertEquals(200, iter.nextOrdinal());
+        assertEquals(999, iter.copy().advance(201));
+    }
+
+    @Test
+    public void operationsWithEmptySets() {
+        OrdinalSet a = encode(new int[] { 1, 5, 9 }, 0);
+
+        assertEquals(0, OrdinalSets.intersect(a, OrdinalSet.EMPTY_SET).size());
+        assertEquals(0, OrdinalSets.intersectionSize(OrdinalSet.EMPTY_SET, a));
+        assertArrayEquals(new int[] { 1, 5, 9 }, OrdinalSets.union(OrdinalSet.EMPTY_SET, a).asArray());
+        assertArrayEquals(new int[] { 1, 5, 9 }, OrdinalSets.difference(a, OrdinalSet.EMPTY_SET).asArray());
+        assertEquals(0, OrdinalSets.difference(OrdinalSet.EMPTY_SET, a).size());
+    }
+
+    @Test
+    public void singleOrdinalSets() {
+        OrdinalSet a = encode(new int[] { 1, 5, 9 }, 1);
+
+        assertArrayEquals(new int[] { 5 }, OrdinalSets.intersect(a, new SingleOrdinalSet(5)).asArray());
+        assertArrayEquals(new int[] { 1, 9 }, OrdinalSets.difference(a, new SingleOrdinalSet(5)).asArray());
+        assertEquals(0, OrdinalSets.intersectionSize(new SingleOrdinalSet(4), a));
+    }
+
+    private OrdinalSet encode(int ordinals[], int encoding) {
+        OrdinalSet buildSet = new NFBuildGraphOrdinalSet(ordinals, ordinals.length);
+        ByteArrayBuffer buf = new ByteArrayBuffer();
+
+        /// an NFCompressedGraph never encodes empty compact or hashed sets
+        if(ordinals.length == 0 && encoding < 2)
+            return OrdinalSet.EMPTY_SET;
+
+        switch(encoding) {
+        case 0:
+            new CompactPropertyBuilder(buf).buildProperty(buildSet);
+            return new CompactOrdinalSet(new ByteArrayReader(buf.getData(), 0, buf.length()));
+        case 1:
+            new HashedPropertyBuilder(buf).buildProperty(buildSet);
+            return new HashSetOrdinalSet(new ByteArrayReader(buf.getData(), 0, buf.length()));
+        case 2:
+            new BitSetPropertyBuilder(buf).buildProperty(buildSet, 1000);
+            return new BitSetOrdinalSet(new ByteArrayReader(buf.getData(), 0, buf.length()));
+        case 3:
+            /// a bit set with a different length
+            new BitSetPropertyBuilder(buf).buildProperty(buildSet, 1500);
+            return new BitSetOrdinalSet(new ByteArrayReader(buf.getData(), 0, buf.length()));
+        case 4:
+            int sorted[] = toArray(toJavaSet(ordinals));
+            return new SortedArrayOrdinalSet(sorted, sorted.length);
+        default:
+            return buildSet;
+        }
+    }
+
+    private int[] randomOrdinals() {
+        TreeSet<Integer> ordinals = new TreeSet<Integer>();
+        int numOrdinals = rand.nextInt(4) == 0 ? 0 : rand.nextInt(rand.nextBoolean() ? 10 : 500);
+
+        while(ordinals.size() < numOrdinals)
+            ordinals.add(rand.nextInt(1000));
+
+        int arr[] = toArray(ordinals);
+        /// unsorted input, as an NFBuildGraphOrdinalSet would hold
+        for(int i=arr.length-1;i>0;i--) {
+            int j = rand.nextInt(i + 1);
+            int tmp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = tmp;
+        }
+        return arr;
+    }
+
+    private TreeSet<Integer> toJavaSet(int ordinals[]) {
+        TreeSet<Integer> set = new TreeSet<Integer>();
+        for(int ordinal : ordinals)
+            set.add(ordinal);
+        return set;
+    }
+
+    private int[] toArray(TreeSet<Integer> set) {
+        int arr[] = new int[set.size()];
+        int i = 0;
+        for(Integer ordinal : set)
+            arr[i++] = ordinal.intValue();
+        return arr;
+    }
+
+}
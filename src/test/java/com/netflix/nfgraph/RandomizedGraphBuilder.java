@@ -44,6 +44,14 @@ public class RandomizedGraphBuilder {
     }
     
     public NFCompressedGraph build(Random rand) {
+        return populate(rand).compress();
+    }
+
+    public NFCompressedGraph buildOffHeap(Random rand) {
+        return populate(rand).compressOffHeap();
+    }
+
+    private NFBuildGraph populate(Random rand) {
         NFBuildGraph graph = new NFBuildGraph(RANDOM_GRAPH_SPEC);
         graph.addConnectionModel("model-1");
         graph.addConnectionModel("model-2");
@@ -66,7 +74,7 @@ public class RandomizedGraphBuilder {
             addMultipleRandomConnections(rand, graph, i, "model-2", "b-to-many-a-hashed-per-model");
         }
         
-        return graph.compress();
+        return graph;
     }
     
     private void addMultipleRandomConnections(Random rand, NFBuildGraph graph, int fromOrdinal, String model, String propertyName) {
@@ -104,8 +112,43 @@ public class RandomizedGraphBuilder {
 
     }
     
+    public void assertGraphUsingPropertyHandles(NFGraph graph, Random rand) {
+        NFPropertyHandle aToOneGlobal = graph.getPropertyHandle("node-type-a", "a-to-one-b-global");
+        NFPropertyHandle aToOneModel1 = graph.getPropertyHandle("model-1", "node-type-a", "a-to-one-b-per-model");
+        NFPropertyHandle aToOneModel2 = graph.getPropertyHandle("model-2", "node-type-a", "a-to-one-b-per-model");
+
+        for(int i=0;i<numANodes;i++) {
+            int expected = rand.nextBoolean() ? rand.nextInt(numBNodes) : -1;
+            assertEquals(expected, graph.getConnection(aToOneGlobal, i));
+
+            expected = rand.nextBoolean() ? rand.nextInt(numBNodes) : -1;
+            assertEquals(expected, graph.getConnection(aToOneModel1, i));
+
+            expected = rand.nextBoolean() ? rand.nextInt(numBNodes) : -1;
+            assertEquals(expected, graph.getConnection(aToOneModel2, i));
+        }
+
+        NFPropertyHandle multipleHandles[] = new NFPropertyHandle[] {
+                graph.getPropertyHandle("global", "node-type-b", "b-to-many-a-compact-global"),
+                graph.getPropertyHandle("global", "node-type-b", "b-to-many-a-hashed-global"),
+                graph.getPropertyHandle("model-1", "node-type-b", "b-to-many-a-compact-per-model"),
+                graph.getPropertyHandle("model-2", "node-type-b", "b-to-many-a-compact-per-model"),
+                graph.getPropertyHandle("model-1", "node-type-b", "b-to-many-a-hashed-per-model"),
+                graph.getPropertyHandle("model-2", "node-type-b", "b-to-many-a-hashed-per-model")
+        };
+
+        for(int i=0;i<numBNodes;i++) {
+            for(NFPropertyHandle handle : multipleHandles) {
+                assertMultipleConnections(graph.getConnectionSet(handle, i), rand);
+            }
+        }
+    }
+
     private void assertMultipleConnections(NFGraph graph, Random rand, String model, int fromOrdinal, String propertyName) {
-        OrdinalSet set = graph.getConnectionSet(model, "node-type-b", fromOrdinal, propertyName);
+        assertMultipleConnections(graph.getConnectionSet(model, "node-type-b", fromOrdinal, propertyName), rand);
+    }
+
+    private void assertMultipleConnections(OrdinalSet set, Random rand) {
 
         if(!rand.nextBoolean()) {
             assertEquals(0, set.size());
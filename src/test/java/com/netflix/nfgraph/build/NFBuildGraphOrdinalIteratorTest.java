@@ -39,6 +39,22 @@ public class NFBuildGraphOrdinalIteratorTest {
         assertEquals(NO_MORE_ORDINALS, iter.nextOrdinal());
     }
     
+    @Test
+    public void resetIncludesOrdinalZero() {
+        NFBuildGraphOrdinalIterator iter = new NFBuildGraphOrdinalIterator(new int[] { 0, 5 }, 2);
+        iter.nextOrdinal();
+        iter.reset();
+
+        assertEquals(0, iter.nextOrdinal());
+    }
+
+    @Test
+    public void canAdvance() {
+        assertEquals(2, iter.advance(2));
+        assertEquals(3, iter.advance(1));
+        assertEquals(NO_MORE_ORDINALS, iter.advance(4));
+    }
+    
     @Test
     public void copyContainsSameOrdinals() {
         OrdinalIterator iter = this.iter.copy();
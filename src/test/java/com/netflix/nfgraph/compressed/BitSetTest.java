@@ -20,12 +20,14 @@ package com.netflix.nfgraph.compressed;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import com.netflix.nfgraph.OrdinalIterator;
 import com.netflix.nfgraph.OrdinalSet;
 import com.netflix.nfgraph.compressor.BitSetPropertyBuilder;
 import com.netflix.nfgraph.compressor.HashedPropertyBuilder;
 import com.netflix.nfgraph.util.ByteArrayBuffer;
 import com.netflix.nfgraph.util.ByteArrayReader;
 import com.netflix.nfgraph.util.ByteData;
+import com.netflix.nfgraph.util.SegmentedByteArray;
 import com.netflix.nfgraph.util.SimpleByteArray;
 
 import org.junit.Assert;
@@ -71,4 +73,55 @@ public class BitSetTest extends EncodedConnectionSetTest {
         Assert.assertFalse(set.contains(8));
     }
 
+    @Test
+    public void bitSetReadsWordsAcrossSegmentBoundaries() {
+        SegmentedByteArray data = new SegmentedByteArray(3);
+        for(int i=0;i<24;i++)
+            data.set(i, (byte)0x81);
+
+        ByteArrayReader reader = new ByteArrayReader(data, 5, 15);
+        BitSetOrdinalSet set = new BitSetOrdinalSet(reader);
+
+        int expected[] = new int[20];
+        for(int i=0;i<10;i++) {
+            expected[i*2] = i * 8;
+            expected[i*2+1] = i * 8 + 7;
+        }
+
+        Assert.assertEquals(20, set.size());
+        Assert.assertArrayEquals(expected, set.asArray());
+
+        OrdinalIterator iter = set.iterator();
+        for(int i=0;i<expected.length;i++)
+            Assert.assertEquals(expected[i], iter.nextOrdinal());
+        Assert.assertEquals(OrdinalIterator.NO_MORE_ORDINALS, iter.nextOrdinal());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void iteratorOffsetTracksAndRepositionsTheIterator() {
+        byte data[] = new byte[20];
+        data[0] = 0x02;
+        data[9] = 0x01;
+        data[19] = (byte)0x80;
+
+        BitSetOrdinalIterator iter = new BitSetOrdinalIterator(new ByteArrayReader(new SimpleByteArray(data), 0, data.length));
+
+        Assert.assertEquals(1, iter.nextOrdinal());
+        Assert.assertEquals(2, iter.offset);
+
+        iter.offset = 100;
+        Assert.assertEquals(159, iter.nextOrdinal());
+        Assert.assertEquals(OrdinalIterator.NO_MORE_ORDINALS, iter.nextOrdinal());
+        Assert.assertEquals(160, iter.offset);
+
+        iter.offset = 2;
+        Assert.assertEquals(72, iter.nextOrdinal());
+        Assert.assertEquals(159, iter.advance(73));
+
+        iter.reset();
+        Assert.assertEquals(0, iter.offset);
+        Assert.assertEquals(1, iter.nextOrdinal());
+    }
+
 }
@@ -0,0 +1,187 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import static com.netflix.nfgraph.OrdinalIterator.NO_MORE_ORDINALS;
+import static com.netflix.nfgraph.compressed.SerializedGraphs.roundTrip;
+import static com.netflix.nfgraph.compressed.SerializedGraphs.serializedSize;
+import static com.netflix.nfgraph.spec.NFNodeSpec.PROPERTY_OFFSETS;
+import static com.netflix.nfgraph.spec.NFPropertySpec.COLUMNAR;
+import static com.netflix.nfgraph.spec.NFPropertySpec.GLOBAL;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MODEL_SPECIFIC;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MULTIPLE;
+import static com.netflix.nfgraph.spec.NFPropertySpec.SINGLE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import org.junit.Test;
+
+import com.netflix.nfgraph.NFPropertyHandle;
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.build.NFBuildGraph;
+import com.netflix.nfgraph.exception.NFGraphException;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+
+public class ColumnarPropertyTest {
+
+    private static final int NUM_EPISODES = 1000;
+
+    @Test
+    public void columnarPropertiesAreReadFromColumns() throws IOException {
+        assertColumnarConnections(roundTrip(buildGraph(0)));
+    }
+
+    @Test
+    public void columnarPropertiesAreSkippedInPropertyOffsets() throws IOException {
+        assertColumnarConnections(roundTrip(buildGraph(PROPERTY_OFFSETS)));
+    }
+
+    @Test
+    public void columnarPropertiesMatchSerializedProperties() throws IOException {
+        NFCompressedGraph columnar = buildGraph(0);
+        NFCompressedGraph serialized = buildGraph(0, GLOBAL | SINGLE);
+
+        for(int i=0;i<=NUM_EPISODES;i++) {
+            assertEquals(serialized.getConnection("episode", i, "series"), columnar.getConnection("episode", i, "series"));
+            assertEquals(serialized.getConnection("episode", i, "season"), columnar.getConnection("episode", i, "season"));
+            assertArrayEquals(serialized.getConnectionSet("episode", i, "tags").asArray(), columnar.getConnectionSet("episode", i, "tags").asArray());
+        }
+
+        /// the columns hold no more than 11 bits for each episode, where each serialized VInt takes two bytes
+        assertTrue(serializedSize(serialized) > serializedSize(columnar));
+    }
+
+    @Test
+    public void handlesAndCursorsReadFromColumns() throws IOException {
+        NFCompressedGraph graph = roundTrip(buildGraph(0));
+        NFPropertyHandle series = graph.getPropertyHandle("episode", "series");
+        NFPropertyHandle season = graph.getPropertyHandle("episode", "season");
+        NFCompressedGraphCursor cursor = graph.newCursor();
+
+        for(int i=0;i<NUM_EPISODES;i++) {
+            assertEquals(expectedSeries(i), graph.getConnection(series, i));
+            assertEquals(expectedSeries(i) == -1 ? 0 : 1, graph.getConnectionCount(series, i));
+            assertEquals(i / 10, graph.getConnectionSet(season, i).asArray()[0]);
+
+            cursor.position(series, i);
+            assertEquals(expectedSeries(i) == -1 ? NO_MORE_ORDINALS : expectedSeries(i), cursor.nextOrdinal());
+            assertEquals(NO_MORE_ORDINALS, cursor.nextOrdinal());
+
+            cursor.position("episode", i, "season");
+            assertEquals(1, cursor.size());
+            assertTrue(cursor.contains(i / 10));
+            assertFalse(cursor.contains(i / 10 + 1));
+        }
+
+        assertEquals(-1, graph.getConnection(series, NUM_EPISODES + 100));
+        assertEquals(OrdinalIterator.EMPTY_ITERATOR, graph.getConnectionIterator(series, NUM_EPISODES + 100));
+    }
+
+    @Test(expected=NFGraphException.class)
+    public void cursorRejectsColumnarHandleFromAnotherGraph() {
+        NFCompressedGraph otherGraph = buildGraph(0);
+        NFPropertyHandle series = otherGraph.getPropertyHandle("episode", "series");
+
+        buildGraph(0).newCursor().position(series, 0);
+    }
+
+    @Test
+    public void nodesWithOnlyColumnarPropertiesOccupyNoData() throws IOException {
+        NFGraphSpec spec = new NFGraphSpec(
+                new NFNodeSpec("season",
+                        new NFPropertySpec("series", "series", GLOBAL | SINGLE | COLUMNAR)
+                ),
+                new NFNodeSpec("series")
+        );
+
+        NFBuildGraph buildGraph = new NFBuildGraph(spec);
+        for(int i=0;i<100;i++)
+            buildGraph.addConnection("season", i, "series", i / 5);
+
+        NFCompressedGraph graph = roundTrip(buildGraph.compress());
+
+        for(int i=0;i<100;i++) {
+            assertEquals(-1, graph.getPointers().getPointer("season", i));
+            assertEquals(i / 5, graph.getConnection("season", i, "series"));
+        }
+    }
+
+    @Test
+    public void columnarFlagIsIgnoredForMultipleAndModelSpecificProperties() {
+        assertFalse(new NFPropertySpec("tags", "tag", GLOBAL | MULTIPLE | COLUMNAR).isColumnar());
+        assertFalse(new NFPropertySpec("series", "series", MODEL_SPECIFIC | SINGLE | COLUMNAR).isColumnar());
+        assertTrue(new NFPropertySpec("series", "series", GLOBAL | SINGLE | COLUMNAR).isColumnar());
+    }
+
+    private void assertColumnarConnections(NFCompressedGraph graph) {
+        for(int i=0;i<NUM_EPISODES;i++) {
+            assertEquals(expectedSeries(i), graph.getConnection("episode", i, "series"));
+            assertEquals(i / 10, graph.getConnection("episode", i, "season"));
+            assertEquals(expectedSeries(i) == -1 ? 0 : 1, graph.getConnectionCount("episode", i, "series"));
+            assertArrayEquals(new int[] { i % 7, i % 7 + 7 }, graph.getConnectionSet("episode", i, "tags").asArray());
+
+            OrdinalIterator iter = graph.getConnectionIterator("episode", i, "season");
+            assertEquals(i / 10, iter.nextOrdinal());
+            assertEquals(NO_MORE_ORDINALS, iter.nextOrdinal());
+        }
+
+        assertEquals(-1, graph.getConnection("episode", NUM_EPISODES, "series"));
+        assertEquals(0, graph.getConnectionSet("episode", NUM_EPISODES, "season").size());
+        assertArrayEquals(new int[] { 3 }, graph.getConnectionSet("episode", NUM_EPISODES, "tags").asArray());
+    }
+
+    private NFCompressedGraph buildGraph(int nodeFlags) {
+        return buildGraph(nodeFlags, GLOBAL | SINGLE | COLUMNAR);
+    }
+
+    private NFCompressedGraph buildGraph(int nodeFlags, int singleFlags) {
+        NFGraphSpec spec = new NFGraphSpec(
+                new NFNodeSpec("episode", nodeFlags,
+                        new NFPropertySpec("series", "series", singleFlags),
+                        new NFPropertySpec("tags", "tag", GLOBAL | MULTIPLE),
+                        new NFPropertySpec("season", "season", singleFlags)
+                ),
+                new NFNodeSpec("series"),
+                new NFNodeSpec("season"),
+                new NFNodeSpec("tag")
+        );
+
+        NFBuildGraph buildGraph = new NFBuildGraph(spec);
+        for(int i=0;i<NUM_EPISODES;i++) {
+            if(expectedSeries(i) != -1)
+                buildGraph.addConnection("episode", i, "series", expectedSeries(i));
+            buildGraph.addConnection("episode", i, "season", i / 10);
+            buildGraph.addConnection("episode", i, "tags", i % 7);
+            buildGraph.addConnection("episode", i, "tags", i % 7 + 7);
+        }
+        buildGraph.addConnection("episode", NUM_EPISODES, "tags", 3);
+
+        return buildGraph.compress();
+    }
+
+    /// every third episode has no series
+    private int expectedSeries(int episode) {
+        return episode % 3 == 0 ? -1 : episode / 20;
+    }
+
+}
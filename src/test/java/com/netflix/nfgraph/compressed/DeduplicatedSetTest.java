@@ -0,0 +1,159 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import static com.netflix.nfgraph.OrdinalIterator.NO_MORE_ORDINALS;
+import static com.netflix.nfgraph.compressed.SerializedGraphs.roundTrip;
+import static com.netflix.nfgraph.compressed.SerializedGraphs.serializedSize;
+import static com.netflix.nfgraph.spec.NFNodeSpec.PROPERTY_OFFSETS;
+import static com.netflix.nfgraph.spec.NFPropertySpec.DEDUPLICATED;
+import static com.netflix.nfgraph.spec.NFPropertySpec.GLOBAL;
+import static com.netflix.nfgraph.spec.NFPropertySpec.HASH;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MODEL_SPECIFIC;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MULTIPLE;
+import static com.netflix.nfgraph.spec.NFPropertySpec.SINGLE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import org.junit.Test;
+
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.build.NFBuildGraph;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+
+public class DeduplicatedSetTest {
+
+    private static final int NUM_EPISODES = 2000;
+
+    @Test
+    public void identicalSetsAreWrittenOnce() throws IOException {
+        NFCompressedGraph graph = buildAvailabilityGraph(MULTIPLE | DEDUPLICATED);
+
+        /// all but two episodes refer to an earlier copy of a set of 100 countries, in place of about 100 bytes each
+        assertTrue(serializedSize(buildAvailabilityGraph(MULTIPLE)) - serializedSize(graph) > (NUM_EPISODES - 2) * 90);
+
+        for(int i=0;i<NUM_EPISODES;i++) {
+            OrdinalSet available = graph.getConnectionSet("episode", i, "availability");
+            assertArrayEquals(expectedCountries(i), available.asArray());
+            assertEquals(expectedCountries(i).length, graph.getConnectionCount("episode", i, "availability"));
+            assertEquals(i, graph.getConnection("episode", i, "series"));
+        }
+
+        assertArrayEquals(new int[] { 3, 5 }, graph.getConnectionSet("episode", NUM_EPISODES, "availability").asArray());
+    }
+
+    @Test
+    public void cursorFollowsReferences() throws IOException {
+        NFCompressedGraph graph = buildAvailabilityGraph(MULTIPLE | DEDUPLICATED);
+        NFCompressedGraphCursor cursor = graph.newCursor();
+
+        cursor.position("episode", 1501, "availability");
+        assertEquals(100, cursor.size());
+        assertTrue(cursor.contains(198));
+        assertFalse(cursor.contains(199));
+
+        int expected[] = expectedCountries(1501);
+        for(int i=0;i<expected.length;i++)
+            assertEquals(expected[i], cursor.nextOrdinal());
+        assertEquals(NO_MORE_ORDINALS, cursor.nextOrdinal());
+
+        OrdinalIterator copy = cursor.copy();
+        assertEquals(0, copy.nextOrdinal());
+
+        cursor.position("episode", 1600, "availability");
+        assertEquals(100, cursor.size());
+        assertEquals(1, cursor.nextOrdinal());
+    }
+
+    @Test
+    public void referencesSurviveIntermediateBuffers() throws IOException {
+        NFGraphSpec spec = new NFGraphSpec(
+                new NFNodeSpec("episode", PROPERTY_OFFSETS,
+                        new NFPropertySpec("series", "series", GLOBAL | SINGLE),
+                        new NFPropertySpec("availability", "country", MODEL_SPECIFIC | MULTIPLE | DEDUPLICATED),
+                        new NFPropertySpec("tags", "tag", GLOBAL | MULTIPLE | HASH | DEDUPLICATED)
+                ),
+                new NFNodeSpec("series"),
+                new NFNodeSpec("country"),
+                new NFNodeSpec("tag")
+        );
+
+        NFBuildGraph buildGraph = new NFBuildGraph(spec);
+        for(int i=0;i<100;i++) {
+            buildGraph.addConnection("episode", i, "series", i);
+            for(int j=0;j<50;j++) {
+                buildGraph.addConnection("model-1", "episode", i, "availability", j * 3);
+                buildGraph.addConnection("model-2", "episode", i, "availability", j * 3 + (i % 2));
+                buildGraph.addConnection("episode", i, "tags", j * 7);
+            }
+        }
+        buildGraph.addConnection("episode", 100, "tags", 1000);
+
+        NFCompressedGraph graph = roundTrip(buildGraph.compress());
+
+        for(int i=0;i<100;i++) {
+            assertEquals(i, graph.getConnection("episode", i, "series"));
+            assertEquals(50, graph.getConnectionCount("model-1", "episode", i, "availability"));
+            assertEquals(3, graph.getConnectionSet("model-1", "episode", i, "availability").asArray()[1]);
+            assertEquals(3 + (i % 2), graph.getConnectionSet("model-2", "episode", i, "availability").asArray()[1]);
+
+            OrdinalSet tags = graph.getConnectionSet("episode", i, "tags");
+            assertEquals(50, tags.size());
+            assertTrue(tags.contains(343));
+            assertFalse(tags.contains(344));
+        }
+    }
+
+    private NFCompressedGraph buildAvailabilityGraph(int availabilityFlags) throws IOException {
+        NFGraphSpec spec = new NFGraphSpec(
+                new NFNodeSpec("episode",
+                        new NFPropertySpec("series", "series", GLOBAL | SINGLE),
+                        new NFPropertySpec("availability", "country", availabilityFlags)
+                ),
+                new NFNodeSpec("series"),
+                new NFNodeSpec("country")
+        );
+
+        NFBuildGraph buildGraph = new NFBuildGraph(spec);
+        for(int i=0;i<NUM_EPISODES;i++) {
+            buildGraph.addConnection("episode", i, "series", i);
+            for(int country : expectedCountries(i))
+                buildGraph.addConnection("episode", i, "availability", country);
+        }
+        buildGraph.addConnection("episode", NUM_EPISODES, "availability", 3);
+        buildGraph.addConnection("episode", NUM_EPISODES, "availability", 5);
+        buildGraph.addConnection("episode", NUM_EPISODES + 1, "availability", 10000);
+
+        return roundTrip(buildGraph.compress());
+    }
+
+    /// all episodes share one set, except every hundredth episode, which shares another
+    private int[] expectedCountries(int episode) {
+        int countries[] = new int[100];
+        for(int i=0;i<countries.length;i++)
+            countries[i] = i * 2 + (episode % 100 == 0 ? 1 : 0);
+        return countries;
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.nfgraph.compressed;
+
+import static com.netflix.nfgraph.spec.NFPropertySpec.ELIAS_FANO;
+import static com.netflix.nfgraph.spec.NFPropertySpec.GROUP_VARINT;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MULTIPLE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.build.NFBuildGraph;
+import com.netflix.nfgraph.compressor.EliasFanoPropertyBuilder;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.ByteArrayBuffer;
+import com.netflix.nfgraph.util.ByteArrayReader;
+import com.netflix.nfgraph.util.ByteData;
+
+public class EliasFanoSetTest extends EncodedConnectionSetTest {
+
+    @Override
+    protected ByteData generateCompressedData(OrdinalSet ordinals) {
+        ByteArrayBuffer buf = new ByteArrayBuffer();
+        EliasFanoPropertyBuilder builder = new EliasFanoPropertyBuilder(buf);
+
+        builder.buildProperty(ordinals);
+
+        dataLength = buf.length();
+        return buf.getData();
+    }
+
+    @Override
+    protected OrdinalSet createOrdinalSet() {
+        ByteArrayReader reader = new ByteArrayReader(data, 0, dataLength);
+        return new EliasFanoOrdinalSet(reader, expectedOrdinals.size());
+    }
+
+    @Override
+    protected int maximumTotalOrdinals() {
+        return 100000;
+    }
+
+    @Test
+    public void advanceReturnsCeilingOfTarget() {
+        assertAdvanceReturnsCeilingOfTarget(1000);
+    }
+
+    @Test
+    public void iteratesSortedOrdinals() {
+        TreeSet<Integer> sortedOrdinals = new TreeSet<Integer>(expectedOrdinals);
+        int expected[] = new int[sortedOrdinals.size()];
+        int i = 0;
+        for(Integer ordinal : sortedOrdinals)
+            expected[i++] = ordinal.intValue();
+
+        assertArrayEquals("seed: " + seed, expected, createOrdinalSet().asArray());
+    }
+
+    @Test
+    public void encodingsAreSelectedBySpec() throws IOException {
+        NFGraphSpec spec = new NFGraphSpec(
+                new NFNodeSpec("movie",
+                        new NFPropertySpec("cast", "actor", MULTIPLE | GROUP_VARINT),
+                        new NFPropertySpec("genres", "actor", MULTIPLE | ELIAS_FANO)
+                ),
+                new NFNodeSpec("actor")
+        );
+
+        NFBuildGraph buildGraph = new NFBuildGraph(spec);
+        for(int i=0;i<1000;i++) {
+            buildGraph.addConnection("movie", 0, "cast", i * 97);
+            buildGraph.addConnection("movie", 0, "genres", i * 89);
+        }
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        buildGraph.compress().writeTo(os);
+        NFCompressedGraph graph = NFCompressedGraph.readFrom(new ByteArrayInputStream(os.toByteArray()));
+
+        assertTrue(graph.getPropertyHandle("movie", "cast").getPropertySpec().isGroupVarInt());
+        assertTrue(graph.getPropertyHandle("movie", "genres").getPropertySpec().isEliasFano());
+
+        OrdinalSet cast = graph.getConnectionSet("movie", 0, "cast");
+        OrdinalSet genres = graph.getConnectionSet("movie", 0, "genres");
+        assertTrue(cast instanceof GroupVarIntOrdinalSet);
+        assertTrue(genres instanceof EliasFanoOrdinalSet);
+        assertEquals(1000, cast.size());
+        assertEquals(1000, genres.size());
+        assertTrue(cast.contains(97 * 500));
+        assertTrue(genres.contains(89 * 999));
+
+        NFCompressedGraphCursor cursor = graph.newCursor();
+        cursor.position("movie", 0, "genres");
+        assertEquals(1000, cursor.size());
+        assertTrue(cursor.contains(89 * 3));
+        assertEquals(0, cursor.nextOrdinal());
+        assertEquals(89, cursor.nextOrdinal());
+
+        cursor.position("movie", 0, "cast");
+        assertTrue(cursor.contains(97 * 999));
+        assertFalse(cursor.contains(97 * 999 + 1));
+        assertEquals(0, cursor.nextOrdinal());
+        assertEquals(97, cursor.nextOrdinal());
+    }
+
+}
@@ -27,12 +27,14 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Random;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import com.netflix.nfgraph.OrdinalIterator;
 import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.SeekableOrdinalIterator;
 import com.netflix.nfgraph.build.NFBuildGraphOrdinalSet;
 import com.netflix.nfgraph.util.ByteData;
 
@@ -193,6 +195,44 @@ public abstract class EncodedConnectionSetTest {
         assertEquals("seed: " + seed, expectedOrdinals.size(), counter);
     }
 
+    @Test
+    public void forEachVisitsAllExpectedOrdinalsOnce() {
+        final Set<Integer> visitedOrdinals = new HashSet<Integer>();
+        final int counter[] = new int[1];
+
+        createOrdinalSet().forEach(ordinal -> {
+            counter[0]++;
+            visitedOrdinals.add(ordinal);
+        });
+
+        assertEquals("seed: " + seed, expectedOrdinals, visitedOrdinals);
+        assertEquals("seed: " + seed, expectedOrdinals.size(), counter[0]);
+    }
+
+    /**
+     * Asserts that {@link SeekableOrdinalIterator#advance(int)} on a fresh iterator over the set returns the ceiling of each target,
+     * stepping the target forward by up to <code>maxStep</code> ordinals at a time.
+     */
+    protected void assertAdvanceReturnsCeilingOfTarget(int maxStep) {
+        TreeSet<Integer> sortedOrdinals = new TreeSet<Integer>(expectedOrdinals);
+        SeekableOrdinalIterator iter = (SeekableOrdinalIterator)createOrdinalSet().iterator();
+
+        int target = 0;
+        while(true) {
+            target += rand.nextInt(maxStep);
+            Integer expected = sortedOrdinals.ceiling(target);
+            int actual = iter.advance(target);
+
+            if(expected == null) {
+                assertEquals("seed: " + seed, NO_MORE_ORDINALS, actual);
+                break;
+            }
+
+            assertEquals("seed: " + seed + " target: " + target, expected.intValue(), actual);
+            target = actual + 1;
+        }
+    }
+
     private int generateUnexpectedOrdinal() {
         int unexpectedOrdinal = rand.nextInt(totalOrdinals);
         while(expectedOrdinals.contains(unexpectedOrdinal))
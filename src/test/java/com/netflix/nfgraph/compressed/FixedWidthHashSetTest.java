@@ -0,0 +1,119 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.nfgraph.compressed;
+
+import static com.netflix.nfgraph.spec.NFPropertySpec.FIXED_WIDTH;
+import static com.netflix.nfgraph.spec.NFPropertySpec.HASH;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MULTIPLE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.build.NFBuildGraph;
+import com.netflix.nfgraph.build.NFBuildGraphOrdinalSet;
+import com.netflix.nfgraph.compressor.HashedPropertyBuilder;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.ByteArrayBuffer;
+import com.netflix.nfgraph.util.ByteArrayReader;
+import com.netflix.nfgraph.util.ByteData;
+
+public class FixedWidthHashSetTest extends EncodedConnectionSetTest {
+
+    @Override
+    protected ByteData generateCompressedData(OrdinalSet ordinals) {
+        ByteArrayBuffer buf = new ByteArrayBuffer();
+        HashedPropertyBuilder builder = new HashedPropertyBuilder(buf);
+
+        builder.buildFixedWidthProperty(ordinals);
+
+        dataLength = buf.length();
+        return buf.getData();
+    }
+
+    @Override
+    protected OrdinalSet createOrdinalSet() {
+        ByteArrayReader reader = new ByteArrayReader(data, 0, dataLength);
+        return new FixedWidthHashSetOrdinalSet(reader, expectedOrdinals.size());
+    }
+
+    @Override
+    protected int maximumTotalOrdinals() {
+        return 100000;
+    }
+
+    @Test
+    public void slotWidthFollowsLargestOrdinal() {
+        assertEquals(1, slotWidth(0, 17, 254));
+        assertEquals(2, slotWidth(0, 255));
+        assertEquals(2, slotWidth(65534));
+        assertEquals(3, slotWidth(3, 65535));
+        assertEquals(4, slotWidth(1 << 24));
+    }
+
+    @Test
+    public void compressedGraphUsesFixedWidthSlots() throws IOException {
+        NFGraphSpec spec = new NFGraphSpec(
+                new NFNodeSpec("movie",
+                        new NFPropertySpec("viewers", "user", MULTIPLE | HASH | FIXED_WIDTH)
+                ),
+                new NFNodeSpec("user")
+        );
+
+        NFBuildGraph buildGraph = new NFBuildGraph(spec);
+        buildGraph.addConnection("movie", 0, "viewers", 3);
+        buildGraph.addConnection("movie", 0, "viewers", 70000);
+        buildGraph.addConnection("movie", 0, "viewers", 3);
+        buildGraph.addConnection("movie", 2, "viewers", 12);
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        buildGraph.compress().writeTo(os);
+        NFCompressedGraph graph = NFCompressedGraph.readFrom(new ByteArrayInputStream(os.toByteArray()));
+
+        OrdinalSet set = graph.getConnectionSet("movie", 0, "viewers");
+        assertTrue(set instanceof FixedWidthHashSetOrdinalSet);
+        assertEquals(2, set.size());
+        assertTrue(set.contains(3));
+        assertTrue(set.contains(70000));
+        assertFalse(set.contains(12));
+
+        assertEquals(0, graph.getConnectionSet("movie", 1, "viewers").size());
+        assertEquals(1, graph.getConnectionCount("movie", 2, "viewers"));
+
+        NFCompressedGraphCursor cursor = graph.newCursor();
+        cursor.position("movie", 0, "viewers");
+        assertFalse(cursor.isOrdered());
+        assertEquals(2, cursor.size());
+        assertTrue(cursor.contains(70000));
+        assertFalse(cursor.contains(4));
+    }
+
+    private int slotWidth(int... ordinals) {
+        ByteArrayBuffer buf = new ByteArrayBuffer();
+        new HashedPropertyBuilder(buf).buildFixedWidthProperty(new NFBuildGraphOrdinalSet(ordinals, ordinals.length));
+        return buf.getData().get(0);
+    }
+
+}
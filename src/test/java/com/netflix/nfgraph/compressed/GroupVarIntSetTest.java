@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.nfgraph.compressed;
+
+import static com.netflix.nfgraph.OrdinalIterator.NO_MORE_ORDINALS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.build.NFBuildGraphOrdinalSet;
+import com.netflix.nfgraph.compressor.GroupVarIntPropertyBuilder;
+import com.netflix.nfgraph.util.ByteArrayBuffer;
+import com.netflix.nfgraph.util.ByteArrayReader;
+import com.netflix.nfgraph.util.ByteData;
+
+public class GroupVarIntSetTest extends EncodedConnectionSetTest {
+
+    @Override
+    protected ByteData generateCompressedData(OrdinalSet ordinals) {
+        ByteArrayBuffer buf = new ByteArrayBuffer();
+        GroupVarIntPropertyBuilder builder = new GroupVarIntPropertyBuilder(buf);
+
+        builder.buildProperty(ordinals);
+
+        dataLength = buf.length();
+        return buf.getData();
+    }
+
+    @Override
+    protected OrdinalSet createOrdinalSet() {
+        ByteArrayReader reader = new ByteArrayReader(data, 0, dataLength);
+        return new GroupVarIntOrdinalSet(reader, expectedOrdinals.size());
+    }
+
+    @Override
+    protected int maximumTotalOrdinals() {
+        return 100000;
+    }
+
+    @Test
+    public void deltasOfEachWidthRoundTrip() {
+        int ordinals[] = { 0, 1, 300, 70000, 1 << 25, Integer.MAX_VALUE - 1 };
+
+        ByteArrayBuffer buf = new ByteArrayBuffer();
+        new GroupVarIntPropertyBuilder(buf).buildProperty(new NFBuildGraphOrdinalSet(ordinals, ordinals.length));
+        GroupVarIntOrdinalSet set = new GroupVarIntOrdinalSet(new ByteArrayReader(buf.getData(), 0, buf.length()), ordinals.length);
+        GroupVarIntOrdinalIterator iter = set.iterator();
+
+        for(int ordinal : ordinals) {
+            assertEquals(ordinal, iter.nextOrdinal());
+            assertTrue(set.contains(ordinal));
+        }
+        assertEquals(NO_MORE_ORDINALS, iter.nextOrdinal());
+
+        for(int missing : new int[] { 2, 299, 301, 69999, (1 << 25) + 1, Integer.MAX_VALUE })
+            assertFalse(set.contains(missing));
+
+        iter.reset();
+        assertEquals(1 << 25, iter.advance(70001));
+    }
+
+}
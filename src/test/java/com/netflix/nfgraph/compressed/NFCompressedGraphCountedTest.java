@@ -0,0 +1,215 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import static com.netflix.nfgraph.spec.NFPropertySpec.COMPACT;
+import static com.netflix.nfgraph.spec.NFPropertySpec.COUNTED;
+import static com.netflix.nfgraph.spec.NFPropertySpec.GLOBAL;
+import static com.netflix.nfgraph.spec.NFPropertySpec.HASH;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MODEL_SPECIFIC;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MULTIPLE;
+import static com.netflix.nfgraph.spec.NFPropertySpec.SINGLE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.netflix.nfgraph.NFPropertyHandle;
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.build.NFBuildGraph;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+
+public class NFCompressedGraphCountedTest {
+
+    private static final int NUM_MOVIES = 500;
+    private static final int NUM_ACTORS = 200;
+
+    private static final String MODELS[] = { "model-1", "model-2" };
+    private static final String PROPERTIES[] = { "cast", "crew", "featured", "tags", "director" };
+
+    private NFBuildGraph buildGraph;
+    private NFCompressedGraph compressedGraph;
+    private long seed;
+
+    @Before
+    public void setUp() throws IOException {
+        NFGraphSpec spec = new NFGraphSpec(
+                new NFNodeSpec("movie",
+                        new NFPropertySpec("cast", "actor", GLOBAL | MULTIPLE | COMPACT | COUNTED),
+                        new NFPropertySpec("crew", "actor", GLOBAL | MULTIPLE | HASH | COUNTED),
+                        new NFPropertySpec("featured", "actor", MODEL_SPECIFIC | MULTIPLE | COMPACT | COUNTED),
+                        new NFPropertySpec("tags", "actor", GLOBAL | MULTIPLE | COMPACT),
+                        new NFPropertySpec("director", "actor", GLOBAL | SINGLE | COUNTED)
+                ),
+                new NFNodeSpec("actor")
+        );
+
+        seed = System.currentTimeMillis();
+        Random rand = new Random(seed);
+
+        buildGraph = new NFBuildGraph(spec);
+        for(String model : MODELS)
+            buildGraph.addConnectionModel(model);
+
+        for(int i=0;i<NUM_MOVIES;i++) {
+            /// some sets are large enough to be encoded as bit sets
+            int maxConnections = rand.nextInt(10) == 0 ? NUM_ACTORS : 15;
+
+            for(String property : new String[] { "cast", "crew" }) {
+                int numConnections = rand.nextInt(maxConnections);
+                for(int j=0;j<numConnections;j++)
+                    buildGraph.addConnection("movie", i, property, rand.nextInt(NUM_ACTORS));
+            }
+
+            /// uncounted compact properties retain duplicate connections, so none are added
+            int numTags = rand.nextInt(maxConnections);
+            for(int j=0;j<numTags;j++)
+                buildGraph.addConnection("movie", i, "tags", j * (NUM_ACTORS / maxConnections));
+
+            int numFeatured = rand.nextInt(4);
+            for(int j=0;j<numFeatured;j++)
+                buildGraph.addConnection(MODELS[rand.nextInt(MODELS.length)], "movie", i, "featured", rand.nextInt(NUM_ACTORS));
+
+            if(rand.nextBoolean())
+                buildGraph.addConnection("movie", i, "director", rand.nextInt(NUM_ACTORS));
+        }
+
+        /// this movie has connections in a connection model only, so it has no connections at all in the global model
+        buildGraph.addConnection(MODELS[0], "movie", NUM_MOVIES, "featured", 0);
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        buildGraph.compress().writeTo(os);
+        compressedGraph = NFCompressedGraph.readFrom(new ByteArrayInputStream(os.toByteArray()));
+    }
+
+    @Test
+    public void connectionsMatchBuildGraph() {
+        for(int i=0;i<NUM_MOVIES;i++) {
+            for(String property : PROPERTIES) {
+                if(!"featured".equals(property))
+                    assertConnections(null, i, property);
+            }
+            for(String model : MODELS)
+                assertConnections(model, i, "featured");
+        }
+    }
+
+    @Test
+    public void absentSingleConnectionsAreEmpty() {
+        for(int i=0;i<=NUM_MOVIES;i++) {
+            if(buildGraph.getConnection("movie", i, "director") == -1) {
+                String message = "seed: " + seed + " ordinal: " + i;
+                assertEquals(message, 0, buildGraph.getConnectionSet("movie", i, "director").size());
+                assertEquals(message, 0, compressedGraph.getConnectionSet("movie", i, "director").size());
+                assertEquals(message, OrdinalIterator.NO_MORE_ORDINALS, compressedGraph.getConnectionIterator("movie", i, "director").nextOrdinal());
+            }
+        }
+
+        assertConnections(null, NUM_MOVIES, "director");
+    }
+
+    @Test
+    public void countsMatchBuildGraph() {
+        NFPropertyHandle castHandle = compressedGraph.getPropertyHandle("movie", "cast");
+        NFPropertyHandle featuredHandle = compressedGraph.getPropertyHandle("model-2", "movie", "featured");
+
+        for(int i=0;i<NUM_MOVIES;i++) {
+            for(String property : PROPERTIES) {
+                if(!"featured".equals(property))
+                    assertEquals("seed: " + seed, buildGraph.getConnectionCount("movie", i, property), compressedGraph.getConnectionCount("movie", i, property));
+            }
+            for(String model : MODELS)
+                assertEquals("seed: " + seed, buildGraph.getConnectionCount(model, "movie", i, "featured"), compressedGraph.getConnectionCount(model, "movie", i, "featured"));
+
+            assertEquals("seed: " + seed, buildGraph.getConnectionCount("movie", i, "cast"), compressedGraph.getConnectionCount(castHandle, i));
+            assertEquals("seed: " + seed, buildGraph.getConnectionCount("model-2", "movie", i, "featured"), compressedGraph.getConnectionCount(featuredHandle, i));
+        }
+
+        assertEquals(0, compressedGraph.getConnectionCount("movie", NUM_MOVIES + 10, "cast"));
+    }
+
+    @Test
+    public void cursorReportsCounts() {
+        NFCompressedGraphCursor cursor = compressedGraph.newCursor();
+        NFPropertyHandle crewHandle = compressedGraph.getPropertyHandle("movie", "crew");
+
+        for(int i=0;i<NUM_MOVIES;i++) {
+            int expected[] = toArray(buildGraph.getConnectionIterator("movie", i, "crew"));
+
+            cursor.position(crewHandle, i);
+            assertEquals("seed: " + seed, expected.length, cursor.size());
+            assertArrayEquals("seed: " + seed, expected, sorted(toArray(cursor)));
+
+            cursor.position("movie", i, "cast");
+            assertEquals("seed: " + seed, buildGraph.getConnectionCount("movie", i, "cast"), cursor.size());
+        }
+    }
+
+    @Test
+    public void countedSetsKnowTheirSize() {
+        boolean foundBitSet = false;
+
+        for(int i=0;i<NUM_MOVIES;i++) {
+            OrdinalSet set = compressedGraph.getConnectionSet("movie", i, "cast");
+            assertEquals("seed: " + seed, set.size(), set.estimatedSize());
+            foundBitSet |= set instanceof BitSetOrdinalSet;
+        }
+
+        assertTrue("seed: " + seed, foundBitSet);
+    }
+
+    private void assertConnections(String model, int ordinal, String property) {
+        OrdinalIterator expected = model == null ? buildGraph.getConnectionIterator("movie", ordinal, property) : buildGraph.getConnectionIterator(model, "movie", ordinal, property);
+        OrdinalSet actual = model == null ? compressedGraph.getConnectionSet("movie", ordinal, property) : compressedGraph.getConnectionSet(model, "movie", ordinal, property);
+        OrdinalIterator actualIter = model == null ? compressedGraph.getConnectionIterator("movie", ordinal, property) : compressedGraph.getConnectionIterator(model, "movie", ordinal, property);
+
+        int expectedOrdinals[] = toArray(expected);
+        String message = "seed: " + seed + " ordinal: " + ordinal + " property: " + property;
+
+        assertArrayEquals(message, expectedOrdinals, sorted(actual.asArray()));
+        assertArrayEquals(message, expectedOrdinals, sorted(toArray(actualIter)));
+
+        for(int connection : expectedOrdinals)
+            assertTrue(message, actual.contains(connection));
+    }
+
+    private int[] toArray(OrdinalIterator iter) {
+        int arr[] = new int[NUM_ACTORS];
+        int size = 0;
+        for(int ordinal = iter.nextOrdinal(); ordinal != OrdinalIterator.NO_MORE_ORDINALS; ordinal = iter.nextOrdinal())
+            arr[size++] = ordinal;
+        return Arrays.copyOf(arr, size);
+    }
+
+    private int[] sorted(int arr[]) {
+        Arrays.sort(arr);
+        return arr;
+    }
+
+}
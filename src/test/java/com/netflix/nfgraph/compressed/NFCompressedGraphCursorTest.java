@@ -0,0 +1,177 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import static com.netflix.nfgraph.OrdinalIterator.NO_MORE_ORDINALS;
+import static com.netflix.nfgraph.spec.NFPropertySpec.COMPACT;
+import static com.netflix.nfgraph.spec.NFPropertySpec.GLOBAL;
+import static com.netflix.nfgraph.spec.NFPropertySpec.HASH;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MODEL_SPECIFIC;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MULTIPLE;
+import static com.netflix.nfgraph.spec.NFPropertySpec.SINGLE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.netflix.nfgraph.NFPropertyHandle;
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.build.NFBuildGraph;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+
+public class NFCompressedGraphCursorTest {
+
+    private static final int NUM_NODES = 200;
+
+    private static final String PROPERTIES[] = { "single", "compact", "hashed", "per-model" };
+
+    private NFCompressedGraph graph;
+    private NFCompressedGraphCursor cursor;
+
+    @Before
+    public void setUp() {
+        NFGraphSpec spec = new NFGraphSpec(
+                new NFNodeSpec("a",
+                        new NFPropertySpec("single", "a", GLOBAL | SINGLE),
+                        new NFPropertySpec("compact", "a", GLOBAL | MULTIPLE | COMPACT),
+                        new NFPropertySpec("hashed", "a", GLOBAL | MULTIPLE | HASH),
+                        new NFPropertySpec("per-model", "a", MODEL_SPECIFIC | MULTIPLE | COMPACT)
+                )
+        );
+
+        NFBuildGraph buildGraph = new NFBuildGraph(spec);
+        buildGraph.addConnectionModel("model-1");
+        Random rand = new Random(1);
+
+        for(int i=0;i<NUM_NODES;i++) {
+            if(rand.nextBoolean())
+                buildGraph.addConnection("a", i, "single", rand.nextInt(NUM_NODES));
+
+            /// vary the density so that compact, hashed, and bit set encodings are all produced
+            int numConnections = rand.nextInt(4) == 0 ? rand.nextInt(NUM_NODES) : rand.nextInt(10);
+            for(int j=0;j<numConnections;j++) {
+                buildGraph.addConnection("a", i, "compact", rand.nextInt(NUM_NODES));
+                buildGraph.addConnection("a", i, "hashed", rand.nextInt(NUM_NODES));
+                buildGraph.addConnection("model-1", "a", i, "per-model", rand.nextInt(NUM_NODES));
+            }
+        }
+
+        graph = buildGraph.compress();
+        cursor = graph.newCursor();
+    }
+
+    @Test
+    public void cursorMatchesConnectionSetsByName() {
+        for(int i=0;i<NUM_NODES + 10;i++) {
+            for(String property : PROPERTIES) {
+                String model = "per-model".equals(property) ? "model-1" : "global";
+                OrdinalSet expected = graph.getConnectionSet(model, "a", i, property);
+                assertCursor(expected, cursor.position(model, "a", i, property));
+            }
+        }
+    }
+
+    @Test
+    public void cursorMatchesConnectionSetsByHandle() {
+        for(String property : PROPERTIES) {
+            String model = "per-model".equals(property) ? "model-1" : "global";
+            NFPropertyHandle handle = graph.getPropertyHandle(model, "a", property);
+
+            for(int i=0;i<NUM_NODES;i++) {
+                OrdinalSet expected = graph.getConnectionSet(handle, i);
+                assertCursor(expected, cursor.position(handle, i));
+            }
+        }
+    }
+
+    @Test
+    public void resetRewindsCursor() {
+        cursor.position("a", 0, "compact");
+        int first[] = drain(cursor);
+        cursor.reset();
+        assertArrayEquals(first, drain(cursor));
+        assertArrayEquals(first, drain(cursor.copy()));
+    }
+
+    @Test
+    public void batchLookupMatchesIndividualLookups() {
+        int ordinals[] = new int[] { 5, 3, NUM_NODES + 1, 0, 5, 199 };
+        int offsets[] = new int[ordinals.length + 1];
+        int connections[] = new int[NUM_NODES * ordinals.length];
+
+        int numConnections = graph.getConnections("a", ordinals, "compact", offsets, connections);
+
+        assertEquals(offsets[ordinals.length], numConnections);
+        for(int i=0;i<ordinals.length;i++) {
+            int expected[] = graph.getConnectionSet("a", ordinals[i], "compact").asArray();
+            assertArrayEquals(expected, Arrays.copyOfRange(connections, offsets[i], offsets[i+1]));
+        }
+    }
+
+    @Test
+    public void batchLookupReportsRequiredSizeWhenBufferIsTooSmall() {
+        int ordinals[] = new int[] { 0, 1, 2, 3 };
+        int offsets[] = new int[ordinals.length + 1];
+
+        int numConnections = graph.getConnections("a", ordinals, "compact", offsets, new int[0]);
+
+        int expected = 0;
+        for(int ordinal : ordinals)
+            expected += graph.getConnectionSet("a", ordinal, "compact").size();
+
+        assertEquals(expected, numConnections);
+        assertEquals(expected, offsets[ordinals.length]);
+    }
+
+    private void assertCursor(OrdinalSet expected, NFCompressedGraphCursor cursor) {
+        int expectedOrdinals[] = expected.asArray();
+        if(expectedOrdinals.length == 1 && expectedOrdinals[0] == -1)
+            expectedOrdinals = new int[0];
+
+        assertEquals(expectedOrdinals.length, cursor.size());
+
+        for(int i=0;i<NUM_NODES;i++)
+            assertEquals(expected.contains(i), cursor.contains(i));
+
+        int actualOrdinals[] = drain(cursor);
+        Arrays.sort(expectedOrdinals);
+        Arrays.sort(actualOrdinals);
+        assertArrayEquals(expectedOrdinals, actualOrdinals);
+    }
+
+    private int[] drain(OrdinalIterator iter) {
+        int ordinals[] = new int[NUM_NODES];
+        int size = 0;
+
+        int ordinal = iter.nextOrdinal();
+        while(ordinal != NO_MORE_ORDINALS) {
+            ordinals[size++] = ordinal;
+            ordinal = iter.nextOrdinal();
+        }
+
+        return Arrays.copyOf(ordinals, size);
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import static com.netflix.nfgraph.spec.NFPropertySpec.COMPACT;
+import static com.netflix.nfgraph.spec.NFPropertySpec.DEGREES;
+import static com.netflix.nfgraph.spec.NFPropertySpec.GLOBAL;
+import static com.netflix.nfgraph.spec.NFPropertySpec.HASH;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MODEL_SPECIFIC;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MULTIPLE;
+import static com.netflix.nfgraph.spec.NFPropertySpec.SINGLE;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.netflix.nfgraph.build.NFBuildGraph;
+import com.netflix.nfgraph.exception.NFGraphException;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+
+public class NFCompressedGraphDegreesTest {
+
+    private static final int NUM_ACTORS = 700;
+    private static final int NUM_MOVIES = 300;
+
+    private NFBuildGraph buildGraph;
+    private NFCompressedGraph compressedGraph;
+    private long seed;
+
+    @Before
+    public void setUp() throws IOException {
+        NFGraphSpec spec = new NFGraphSpec(
+                new NFNodeSpec("actor",
+                        new NFPropertySpec("movies", "movie", GLOBAL | MULTIPLE | COMPACT | DEGREES),
+                        new NFPropertySpec("awards", "movie", MODEL_SPECIFIC | MULTIPLE | HASH | DEGREES),
+                        new NFPropertySpec("debut", "movie", GLOBAL | SINGLE | DEGREES),
+                        new NFPropertySpec("favorites", "movie", GLOBAL | MULTIPLE | COMPACT)
+                ),
+                new NFNodeSpec("movie")
+        );
+
+        seed = System.currentTimeMillis();
+        Random rand = new Random(seed);
+
+        buildGraph = new NFBuildGraph(spec);
+        buildGraph.addConnectionModel("model-1");
+        buildGraph.addConnectionModel("model-2");
+
+        /// the last actor has no connections, and so is not a node in the built graph
+        for(int i=0;i<NUM_ACTORS - 1;i++) {
+            int numMovies = rand.nextInt(10) == 0 ? rand.nextInt(NUM_MOVIES) : rand.nextInt(5);
+            for(int j=0;j<numMovies;j++)
+                buildGraph.addConnection("actor", i, "movies", rand.nextInt(NUM_MOVIES));
+
+            int numAwards = rand.nextInt(3);
+            for(int j=0;j<numAwards;j++)
+                buildGraph.addConnection(rand.nextBoolean() ? "model-1" : "model-2", "actor", i, "awards", rand.nextInt(NUM_MOVIES));
+
+            if(rand.nextBoolean())
+                buildGraph.addConnection("actor", i, "debut", rand.nextInt(NUM_MOVIES));
+
+            buildGraph.addConnection("actor", i, "favorites", rand.nextInt(NUM_MOVIES));
+        }
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        buildGraph.compress().writeTo(os);
+        compressedGraph = NFCompressedGraph.readFrom(new ByteArrayInputStream(os.toByteArray()));
+    }
+
+    @Test
+    public void degreesMatchConnectionCounts() {
+        DegreeColumn movies = compressedGraph.degrees("actor", "movies");
+        DegreeColumn model1Awards = compressedGraph.degrees("model-1", "actor", "awards");
+        DegreeColumn model2Awards = compressedGraph.degrees("model-2", "actor", "awards");
+        DegreeColumn debut = compressedGraph.degrees("actor", "debut");
+
+        for(int i=0;i<NUM_ACTORS - 1;i++) {
+            assertEquals("seed: " + seed, buildGraph.getConnectionCount("actor", i, "movies"), movies.get(i));
+            assertEquals("seed: " + seed, buildGraph.getConnectionCount("model-1", "actor", i, "awards"), model1Awards.get(i));
+            assertEquals("seed: " + seed, buildGraph.getConnectionCount("model-2", "actor", i, "awards"), model2Awards.get(i));
+            assertEquals("seed: " + seed, buildGraph.getConnectionCount("actor", i, "debut"), debut.get(i));
+        }
+
+        assertEquals(0, movies.get(NUM_ACTORS - 1));
+        assertEquals(0, movies.get(-1));
+    }
+
+    @Test
+    public void columnCoversEveryNode() {
+        DegreeColumn movies = compressedGraph.degrees("actor", "movies");
+        int degrees[] = movies.asArray();
+
+        assertEquals(compressedGraph.getNumNodes("actor"), movies.size());
+        for(int i=0;i<degrees.length;i++)
+            assertEquals(movies.get(i), degrees[i]);
+    }
+
+    @Test(expected=NFGraphException.class)
+    public void propertyMustHaveDegrees() {
+        compressedGraph.degrees("actor", "favorites");
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import static com.netflix.nfgraph.spec.NFPropertySpec.COMPACT;
+import static com.netflix.nfgraph.spec.NFPropertySpec.GLOBAL;
+import static com.netflix.nfgraph.spec.NFPropertySpec.HASH;
+import static com.netflix.nfgraph.spec.NFPropertySpec.INDEXED_INVERSE;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MODEL_SPECIFIC;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MULTIPLE;
+import static com.netflix.nfgraph.spec.NFPropertySpec.SINGLE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.netflix.nfgraph.NFGraph;
+import com.netflix.nfgraph.NFGraphModelHolder;
+import com.netflix.nfgraph.build.NFBuildGraph;
+import com.netflix.nfgraph.exception.NFGraphException;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+
+public class NFCompressedGraphInverseIndexTest {
+
+    private static final int NUM_MOVIES = 1000;
+    private static final int NUM_ACTORS = 300;
+
+    private NFGraphSpec spec;
+    private NFBuildGraph buildGraph;
+    private NFCompressedGraph compressedGraph;
+    private long seed;
+
+    @Before
+    public void setUp() throws IOException {
+        spec = new NFGraphSpec(
+                new NFNodeSpec("movie",
+                        new NFPropertySpec("cast", "actor", GLOBAL | MULTIPLE | COMPACT | INDEXED_INVERSE),
+                        new NFPropertySpec("director", "actor", GLOBAL | SINGLE | INDEXED_INVERSE),
+                        new NFPropertySpec("crew", "actor", GLOBAL | MULTIPLE | HASH),
+                        new NFPropertySpec("featured", "actor", MODEL_SPECIFIC | MULTIPLE | HASH | INDEXED_INVERSE)
+                ),
+                new NFNodeSpec("actor",
+                        new NFPropertySpec("favorite", "movie", GLOBAL | SINGLE)
+                )
+        );
+
+        seed = System.currentTimeMillis();
+        Random rand = new Random(seed);
+
+        buildGraph = new NFBuildGraph(spec);
+        buildGraph.addConnectionModel("model-1");
+        buildGraph.addConnectionModel("model-2");
+
+        for(int i=0;i<NUM_MOVIES;i++) {
+            int numCast = rand.nextInt(20);
+            for(int j=0;j<numCast;j++)
+                buildGraph.addConnection("movie", i, "cast", rand.nextInt(NUM_ACTORS));
+            if(rand.nextBoolean())
+                buildGraph.addConnection("movie", i, "director", rand.nextInt(NUM_ACTORS));
+            buildGraph.addConnection("movie", i, "crew", rand.nextInt(NUM_ACTORS));
+            buildGraph.addConnection(rand.nextBoolean() ? "model-1" : "model-2", "movie", i, "featured", rand.nextInt(10));
+        }
+
+        /// actor 0 is in every movie, so its incoming connections are encoded as a bit set
+        for(int i=0;i<NUM_MOVIES;i++)
+            buildGraph.addConnection("movie", i, "cast", 0);
+
+        buildGraph.addConnection("actor", NUM_ACTORS - 1, "favorite", 0);
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        buildGraph.compress().writeTo(os);
+        compressedGraph = NFCompressedGraph.readFrom(new ByteArrayInputStream(os.toByteArray()));
+    }
+
+    @Test
+    public void incomingConnectionsMatchOutgoingConnections() {
+        for(int actor=0;actor<NUM_ACTORS;actor++) {
+            assertIncomingConnections(null, actor, "cast");
+            assertIncomingConnections(null, actor, "director");
+            assertIncomingConnections("model-1", actor, "featured");
+            assertIncomingConnections("model-2", actor, "featured");
+        }
+
+        assertEquals(NUM_MOVIES, compressedGraph.getIncomingConnectionSet("movie", 0, "cast").size());
+    }
+
+    @Test
+    public void incomingConnectionsAreRetainedThroughOffHeapSerialization() throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        compressedGraph.writeTo(os);
+        NFCompressedGraph offHeapGraph = NFCompressedGraph.readOffHeapFrom(new ByteArrayInputStream(os.toByteArray()));
+
+        for(int actor=0;actor<NUM_ACTORS;actor++) {
+            assertArrayEquals("seed: " + seed, compressedGraph.getIncomingConnectionSet("movie", actor, "cast").asArray(),
+                    offHeapGraph.getIncomingConnectionSet("movie", actor, "cast").asArray());
+        }
+
+        offHeapGraph.destroy();
+    }
+
+    @Test(expected=NFGraphException.class)
+    public void propertyMustBeIndexedInverse() {
+        compressedGraph.getIncomingConnectionSet("movie", 0, "crew");
+    }
+
+    @Test(expected=NFGraphException.class)
+    public void buildGraphPropertyMustBeIndexedInverse() {
+        buildGraph.getIncomingConnectionSet("actor", 0, "favorite");
+    }
+
+    @Test
+    public void missingReverseIndexIsReportedByName() {
+        NFCompressedGraph withoutReverseIndexes = new NFCompressedGraph(spec, new NFGraphModelHolder(), compressedGraph.getData(), 0, compressedGraph.getPointers());
+
+        try {
+            withoutReverseIndexes.getIncomingConnectionSet("movie", 0, "cast");
+            fail("NFGraphException should have been thrown");
+        } catch(NFGraphException expected) {
+            assertEquals("No reverse index was serialized for movie.cast", expected.getMessage());
+        }
+    }
+
+    private void assertIncomingConnections(String model, int actor, String property) {
+        int expected[] = incomingConnections(buildGraph, model, actor, property);
+        int actual[] = incomingConnections(compressedGraph, model, actor, property);
+        assertArrayEquals("seed: " + seed + " actor: " + actor + " property: " + property, expected, actual);
+    }
+
+    private int[] incomingConnections(NFGraph graph, String model, int actor, String property) {
+        if(model == null)
+            return graph.getIncomingConnectionSet("movie", actor, property).asArray();
+        return graph.getIncomingConnectionSet(model, "movie", actor, property).asArray();
+    }
+
+}
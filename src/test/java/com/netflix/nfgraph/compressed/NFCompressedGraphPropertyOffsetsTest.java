@@ -0,0 +1,127 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import static com.netflix.nfgraph.OrdinalIterator.NO_MORE_ORDINALS;
+import static com.netflix.nfgraph.spec.NFNodeSpec.PROPERTY_OFFSETS;
+import static com.netflix.nfgraph.spec.NFPropertySpec.COMPACT;
+import static com.netflix.nfgraph.spec.NFPropertySpec.GLOBAL;
+import static com.netflix.nfgraph.spec.NFPropertySpec.HASH;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MODEL_SPECIFIC;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MULTIPLE;
+import static com.netflix.nfgraph.spec.NFPropertySpec.SINGLE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.netflix.nfgraph.NFPropertyHandle;
+import com.netflix.nfgraph.build.NFBuildGraph;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+
+public class NFCompressedGraphPropertyOffsetsTest {
+
+    private NFCompressedGraph compressedGraph;
+
+    @Before
+    public void setUp() throws IOException {
+        NFGraphSpec spec = new NFGraphSpec(
+                new NFNodeSpec(
+                        "a", PROPERTY_OFFSETS,
+                        new NFPropertySpec("single", "b", GLOBAL | SINGLE),
+                        new NFPropertySpec("compact", "b", GLOBAL | MULTIPLE | COMPACT),
+                        new NFPropertySpec("hashed", "b", GLOBAL | MULTIPLE | HASH),
+                        new NFPropertySpec("per-model", "b", MODEL_SPECIFIC | MULTIPLE | COMPACT),
+                        new NFPropertySpec("last", "b", GLOBAL | SINGLE)
+                ),
+                new NFNodeSpec("b", PROPERTY_OFFSETS,
+                        new NFPropertySpec("only", "a", GLOBAL | SINGLE)
+                )
+        );
+
+        NFBuildGraph graph = new NFBuildGraph(spec);
+
+        graph.addConnection("a", 0, "single", 1);
+        for(int i=0;i<500;i+=3)
+            graph.addConnection("a", 0, "compact", i);
+        graph.addConnection("a", 0, "hashed", 7);
+        graph.addConnection("a", 0, "hashed", 9);
+        graph.addConnection("model-1", "a", 0, "per-model", 2);
+        graph.addConnection("model-2", "a", 0, "per-model", 3);
+        graph.addConnection("model-2", "a", 0, "per-model", 4);
+        graph.addConnection("a", 0, "last", 42);
+
+        graph.addConnection("a", 1, "last", 5);
+
+        graph.addConnection("b", 0, "only", 1);
+        graph.addConnection("b", 499, "only", 0);
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        graph.compress().writeTo(os);
+        compressedGraph = NFCompressedGraph.readFrom(new ByteArrayInputStream(os.toByteArray()));
+    }
+
+    @Test
+    public void specFlagsAreRetainedThroughSerialization() {
+        assertTrue(compressedGraph.getPropertyHandle("a", "last").getNodeSpec().hasPropertyOffsets());
+    }
+
+    @Test
+    public void retrievesEachPropertyByName() {
+        assertEquals(1, compressedGraph.getConnection("a", 0, "single"));
+        assertEquals(167, compressedGraph.getConnectionSet("a", 0, "compact").size());
+        assertArrayEquals(new int[] { 7, 9 }, sorted(compressedGraph.getConnectionSet("a", 0, "hashed").asArray()));
+        assertArrayEquals(new int[] { 2 }, compressedGraph.getConnectionSet("model-1", "a", 0, "per-model").asArray());
+        assertArrayEquals(new int[] { 3, 4 }, compressedGraph.getConnectionSet("model-2", "a", 0, "per-model").asArray());
+        assertEquals(42, compressedGraph.getConnection("a", 0, "last"));
+
+        assertEquals(-1, compressedGraph.getConnection("a", 1, "single"));
+        assertEquals(NO_MORE_ORDINALS, compressedGraph.getConnectionIterator("a", 1, "compact").nextOrdinal());
+        assertEquals(5, compressedGraph.getConnection("a", 1, "last"));
+
+        assertEquals(1, compressedGraph.getConnection("b", 0, "only"));
+        assertEquals(0, compressedGraph.getConnection("b", 499, "only"));
+    }
+
+    @Test
+    public void retrievesEachPropertyByHandle() {
+        NFPropertyHandle last = compressedGraph.getPropertyHandle("a", "last");
+        NFPropertyHandle perModel = compressedGraph.getPropertyHandle("model-2", "a", "per-model");
+        NFPropertyHandle single = compressedGraph.getPropertyHandle("a", "single");
+
+        assertEquals(42, compressedGraph.getConnection(last, 0));
+        assertEquals(5, compressedGraph.getConnection(last, 1));
+        assertArrayEquals(new int[] { 3, 4 }, compressedGraph.getConnectionSet(perModel, 0).asArray());
+        assertEquals(1, compressedGraph.getConnection(single, 0));
+    }
+
+    private int[] sorted(int arr[]) {
+        Arrays.sort(arr);
+        return arr;
+    }
+
+}
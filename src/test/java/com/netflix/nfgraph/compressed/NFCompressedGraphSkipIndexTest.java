@@ -0,0 +1,153 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import static com.netflix.nfgraph.spec.NFPropertySpec.COMPACT;
+import static com.netflix.nfgraph.spec.NFPropertySpec.GLOBAL;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MULTIPLE;
+import static com.netflix.nfgraph.spec.NFPropertySpec.SKIP_INDEXED;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.build.NFBuildGraph;
+import com.netflix.nfgraph.compressor.CompactPropertyBuilder;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+
+public class NFCompressedGraphSkipIndexTest {
+
+    private static final int NUM_MOVIES = 40;
+    private static final int NUM_USERS = 100000;
+
+    private NFBuildGraph buildGraph;
+    private NFCompressedGraph compressedGraph;
+    private long seed;
+
+    @Before
+    public void setUp() throws IOException {
+        NFGraphSpec spec = new NFGraphSpec(
+                new NFNodeSpec("movie",
+                        new NFPropertySpec("viewers", "user", GLOBAL | MULTIPLE | COMPACT | SKIP_INDEXED),
+                        new NFPropertySpec("raters", "user", GLOBAL | MULTIPLE | COMPACT)
+                ),
+                new NFNodeSpec("user")
+        );
+
+        seed = System.currentTimeMillis();
+        Random rand = new Random(seed);
+
+        buildGraph = new NFBuildGraph(spec);
+
+        for(int i=0;i<NUM_MOVIES;i++) {
+            /// every other movie has enough viewers to be skip indexed
+            int numViewers = i % 2 == 0 ? rand.nextInt(CompactPropertyBuilder.SKIP_INDEX_THRESHOLD) : CompactPropertyBuilder.SKIP_INDEX_THRESHOLD + rand.nextInt(2000);
+            /// viewers are distinct, since sets below the threshold are written as plain compact sets, duplicates and all
+            BitSet viewers = new BitSet(NUM_USERS);
+            while(viewers.cardinality() < numViewers)
+                viewers.set(rand.nextInt(NUM_USERS));
+            for(int user = viewers.nextSetBit(0); user != -1; user = viewers.nextSetBit(user + 1))
+                buildGraph.addConnection("movie", i, "viewers", user);
+            buildGraph.addConnection("movie", i, "raters", rand.nextInt(NUM_USERS));
+        }
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        buildGraph.compress().writeTo(os);
+        compressedGraph = NFCompressedGraph.readFrom(new ByteArrayInputStream(os.toByteArray()));
+    }
+
+    @Test
+    public void largeSetsAreSkipIndexed() {
+        for(int i=0;i<NUM_MOVIES;i++) {
+            OrdinalSet set = compressedGraph.getConnectionSet("movie", i, "viewers");
+            int expected[] = toArray(buildGraph.getConnectionIterator("movie", i, "viewers"));
+
+            assertEquals("seed: " + seed, i % 2 == 1 && expected.length >= CompactPropertyBuilder.SKIP_INDEX_THRESHOLD, set instanceof SkipCompactOrdinalSet);
+            assertArrayEquals("seed: " + seed, expected, set.asArray());
+            assertEquals("seed: " + seed, expected.length, set.size());
+            assertArrayEquals("seed: " + seed, toArray(buildGraph.getConnectionIterator("movie", i, "raters")), compressedGraph.getConnectionSet("movie", i, "raters").asArray());
+        }
+    }
+
+    @Test
+    public void cursorProbesSkipIndexedSets() {
+        NFCompressedGraphCursor cursor = compressedGraph.newCursor();
+
+        for(int i=1;i<NUM_MOVIES;i+=2) {
+            OrdinalSet expected = buildGraph.getConnectionSet("movie", i, "viewers");
+            cursor.position("movie", i, "viewers");
+
+            for(int user=0;user<NUM_USERS;user+=7)
+                assertEquals("seed: " + seed, expected.contains(user), cursor.contains(user));
+
+            assertArrayEquals("seed: " + seed, toArray(buildGraph.getConnectionIterator("movie", i, "viewers")), toArray(cursor));
+            assertTrue("seed: " + seed, cursor.size() >= CompactPropertyBuilder.SKIP_INDEX_THRESHOLD);
+        }
+    }
+
+    @Test
+    public void smallSetsAreWrittenExactlyAsCompactSets() {
+        NFCompressedGraph skipIndexed = compressSmallSets(GLOBAL | MULTIPLE | COMPACT | SKIP_INDEXED);
+        NFCompressedGraph compact = compressSmallSets(GLOBAL | MULTIPLE | COMPACT);
+
+        assertEquals(compact.getData().length(), skipIndexed.getData().length());
+        for(long i=0;i<compact.getData().length();i++)
+            assertEquals(compact.getData().get(i), skipIndexed.getData().get(i));
+
+        for(int i=0;i<NUM_MOVIES;i++)
+            assertEquals(compact.getPointers().getPointer("movie", i), skipIndexed.getPointers().getPointer("movie", i));
+    }
+
+    private NFCompressedGraph compressSmallSets(int viewersFlags) {
+        NFBuildGraph graph = new NFBuildGraph(new NFGraphSpec(
+                new NFNodeSpec("movie",
+                        new NFPropertySpec("viewers", "user", viewersFlags)
+                ),
+                new NFNodeSpec("user")
+        ));
+
+        for(int i=0;i<NUM_MOVIES;i++) {
+            for(int j=0;j<CompactPropertyBuilder.SKIP_INDEX_THRESHOLD - 1 - i;j++)
+                graph.addConnection("movie", i, "viewers", (j * 397 + i) % NUM_USERS);
+        }
+
+        return graph.compress();
+    }
+
+    private int[] toArray(OrdinalIterator iter) {
+        int arr[] = new int[NUM_USERS];
+        int size = 0;
+        for(int ordinal = iter.nextOrdinal(); ordinal != OrdinalIterator.NO_MORE_ORDINALS; ordinal = iter.nextOrdinal())
+            arr[size++] = ordinal;
+        return Arrays.copyOf(arr, size);
+    }
+
+}
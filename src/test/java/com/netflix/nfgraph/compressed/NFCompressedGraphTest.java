@@ -11,6 +11,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.netflix.nfgraph.NFPropertyHandle;
 import com.netflix.nfgraph.OrdinalIterator;
 import com.netflix.nfgraph.OrdinalSet;
 import com.netflix.nfgraph.build.NFBuildGraph;
@@ -21,11 +22,12 @@ import com.netflix.nfgraph.spec.NFPropertySpec;
 
 public class NFCompressedGraphTest {
 
+    private NFGraphSpec spec;
     private NFCompressedGraph compressedGraph;
     
     @Before
     public void setUp() {
-        NFGraphSpec spec = new NFGraphSpec(
+        spec = new NFGraphSpec(
                 new NFNodeSpec(
                         "a",
                         new NFPropertySpec("multiple", "b", GLOBAL | MULTIPLE),
@@ -94,6 +96,34 @@ public class NFCompressedGraphTest {
         assertEquals(NO_MORE_ORDINALS, iter.nextOrdinal());
     }
     
+    @Test
+    public void nodesWithoutConnectionsOccupyNoData() {
+        NFBuildGraph graph = new NFBuildGraph(spec);
+        NFBuildGraph graphWithPlaceholders = new NFBuildGraph(spec);
+
+        for(NFBuildGraph g : new NFBuildGraph[] { graph, graphWithPlaceholders }) {
+            g.addConnection("a", 0, "multiple", 1);
+            g.addConnection("a", 4, "single", 2);
+        }
+
+        for(int i=1;i<4;i++)
+            graphWithPlaceholders.getOrCreateNode(graphWithPlaceholders.getNodes("a"), spec.getNodeSpec("a"), i);
+
+        NFCompressedGraph compressed = graph.compress();
+        NFCompressedGraph compressedWithPlaceholders = graphWithPlaceholders.compress();
+
+        for(int i=1;i<4;i++) {
+            assertEquals(-1, compressedWithPlaceholders.getPointers().getPointer("a", i));
+            assertEquals(-1, compressedWithPlaceholders.getConnection("a", i, "single"));
+            assertEquals(0, compressedWithPlaceholders.getConnectionSet("a", i, "single").size());
+            assertEquals(0, compressedWithPlaceholders.getConnectionCount("a", i, "multiple"));
+            assertEquals(NO_MORE_ORDINALS, compressedWithPlaceholders.getConnectionIterator("a", i, "multiple").nextOrdinal());
+        }
+
+        assertEquals(compressed.getPointers().getPointer("a", 4), compressedWithPlaceholders.getPointers().getPointer("a", 4));
+        assertEquals(2, compressedWithPlaceholders.getConnection("a", 4, "single"));
+    }
+
     @Test
     public void throwsNFGraphExceptionWhenQueryingForUndefinedNodeType() {
         try {
@@ -112,4 +142,32 @@ public class NFCompressedGraphTest {
             Assert.fail("NFGraphException should have been thrown");
         } catch(NFGraphException expected) { }
     }
+
+    @Test
+    public void retrievesConnectionsUsingPropertyHandles() {
+        NFPropertyHandle multiple = compressedGraph.getPropertyHandle("a", "multiple");
+        NFPropertyHandle single = compressedGraph.getPropertyHandle("a", "single");
+
+        assertArrayEquals(new int[] { 0, 1 }, compressedGraph.getConnectionSet(multiple, 0).asArray());
+        assertEquals(0, compressedGraph.getConnection(single, 0));
+        assertEquals(-1, compressedGraph.getConnection(single, 1));
+        assertEquals(NO_MORE_ORDINALS, compressedGraph.getConnectionIterator(multiple, 1).nextOrdinal());
+    }
+
+    @Test
+    public void throwsNFGraphExceptionWhenResolvingHandleForUndefinedProperty() {
+        try {
+            compressedGraph.getPropertyHandle("a", "undefined");
+
+            Assert.fail("NFGraphException should have been thrown");
+        } catch(NFGraphException expected) { }
+    }
+
+    @Test(expected=NFGraphException.class)
+    public void throwsNFGraphExceptionWhenUsingHandleFromAnotherGraph() {
+        NFCompressedGraph otherGraph = new NFBuildGraph(spec).compress();
+        NFPropertyHandle multiple = otherGraph.getPropertyHandle("a", "multiple");
+
+        compressedGraph.getConnectionSet(multiple, 0);
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.nfgraph.compressed;
+
+import static com.netflix.nfgraph.OrdinalIterator.NO_MORE_ORDINALS;
+import static com.netflix.nfgraph.compressed.SerializedGraphs.serializedSize;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MULTIPLE;
+import static com.netflix.nfgraph.spec.NFPropertySpec.PARTITIONED;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.build.NFBuildGraph;
+import com.netflix.nfgraph.build.NFBuildGraphOrdinalSet;
+import com.netflix.nfgraph.compressor.PartitionedPropertyBuilder;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.ByteArrayBuffer;
+import com.netflix.nfgraph.util.ByteArrayReader;
+import com.netflix.nfgraph.util.ByteData;
+
+public class PartitionedSetTest extends EncodedConnectionSetTest {
+
+    @Override
+    protected ByteData generateCompressedData(OrdinalSet ordinals) {
+        ByteArrayBuffer buf = new ByteArrayBuffer();
+        PartitionedPropertyBuilder builder = new PartitionedPropertyBuilder(buf);
+
+        builder.buildProperty(ordinals);
+
+        dataLength = buf.length();
+        return buf.getData();
+    }
+
+    @Override
+    protected OrdinalSet createOrdinalSet() {
+        ByteArrayReader reader = new ByteArrayReader(data, 0, dataLength);
+        return new PartitionedOrdinalSet(reader, expectedOrdinals.size());
+    }
+
+    @Override
+    protected int maximumTotalOrdinals() {
+        return 300000;
+    }
+
+    @Test
+    public void advanceReturnsCeilingOfTarget() {
+        assertAdvanceReturnsCeilingOfTarget(1000);
+    }
+
+    @Test
+    public void eachContainerTypeRoundTrips() {
+        int ordinals[] = new int[12000];
+        int size = 0;
+
+        /// a sparse chunk, held in an array container
+        for(int i=0;i<100;i++)
+            ordinals[size++] = i * 37;
+        /// a dense, scattered chunk, held in a bitmap container
+        for(int i=0;i<6000;i++)
+            ordinals[size++] = 65536 + i * 3;
+        /// a few long runs, held in a run container
+        for(int i=0;i<5000;i++)
+            ordinals[size++] = 131072 + (i < 2500 ? i : 40000 + i);
+        ordinals[size++] = 1 << 30;
+
+        ByteArrayBuffer buf = new ByteArrayBuffer();
+        new PartitionedPropertyBuilder(buf).buildProperty(new NFBuildGraphOrdinalSet(ordinals, size));
+        OrdinalSet set = new PartitionedOrdinalSet(new ByteArrayReader(buf.getData(), 0, buf.length()), size);
+
+        int expected[] = Arrays.copyOf(ordinals, size);
+        assertArrayEquals(expected, set.asArray());
+        for(int ordinal : expected)
+            assertTrue(set.contains(ordinal));
+
+        assertFalse(set.contains(36));
+        assertFalse(set.contains(65537));
+        assertFalse(set.contains(131072 + 2500));
+        assertFalse(set.contains((1 << 30) + 1));
+        assertFalse(set.contains(-1));
+
+        PartitionedOrdinalIterator iter = (PartitionedOrdinalIterator)set.iterator();
+        assertEquals(65536, iter.advance(3700));
+        assertEquals(131072 + 42500, iter.advance(131072 + 2500));
+        assertEquals(131072 + 42501, iter.nextOrdinal());
+        assertEquals(1 << 30, iter.advance(200000));
+        assertEquals(NO_MORE_ORDINALS, iter.nextOrdinal());
+    }
+
+    @Test
+    public void clusteredSetsAreSmallerThanBitSets() throws IOException {
+        NFCompressedGraph graph = buildCountryGraph(MULTIPLE | PARTITIONED);
+        int bitSetSize = 200000 / 8;
+
+        /// the runs in country 0 take a few bytes, where an unpartitioned property writes a full bit set
+        assertTrue(serializedSize(buildCountryGraph(MULTIPLE)) - serializedSize(graph) > bitSetSize - 100);
+
+        OrdinalSet available = graph.getConnectionSet("country", 0, "available");
+        assertTrue(available instanceof PartitionedOrdinalSet);
+        assertEquals(50000, available.size());
+        assertTrue(available.contains(149999));
+        assertFalse(available.contains(99999));
+
+        NFCompressedGraphCursor cursor = graph.newCursor();
+        cursor.position("country", 1, "available");
+        assertTrue(cursor.isOrdered());
+        assertEquals(2, cursor.size());
+        assertTrue(cursor.contains(199999));
+        assertEquals(7, cursor.nextOrdinal());
+        assertEquals(199999, cursor.nextOrdinal());
+        assertEquals(NO_MORE_ORDINALS, cursor.nextOrdinal());
+    }
+
+    private NFCompressedGraph buildCountryGraph(int availableFlags) throws IOException {
+        NFGraphSpec spec = new NFGraphSpec(
+                new NFNodeSpec("country",
+                        new NFPropertySpec("available", "video", availableFlags)
+                ),
+                new NFNodeSpec("video")
+        );
+
+        NFBuildGraph buildGraph = new NFBuildGraph(spec);
+        for(int i=0;i<50000;i++)
+            buildGraph.addConnection("country", 0, "available", 100000 + i);
+        buildGraph.addConnection("country", 1, "available", 7);
+        buildGraph.addConnection("country", 1, "available", 199999);
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        buildGraph.compress().writeTo(os);
+        return NFCompressedGraph.readFrom(new ByteArrayInputStream(os.toByteArray()));
+    }
+
+}
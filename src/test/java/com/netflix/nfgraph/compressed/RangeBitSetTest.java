@@ -0,0 +1,137 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import static com.netflix.nfgraph.OrdinalIterator.NO_MORE_ORDINALS;
+import static com.netflix.nfgraph.compressed.SerializedGraphs.serializedSize;
+import static com.netflix.nfgraph.spec.NFPropertySpec.COUNTED;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MULTIPLE;
+import static com.netflix.nfgraph.spec.NFPropertySpec.RANGE_BIT_SET;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.build.NFBuildGraph;
+import com.netflix.nfgraph.compressor.BitSetPropertyBuilder;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.ByteArrayBuffer;
+import com.netflix.nfgraph.util.ByteArrayReader;
+import com.netflix.nfgraph.util.ByteData;
+
+public class RangeBitSetTest extends EncodedConnectionSetTest {
+
+    @Override
+    protected ByteData generateCompressedData(OrdinalSet ordinals) {
+        ByteArrayBuffer buf = new ByteArrayBuffer();
+        BitSetPropertyBuilder builder = new BitSetPropertyBuilder(buf);
+
+        int minOrdinal = expectedOrdinals.isEmpty() ? 0 : new TreeSet<Integer>(expectedOrdinals).first();
+        int maxOrdinal = expectedOrdinals.isEmpty() ? 0 : new TreeSet<Integer>(expectedOrdinals).last();
+
+        builder.buildRangeProperty(ordinals, minOrdinal, maxOrdinal);
+
+        dataLength = buf.length();
+        assertEquals(BitSetPropertyBuilder.rangePropertyLength(minOrdinal, maxOrdinal), dataLength);
+        return buf.getData();
+    }
+
+    @Override
+    protected OrdinalSet createOrdinalSet() {
+        ByteArrayReader reader = new ByteArrayReader(data, 0, dataLength);
+        return new RangeBitSetOrdinalSet(reader, expectedOrdinals.size());
+    }
+
+    @Override
+    protected int maximumTotalOrdinals() {
+        return 100000;
+    }
+
+    @Test
+    public void advanceReturnsCeilingOfTarget() {
+        assertAdvanceReturnsCeilingOfTarget(1000);
+    }
+
+    @Test
+    public void windowedSetsAreSmallerThanBitSets() throws IOException {
+        NFCompressedGraph graph = buildCatalogGraph(MULTIPLE | RANGE_BIT_SET);
+
+        /// the 2000 ordinals take a byte each as compact deltas, where the window takes one bit for each of 4000 ordinals
+        assertTrue(serializedSize(buildCatalogGraph(MULTIPLE | COUNTED)) - serializedSize(graph) > 1400);
+
+        OrdinalSet recent = graph.getConnectionSet("region", 0, "recent");
+        assertTrue(recent instanceof RangeBitSetOrdinalSet);
+        assertEquals(2000, recent.size());
+        assertTrue(recent.contains(996000));
+        assertTrue(recent.contains(999998));
+        assertFalse(recent.contains(996001));
+        assertFalse(recent.contains(995998));
+        assertFalse(recent.contains(0));
+        assertFalse(recent.contains(1000000));
+
+        /// a sparse set remains compact
+        assertTrue(graph.getConnectionSet("region", 1, "recent") instanceof CompactOrdinalSet);
+
+        NFCompressedGraphCursor cursor = graph.newCursor();
+        cursor.position("region", 0, "recent");
+        assertEquals(2000, cursor.size());
+        assertTrue(cursor.contains(996002));
+        assertFalse(cursor.contains(3));
+        assertEquals(996000, cursor.nextOrdinal());
+        assertEquals(996002, cursor.nextOrdinal());
+
+        OrdinalIterator copy = cursor.copy();
+        assertEquals(996000, copy.nextOrdinal());
+
+        cursor.position("region", 2, "recent");
+        assertEquals(999999, cursor.nextOrdinal());
+        assertEquals(NO_MORE_ORDINALS, cursor.nextOrdinal());
+    }
+
+    private NFCompressedGraph buildCatalogGraph(int recentFlags) throws IOException {
+        NFGraphSpec spec = new NFGraphSpec(
+                new NFNodeSpec("region",
+                        new NFPropertySpec("recent", "video", recentFlags)
+                ),
+                new NFNodeSpec("video")
+        );
+
+        NFBuildGraph buildGraph = new NFBuildGraph(spec);
+        for(int i=0;i<2000;i++) {
+            buildGraph.addConnection("region", 0, "recent", 996000 + i * 2);
+            buildGraph.addConnection("region", 2, "recent", 999999);
+        }
+        for(int i=0;i<10;i++)
+            buildGraph.addConnection("region", 1, "recent", i * 100000);
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        buildGraph.compress().writeTo(os);
+        return NFCompressedGraph.readFrom(new ByteArrayInputStream(os.toByteArray()));
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.compressed;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Serialization helpers shared by tests which compare the encoded size of graphs, or which read a graph back from its serialized form.
+ */
+final class SerializedGraphs {
+
+    private SerializedGraphs() { }
+
+    static int serializedSize(NFCompressedGraph graph) throws IOException {
+        return serialize(graph).length;
+    }
+
+    static NFCompressedGraph roundTrip(NFCompressedGraph graph) throws IOException {
+        return NFCompressedGraph.readFrom(new ByteArrayInputStream(serialize(graph)));
+    }
+
+    private static byte[] serialize(NFCompressedGraph graph) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        graph.writeTo(os);
+        return os.toByteArray();
+    }
+
+}
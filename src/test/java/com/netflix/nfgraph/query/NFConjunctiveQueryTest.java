@@ -0,0 +1,254 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.query;
+
+import static com.netflix.nfgraph.spec.NFPropertySpec.COMPACT;
+import static com.netflix.nfgraph.spec.NFPropertySpec.GLOBAL;
+import static com.netflix.nfgraph.spec.NFPropertySpec.HASH;
+import static com.netflix.nfgraph.spec.NFPropertySpec.INDEXED_INVERSE;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MULTIPLE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.build.NFBuildGraph;
+import com.netflix.nfgraph.build.NFBuildGraphOrdinalSet;
+import com.netflix.nfgraph.compressed.BitSetOrdinalSet;
+import com.netflix.nfgraph.compressed.CompactOrdinalSet;
+import com.netflix.nfgraph.compressed.GroupVarIntOrdinalSet;
+import com.netflix.nfgraph.compressed.HashSetOrdinalSet;
+import com.netflix.nfgraph.compressed.NFCompressedGraph;
+import com.netflix.nfgraph.compressor.BitSetPropertyBuilder;
+import com.netflix.nfgraph.compressor.CompactPropertyBuilder;
+import com.netflix.nfgraph.compressor.GroupVarIntPropertyBuilder;
+import com.netflix.nfgraph.compressor.HashedPropertyBuilder;
+import com.netflix.nfgraph.exception.NFGraphException;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.ByteArrayBuffer;
+import com.netflix.nfgraph.util.ByteArrayReader;
+import com.netflix.nfgraph.util.SimpleByteArray;
+import com.netflix.nfgraph.util.SortedArrayOrdinalSet;
+
+public class NFConjunctiveQueryTest {
+
+    private static final int MAX_ORDINAL = 2000;
+
+    private Random rand;
+    private long seed;
+
+    @Before
+    public void setUp() {
+        seed = System.currentTimeMillis();
+        rand = new Random(seed);
+    }
+
+    @Test
+    public void resultMatchesJavaSetIntersection() {
+        for(int i=0;i<100;i++) {
+            int numSets = rand.nextInt(4) + 1;
+            NFConjunctiveQuery query = new NFConjunctiveQuery(null);
+            TreeSet<Integer> expected = null;
+
+            for(int j=0;j<numSets;j++) {
+                int ordinals[] = randomOrdinals(rand.nextBoolean() ? 20 : 1500);
+                query.and("set " + j, encode(ordinals, rand.nextInt(5)));
+
+                TreeSet<Integer> javaSet = toJavaSet(ordinals);
+                if(expected == null)
+                    expected = javaSet;
+                else
+                    expected.retainAll(javaSet);
+            }
+
+            NFQueryPlan plan = query.plan();
+            assertArrayEquals("seed: " + seed + "\n" + plan.explain(), toArray(expected), plan.execute().asArray());
+        }
+    }
+
+    @Test
+    public void smallestSetDrivesAndCompactSetsAreSeeked() {
+        NFQueryPlan plan = new NFConjunctiveQuery(null)
+                .and("large hashed", encode(randomOrdinals(1000), 1))
+                .and("large compact", encode(randomOrdinals(1000), 0))
+                .and("small compact", encode(randomOrdinals(5), 0))
+                .and("bit set", encode(randomOrdinals(1500), 2))
+                .plan();
+
+        String lines[] = plan.explain().split("\n");
+
+        assertEquals(4, lines.length);
+        assertTrue(lines[0], lines[0].startsWith("DRIVE   small compact"));
+        assertTrue(lines[1], lines[1].startsWith("SEEK    large compact"));
+        assertTrue(lines[2], lines[2].startsWith("PROBE   ") && lines[2].contains("O(1)"));
+        assertTrue(lines[3], lines[3].startsWith("PROBE   ") && lines[3].contains("O(1)"));
+    }
+
+    @Test
+    public void bitSetsAreCombinedByWord() {
+        NFQueryPlan plan = new NFConjunctiveQuery(null)
+                .and("a", encode(new int[] { 1, 2, 3, 500 }, 2))
+                .and("b", encode(new int[] { 2, 3, 4, 500 }, 2))
+                .plan();
+
+        assertTrue(plan.explain().startsWith("AND     a"));
+        assertArrayEquals(new int[] { 2, 3, 500 }, plan.execute().asArray());
+    }
+
+    @Test
+    public void emptySetShortCircuits() {
+        NFQueryPlan plan = new NFConjunctiveQuery(null)
+                .and("a", encode(randomOrdinals(100), 0))
+                .and("nothing", OrdinalSet.EMPTY_SET)
+                .plan();
+
+        assertTrue(plan.explain().startsWith("EMPTY   nothing"));
+        assertEquals(0, plan.execute().size());
+    }
+
+    @Test
+    public void zeroEstimateDrivesWithoutBeingDecoded() {
+        OrdinalSet uncountedEmpty = new CompactOrdinalSet(new ByteArrayReader(new SimpleByteArray(new byte[0]), 0, 0));
+
+        NFQueryPlan plan = new NFConjunctiveQuery(null)
+                .and("a", encode(randomOrdinals(100), 1))
+                .and("maybe empty", uncountedEmpty)
+                .plan();
+
+        assertTrue(plan.explain().startsWith("DRIVE   maybe empty (compact, ~0 ordinals"));
+        assertEquals(0, plan.execute().size());
+    }
+
+    @Test
+    public void groupVarIntSetsAreClassifiedByHeaderCount() {
+        int everyOtherOrdinal[] = new int[MAX_ORDINAL / 2];
+        for(int i=0;i<everyOtherOrdinal.length;i++)
+            everyOtherOrdinal[i] = i * 2;
+
+        NFQueryPlan plan = new NFConjunctiveQuery(null)
+                .and("driver", encode(new int[] { 1, 2, 3 }, 3))
+                .and("one group", encodeGroupVarInt(new int[] { 1, 3, 5, 7 }))
+                .and("many groups", encodeGroupVarInt(everyOtherOrdinal))
+                .plan();
+
+        String lines[] = plan.explain().split("\n");
+
+        assertEquals(3, lines.length);
+        assertTrue(lines[1], lines[1].startsWith("SEEK    many groups (group varint, ") && lines[1].contains("O(n)"));
+        assertTrue(lines[2], lines[2].startsWith("PROBE   one group (group varint, 4 ordinals, O(1) contains)"));
+    }
+
+    @Test(expected=NFGraphException.class)
+    public void queryRequiresASet() {
+        new NFConjunctiveQuery(null).plan();
+    }
+
+    @Test
+    public void connectionsFromGraph() {
+        NFGraphSpec spec = new NFGraphSpec(
+                new NFNodeSpec("movie",
+                        new NFPropertySpec("actors", "actor", GLOBAL | MULTIPLE | COMPACT | INDEXED_INVERSE),
+                        new NFPropertySpec("genres", "genre", GLOBAL | MULTIPLE | HASH | INDEXED_INVERSE)
+                ),
+                new NFNodeSpec("actor"),
+                new NFNodeSpec("genre")
+        );
+
+        NFBuildGraph buildGraph = new NFBuildGraph(spec);
+        buildGraph.addConnection("movie", 0, "actors", 1);
+        buildGraph.addConnection("movie", 1, "actors", 1);
+        buildGraph.addConnection("movie", 2, "actors", 1);
+        buildGraph.addConnection("movie", 0, "genres", 3);
+        buildGraph.addConnection("movie", 2, "genres", 3);
+        buildGraph.addConnection("movie", 2, "actors", 2);
+        NFCompressedGraph graph = buildGraph.compress();
+
+        OrdinalSet movies = new NFConjunctiveQuery(graph)
+                .connectedTo("movie", 1, "actors")
+                .connectedTo("movie", 3, "genres")
+                .execute();
+
+        assertArrayEquals(new int[] { 0, 2 }, movies.asArray());
+        assertArrayEquals(new int[] { 1, 2 }, new NFConjunctiveQuery(graph).connectedFrom("movie", 2, "actors").execute().asArray());
+    }
+
+    private OrdinalSet encode(int ordinals[], int encoding) {
+        OrdinalSet buildSet = new NFBuildGraphOrdinalSet(ordinals, ordinals.length);
+        ByteArrayBuffer buf = new ByteArrayBuffer();
+
+        if(ordinals.length == 0)
+            return OrdinalSet.EMPTY_SET;
+
+        switch(encoding) {
+        case 0:
+            new CompactPropertyBuilder(buf).buildProperty(buildSet);
+            return new CompactOrdinalSet(new ByteArrayReader(buf.getData(), 0, buf.length()));
+        case 1:
+            new HashedPropertyBuilder(buf).buildProperty(buildSet);
+            return new HashSetOrdinalSet(new ByteArrayReader(buf.getData(), 0, buf.length()));
+        case 2:
+            new BitSetPropertyBuilder(buf).buildProperty(buildSet, MAX_ORDINAL);
+            return new BitSetOrdinalSet(new ByteArrayReader(buf.getData(), 0, buf.length()));
+        case 3:
+            int sorted[] = toArray(toJavaSet(ordinals));
+            return new SortedArrayOrdinalSet(sorted, sorted.length);
+        default:
+            return buildSet;
+        }
+    }
+
+    private OrdinalSet encodeGroupVarInt(int ordinals[]) {
+        ByteArrayBuffer buf = new ByteArrayBuffer();
+        new GroupVarIntPropertyBuilder(buf).buildProperty(new NFBuildGraphOrdinalSet(ordinals, ordinals.length));
+        return new GroupVarIntOrdinalSet(new ByteArrayReader(buf.getData(), 0, buf.length()), ordinals.length);
+    }
+
+    private int[] randomOrdinals(int maxSize) {
+        TreeSet<Integer> ordinals = new TreeSet<Integer>();
+        int numOrdinals = rand.nextInt(maxSize) + 1;
+
+        while(ordinals.size() < numOrdinals)
+            ordinals.add(rand.nextInt(MAX_ORDINAL));
+
+        return toArray(ordinals);
+    }
+
+    private TreeSet<Integer> toJavaSet(int ordinals[]) {
+        TreeSet<Integer> set = new TreeSet<Integer>();
+        for(int ordinal : ordinals)
+            set.add(ordinal);
+        return set;
+    }
+
+    private int[] toArray(TreeSet<Integer> set) {
+        int arr[] = new int[set.size()];
+        int i = 0;
+        for(Integer ordinal : set)
+            arr[i++] = ordinal;
+        return arr;
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.query;
+
+import static com.netflix.nfgraph.spec.NFPropertySpec.COMPACT;
+import static com.netflix.nfgraph.spec.NFPropertySpec.GLOBAL;
+import static com.netflix.nfgraph.spec.NFPropertySpec.HASH;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MULTIPLE;
+import static com.netflix.nfgraph.spec.NFPropertySpec.SINGLE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.OrdinalSet;
+import com.netflix.nfgraph.build.NFBuildGraph;
+import com.netflix.nfgraph.compressed.NFCompressedGraph;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+import com.netflix.nfgraph.util.SortedArrayOrdinalSet;
+
+public class NFGraphTraversalTest {
+
+    private static final int NUM_MOVIES = 2000;
+    private static final int NUM_ACTORS = 800;
+    private static final int NUM_GENRES = 30;
+
+    private NFCompressedGraph graph;
+    private ForkJoinPool pool;
+    private Random rand;
+    private long seed;
+
+    @Before
+    public void setUp() {
+        NFGraphSpec spec = new NFGraphSpec(
+                new NFNodeSpec("movie",
+                        new NFPropertySpec("actors", "actor", GLOBAL | MULTIPLE | COMPACT),
+                        new NFPropertySpec("genres", "genre", GLOBAL | MULTIPLE | HASH)
+                ),
+                new NFNodeSpec("actor",
+                        new NFPropertySpec("movies", "movie", GLOBAL | MULTIPLE | COMPACT),
+                        new NFPropertySpec("agent", "actor", GLOBAL | SINGLE)
+                ),
+                new NFNodeSpec("genre")
+        );
+
+        seed = System.currentTimeMillis();
+        rand = new Random(seed);
+
+        NFBuildGraph buildGraph = new NFBuildGraph(spec);
+
+        for(int i=0;i<NUM_MOVIES;i++) {
+            int numActors = rand.nextInt(8);
+            for(int j=0;j<numActors;j++) {
+                int actor = rand.nextInt(NUM_ACTORS);
+                buildGraph.addConnection("movie", i, "actors", actor);
+                buildGraph.addConnection("actor", actor, "movies", i);
+            }
+            buildGraph.addConnection("movie", i, "genres", rand.nextInt(NUM_GENRES));
+        }
+
+        for(int i=0;i<NUM_ACTORS;i+=2)
+            buildGraph.addConnection("actor", i, "agent", rand.nextInt(NUM_ACTORS));
+
+        graph = buildGraph.compress();
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void expansionMatchesSequentialBreadthFirstSearch() {
+        NFGraphTraversal traversal = new NFGraphTraversal(graph, pool, 16);
+
+        for(int i=0;i<10;i++) {
+            OrdinalSet movies = randomSet(rand.nextInt(500), NUM_MOVIES);
+
+            assertExpansion(traversal, movies, "actors");
+            assertExpansion(traversal, movies, "actors", "movies");
+            assertExpansion(traversal, movies, "actors", "movies", "genres");
+            assertExpansion(traversal, movies, "actors", "agent", "agent", "movies");
+        }
+    }
+
+    @Test
+    public void emptyPropertySequenceReturnsDistinctFrontier() {
+        NFGraphTraversal traversal = new NFGraphTraversal(graph);
+        OrdinalSet frontier = new SortedArrayOrdinalSet(new int[] { 3, 3, 7, NUM_MOVIES + 5 }, 4);
+
+        assertArrayEquals(new int[] { 3, 7 }, traversal.expand("movie", frontier).asArray());
+    }
+
+    @Test
+    public void emptyFrontierExpandsToEmptySet() {
+        NFGraphTraversal traversal = new NFGraphTraversal(graph, pool);
+
+        assertEquals(0, traversal.expand("movie", OrdinalSet.EMPTY_SET, "actors", "movies").size());
+    }
+
+    private void assertExpansion(NFGraphTraversal traversal, OrdinalSet frontier, String... propertyNames) {
+        int expected[] = sequentialExpansion(frontier, propertyNames);
+        assertArrayEquals("seed: " + seed, expected, traversal.expand("movie", frontier, propertyNames).asArray());
+    }
+
+    private int[] sequentialExpansion(OrdinalSet frontier, String... propertyNames) {
+        String nodeType = "movie";
+        Map<String, TreeSet<Integer>> visited = new HashMap<String, TreeSet<Integer>>();
+        TreeSet<Integer> current = toJavaSet(frontier);
+        visited.put(nodeType, new TreeSet<Integer>(current));
+
+        for(String propertyName : propertyNames) {
+            String toNodeType = graph.getPropertyHandle(nodeType, propertyName).getPropertySpec().getToNodeType();
+            if(!visited.containsKey(toNodeType))
+                visited.put(toNodeType, new TreeSet<Integer>());
+
+            TreeSet<Integer> next = new TreeSet<Integer>();
+            for(Integer ordinal : current) {
+                OrdinalIterator iter = graph.getConnectionIterator(nodeType, ordinal, propertyName);
+                for(int connection = iter.nextOrdinal(); connection != OrdinalIterator.NO_MORE_ORDINALS; connection = iter.nextOrdinal()) {
+                    if(connection >= 0 && visited.get(toNodeType).add(connection))
+                        next.add(connection);
+                }
+            }
+
+            nodeType = toNodeType;
+            current = next;
+        }
+
+        int arr[] = new int[current.size()];
+        int i = 0;
+        for(Integer ordinal : current)
+            arr[i++] = ordinal;
+        return arr;
+    }
+
+    private OrdinalSet randomSet(int size, int maxOrdinal) {
+        TreeSet<Integer> set = new TreeSet<Integer>();
+        while(set.size() < size)
+            set.add(rand.nextInt(maxOrdinal));
+
+        int arr[] = new int[set.size()];
+        int i = 0;
+        for(Integer ordinal : set)
+            arr[i++] = ordinal;
+        return new SortedArrayOrdinalSet(arr, arr.length);
+    }
+
+    private TreeSet<Integer> toJavaSet(OrdinalSet set) {
+        TreeSet<Integer> javaSet = new TreeSet<Integer>();
+        OrdinalIterator iter = set.iterator();
+        for(int ordinal = iter.nextOrdinal(); ordinal != OrdinalIterator.NO_MORE_ORDINALS; ordinal = iter.nextOrdinal())
+            javaSet.add(ordinal);
+        return javaSet;
+    }
+
+}
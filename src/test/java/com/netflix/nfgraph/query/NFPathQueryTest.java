@@ -0,0 +1,180 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.query;
+
+import static com.netflix.nfgraph.OrdinalIterator.NO_MORE_ORDINALS;
+import static com.netflix.nfgraph.query.NFConnectionPredicate.contains;
+import static com.netflix.nfgraph.query.NFConnectionPredicate.isNotEmpty;
+import static com.netflix.nfgraph.spec.NFPropertySpec.COMPACT;
+import static com.netflix.nfgraph.spec.NFPropertySpec.GLOBAL;
+import static com.netflix.nfgraph.spec.NFPropertySpec.HASH;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MODEL_SPECIFIC;
+import static com.netflix.nfgraph.spec.NFPropertySpec.MULTIPLE;
+import static com.netflix.nfgraph.spec.NFPropertySpec.SINGLE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.netflix.nfgraph.OrdinalIterator;
+import com.netflix.nfgraph.build.NFBuildGraph;
+import com.netflix.nfgraph.compressed.NFCompressedGraph;
+import com.netflix.nfgraph.exception.NFGraphException;
+import com.netflix.nfgraph.spec.NFGraphSpec;
+import com.netflix.nfgraph.spec.NFNodeSpec;
+import com.netflix.nfgraph.spec.NFPropertySpec;
+
+public class NFPathQueryTest {
+
+    private static final int NUM_MOVIES = 500;
+    private static final int NUM_ACTORS = 200;
+    private static final int NUM_GENRES = 10;
+
+    private NFCompressedGraph graph;
+    private long seed;
+
+    @Before
+    public void setUp() {
+        NFGraphSpec spec = new NFGraphSpec(
+                new NFNodeSpec("movie",
+                        new NFPropertySpec("actors", "actor", GLOBAL | MULTIPLE | COMPACT),
+                        new NFPropertySpec("genres", "genre", GLOBAL | MULTIPLE | HASH),
+                        new NFPropertySpec("sequel", "movie", MODEL_SPECIFIC | SINGLE)
+                ),
+                new NFNodeSpec("actor",
+                        new NFPropertySpec("movies", "movie", GLOBAL | MULTIPLE | COMPACT)
+                ),
+                new NFNodeSpec("genre")
+        );
+
+        seed = System.currentTimeMillis();
+        Random rand = new Random(seed);
+
+        NFBuildGraph buildGraph = new NFBuildGraph(spec);
+
+        for(int i=0;i<NUM_MOVIES;i++) {
+            int numActors = rand.nextInt(6);
+            for(int j=0;j<numActors;j++) {
+                int actor = rand.nextInt(NUM_ACTORS);
+                buildGraph.addConnection("movie", i, "actors", actor);
+                buildGraph.addConnection("actor", actor, "movies", i);
+            }
+            int numGenres = rand.nextInt(3);
+            for(int j=0;j<numGenres;j++)
+                buildGraph.addConnection("movie", i, "genres", rand.nextInt(NUM_GENRES));
+            if(i % 7 == 0)
+                buildGraph.addConnection("model-1", "movie", i, "sequel", (i + 1) % NUM_MOVIES);
+        }
+
+        graph = buildGraph.compress();
+    }
+
+    @Test
+    public void pathMatchesNestedIteration() {
+        for(int movie=0;movie<NUM_MOVIES;movie+=13) {
+            for(int genre=0;genre<NUM_GENRES;genre++) {
+                List<Integer> expected = new ArrayList<Integer>();
+
+                for(int actor : toList(graph.getConnectionIterator("movie", movie, "actors"))) {
+                    for(int relatedMovie : toList(graph.getConnectionIterator("actor", actor, "movies"))) {
+                        if(graph.getConnectionSet("movie", relatedMovie, "genres").contains(genre))
+                            expected.add(relatedMovie);
+                    }
+                }
+
+                NFPathQuery query = NFPathQuery.from(graph, "movie", movie).out("actors").out("movies").where("genres", contains(genre));
+
+                assertEquals("seed: " + seed, expected, toList(query.iterator()));
+                assertEquals("seed: " + seed, expected.size(), query.count());
+
+                query.distinct();
+
+                assertEquals("seed: " + seed, new ArrayList<Integer>(new TreeSet<Integer>(expected)), sorted(toList(query.iterator())));
+                assertArrayEquals("seed: " + seed, toArray(new TreeSet<Integer>(expected)), query.toOrdinalSet().asArray());
+            }
+        }
+    }
+
+    @Test
+    public void filtersAndDistinctApplyToSourceNodes() {
+        NFPathQuery query = NFPathQuery.from(graph, "movie", 5, 3, 5, 1).distinct().where("actors", isNotEmpty());
+
+        List<Integer> expected = new ArrayList<Integer>();
+        for(int movie : new int[] { 1, 3, 5 }) {
+            if(graph.getConnectionSet("movie", movie, "actors").size() > 0)
+                expected.add(movie);
+        }
+
+        assertEquals(expected, toList(query.iterator()));
+        assertEquals("movie", query.getNodeType());
+    }
+
+    @Test
+    public void followsConnectionModel() {
+        NFPathQuery query = NFPathQuery.from(graph, "model-1", "movie", NFPathQuery.from(graph, "movie", 0, 7, 8).toOrdinalSet()).out("sequel");
+
+        assertEquals("actor", NFPathQuery.from(graph, "movie", 0).out("actors").getNodeType());
+        assertArrayEquals(new int[] { 1, 8 }, query.toOrdinalSet().asArray());
+        assertEquals(0, NFPathQuery.from(graph, "movie", 0, 7).out("sequel").count());
+    }
+
+    @Test
+    public void iteratorsAreIndependentAndResettable() {
+        NFPathQuery query = NFPathQuery.from(graph, "movie", 0, 1, 2, 3).out("actors").distinct();
+        OrdinalIterator iter = query.iterator();
+        List<Integer> expected = toList(query.iterator());
+
+        query.out("movies");
+
+        assertEquals(expected, toList(iter));
+        iter.reset();
+        assertEquals(expected, toList(iter));
+        assertEquals(expected, toList(iter.copy()));
+    }
+
+    @Test(expected=NFGraphException.class)
+    public void unknownPropertyFailsImmediately() {
+        NFPathQuery.from(graph, "movie", 0).out("directors");
+    }
+
+    private List<Integer> toList(OrdinalIterator iter) {
+        List<Integer> list = new ArrayList<Integer>();
+        for(int ordinal = iter.nextOrdinal(); ordinal != NO_MORE_ORDINALS; ordinal = iter.nextOrdinal())
+            list.add(ordinal);
+        return list;
+    }
+
+    private List<Integer> sorted(List<Integer> list) {
+        return new ArrayList<Integer>(new TreeSet<Integer>(list));
+    }
+
+    private int[] toArray(TreeSet<Integer> set) {
+        int arr[] = new int[set.size()];
+        int i = 0;
+        for(Integer ordinal : set)
+            arr[i++] = ordinal;
+        return arr;
+    }
+
+}
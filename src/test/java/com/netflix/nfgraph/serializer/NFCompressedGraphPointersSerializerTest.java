@@ -18,6 +18,7 @@ package com.netflix.nfgraph.serializer;
 
 import com.netflix.nfgraph.compressed.NFCompressedGraphIntPointers;
 import com.netflix.nfgraph.compressed.NFCompressedGraphLongPointers;
+import com.netflix.nfgraph.compressed.NFCompressedGraphPackedPointers;
 import com.netflix.nfgraph.compressed.NFCompressedGraphPointers;
 
 import java.io.ByteArrayInputStream;
@@ -118,4 +119,28 @@ public class NFCompressedGraphPointersSerializerTest {
     }
     
 
+    @Test
+    public void packedPointersAreBuiltFromEitherRepresentation() throws IOException {
+        long ptrs[] = new long[] { 0, -1, 10, 20, -1, -1, 5000, 5001 };
+
+        for(long dataLength : new long[] { 6000, (long)Integer.MAX_VALUE * 3 }) {
+            NFCompressedGraphLongPointers pointers = new NFCompressedGraphLongPointers();
+            pointers.addPointers("Test", ptrs);
+            pointers.addPointers("Empty", new long[0]);
+
+            NFCompressedGraphPointersSerializer serializer = new NFCompressedGraphPointersSerializer(pointers, dataLength);
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            serializer.serializePointers(new DataOutputStream(baos));
+
+            NFCompressedGraphPointersDeserializer deserializer = new NFCompressedGraphPointersDeserializer(true);
+            NFCompressedGraphPointers deserialized = deserializer.deserializePointers(new DataInputStream(new ByteArrayInputStream(baos.toByteArray())));
+
+            Assert.assertTrue(deserialized instanceof NFCompressedGraphPackedPointers);
+            for(int i=0;i<ptrs.length;i++)
+                Assert.assertEquals(ptrs[i], deserialized.getPointer("Test", i));
+            Assert.assertEquals(-1, deserialized.getPointer(deserialized.getNodeTypeIndex("Test"), ptrs.length));
+            Assert.assertEquals(0, deserialized.numPointers("Empty"));
+        }
+    }
+
 }
@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BitPackedArrayTest {
+
+    @Test
+    public void valuesOfEveryWidthAreRetained() {
+        long seed = System.currentTimeMillis();
+        Random rand = new Random(seed);
+
+        for(int bitsPerElement=1;bitsPerElement<=64;bitsPerElement++) {
+            int numElements = rand.nextInt(200) + 1;
+            long values[] = new long[numElements];
+            BitPackedArray arr = new BitPackedArray(bitsPerElement, numElements);
+
+            for(int i=0;i<numElements;i++) {
+                values[i] = bitsPerElement == 64 ? rand.nextLong() : rand.nextLong() & ((1L << bitsPerElement) - 1);
+                arr.set(i, values[i]);
+            }
+
+            BitPackedArray copy = new BitPackedArray(bitsPerElement, arr.getWords().clone());
+
+            for(int i=0;i<numElements;i++) {
+                assertEquals("seed: " + seed + " bits: " + bitsPerElement, values[i], arr.get(i));
+                assertEquals("seed: " + seed + " bits: " + bitsPerElement, values[i], copy.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void bitsRequired() {
+        assertEquals(1, BitPackedArray.bitsRequired(0));
+        assertEquals(1, BitPackedArray.bitsRequired(1));
+        assertEquals(2, BitPackedArray.bitsRequired(2));
+        assertEquals(8, BitPackedArray.bitsRequired(255));
+        assertEquals(9, BitPackedArray.bitsRequired(256));
+        assertEquals(64, BitPackedArray.bitsRequired(-1L));
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class PackedPointerArrayTest {
+
+    @Test
+    public void pointersAreRetained() {
+        long seed = System.currentTimeMillis();
+        Random rand = new Random(seed);
+
+        long pointers[] = new long[rand.nextInt(10000) + 1];
+        long pointer = (long)Integer.MAX_VALUE * rand.nextInt(4);
+        ByteArrayBuffer deltas = new ByteArrayBuffer();
+        long previous = 0;
+
+        for(int i=0;i<pointers.length;i++) {
+            if(rand.nextInt(5) == 0) {
+                pointers[i] = -1;
+                deltas.writeByte((byte)0x80);
+            } else {
+                pointer += rand.nextInt(10) == 0 ? rand.nextInt(100000) : rand.nextInt(50);
+                pointers[i] = pointer;
+                deltas.writeVLong(pointer - previous);
+                previous = pointer;
+            }
+        }
+
+        PackedPointerArray packed = PackedPointerArray.pack(pointers);
+        PackedPointerArray unpacked = PackedPointerArray.unpackDeltas(new ByteArrayReader(deltas.getData(), 0, deltas.length()), pointers.length);
+
+        for(int i=0;i<pointers.length;i++) {
+            assertEquals("seed: " + seed, pointers[i], packed.get(i));
+            assertEquals("seed: " + seed, pointers[i], unpacked.get(i));
+        }
+
+        assertArrayEquals("seed: " + seed, pointers, unpacked.toArray());
+        assertEquals(-1, packed.get(pointers.length));
+    }
+
+    @Test
+    public void offsetsAreNarrowerThanPointers() {
+        long pointers[] = new long[100000];
+        for(int i=0;i<pointers.length;i++)
+            pointers[i] = (long)Integer.MAX_VALUE * 3 + i * 40L;
+
+        PackedPointerArray packed = PackedPointerArray.pack(pointers);
+
+        assertEquals(pointers[99999], packed.get(99999));
+        /// each offset spans at most 63 nodes of 40 bytes, so fits in 12 bits
+        assertTrue(packed.getBitsPerPointer() <= 12);
+    }
+
+    @Test
+    public void sparsePointersArePackedByRank() {
+        long pointers[] = new long[100000];
+        ByteArrayBuffer deltas = new ByteArrayBuffer();
+        long previous = 0;
+
+        for(int i=0;i<pointers.length;i++) {
+            if(i % 50 == 7) {
+                pointers[i] = i * 3L;
+                deltas.writeVLong(pointers[i] - previous);
+                previous = pointers[i];
+            } else {
+                pointers[i] = -1;
+                deltas.writeByte((byte)0x80);
+            }
+        }
+
+        PackedPointerArray packed = PackedPointerArray.pack(pointers);
+        PackedPointerArray unpacked = PackedPointerArray.unpackDeltas(new ByteArrayReader(deltas.getData(), 0, deltas.length()), pointers.length);
+
+        assertTrue(packed.isSparse());
+        assertTrue(unpacked.isSparse());
+        for(int i=0;i<pointers.length;i++) {
+            assertEquals(pointers[i], packed.get(i));
+            assertEquals(pointers[i], unpacked.get(i));
+        }
+        assertArrayEquals(pointers, packed.toArray());
+
+        assertFalse(PackedPointerArray.pack(new long[] { 1, 2, -1, 3 }).isSparse());
+    }
+
+}
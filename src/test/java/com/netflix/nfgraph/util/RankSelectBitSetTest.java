@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+package com.netflix.nfgraph.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class RankSelectBitSetTest {
+
+    @Test
+    public void rankAndSelectAreInverse() {
+        long seed = System.currentTimeMillis();
+        Random rand = new Random(seed);
+
+        int numBits = rand.nextInt(10000) + 1;
+        long words[] = new long[(numBits + 63) >>> 6];
+        boolean expected[] = new boolean[numBits];
+
+        /// alternate dense and empty stretches, so that some words are empty
+        for(int i=0;i<numBits;i++) {
+            if(((i >>> 8) & 1) == 0 && rand.nextInt(3) == 0) {
+                expected[i] = true;
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+
+        RankSelectBitSet bitSet = new RankSelectBitSet(words);
+
+        int rank = 0;
+        for(int i=0;i<numBits;i++) {
+            assertEquals("seed: " + seed, expected[i], bitSet.get(i));
+            assertEquals("seed: " + seed, rank, bitSet.rank(i));
+            if(expected[i]) {
+                assertEquals("seed: " + seed, i, bitSet.select(rank));
+                rank++;
+            }
+        }
+
+        assertEquals("seed: " + seed, rank, bitSet.cardinality());
+        assertEquals(rank, bitSet.rank(numBits + 1000));
+        assertEquals(-1, bitSet.select(rank));
+    }
+
+}